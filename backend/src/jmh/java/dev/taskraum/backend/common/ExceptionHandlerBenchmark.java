@@ -0,0 +1,66 @@
+package dev.taskraum.backend.common;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Error mapping in GlobalExceptionHandler. The {@code throw*} variants include building the
+ * exception (stack trace fill-in), which is what a failing request really pays.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExceptionHandlerBenchmark {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    private final IllegalArgumentException notFound = new IllegalArgumentException("PROJECT_NOT_FOUND");
+    private final IllegalArgumentException badRequest = new IllegalArgumentException("INVALID_MOVE");
+    private final IllegalStateException conflict = new IllegalStateException("PROJECT_ARCHIVED_READ_ONLY");
+    private final ResponseStatusException rse = new ResponseStatusException(HttpStatus.BAD_REQUEST, "INVALID_SORT");
+
+    @Benchmark
+    public ResponseEntity<ApiError> notFound() {
+        return handler.handleIllegalArgument(notFound);
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiError> badRequest() {
+        return handler.handleIllegalArgument(badRequest);
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiError> conflict() {
+        return handler.handleIllegalState(conflict);
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiError> responseStatus() {
+        return handler.handleRse(rse);
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiError> throwNotFound() {
+        return handler.handleIllegalArgument(new IllegalArgumentException("TASK_NOT_FOUND"));
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiError> throwResponseStatus() {
+        return handler.handleRse(new ResponseStatusException(HttpStatus.BAD_REQUEST, "INVALID_SORT"));
+    }
+}
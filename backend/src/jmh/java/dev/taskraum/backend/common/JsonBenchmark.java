@@ -0,0 +1,91 @@
+package dev.taskraum.backend.common;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.taskraum.backend.common.enums.ProjectStatus;
+import dev.taskraum.backend.common.enums.TaskStatus;
+import dev.taskraum.backend.projects.dto.ProjectResponse;
+import dev.taskraum.backend.tasks.dto.TaskResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PagedModel;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Response bodies as the message converters write them: a project page (PagedModel, VIA_DTO),
+ * a keyset page and a task column. The mapper is built the way Boot builds it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonBenchmark {
+
+    @Param({"20", "100"})
+    public int size;
+
+    private ObjectMapper mapper;
+    private PagedModel<ProjectResponse> projectPage;
+    private CursorPage<ProjectResponse> projectCursorPage;
+    private List<TaskResponse> taskColumn;
+
+    @Setup
+    public void setUp() {
+        mapper = Jackson2ObjectMapperBuilder.json().build();
+        Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+        List<ProjectResponse> projects = new ArrayList<>(size);
+        List<TaskResponse> tasks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            projects.add(ProjectResponse.builder()
+                    .id(String.format("%024x", i)).ownerId("u1")
+                    .title("Project " + i).description("Project description " + i)
+                    .status(ProjectStatus.ACTIVE).version(i)
+                    .createdAt(now.plusSeconds(i)).updatedAt(now.plusSeconds(2L * i))
+                    .build());
+            tasks.add(TaskResponse.builder()
+                    .id(String.format("%024x", i)).projectId("p1")
+                    .title("Task " + i).description("Task description " + i)
+                    .status(TaskStatus.TODO).rank(Integer.toString(i, 36))
+                    .createdAt(now.plusSeconds(i)).updatedAt(now.plusSeconds(2L * i))
+                    .build());
+        }
+        var pageable = PageRequest.of(0, size, Sort.by(Sort.Direction.DESC, "updatedAt"));
+        projectPage = new PagedModel<>(new PageImpl<>(projects, pageable, 10L * size));
+        projectCursorPage = new CursorPage<>(projects, "eyJ1IjoiMjAyNS0wMS0wMVQwMDowMDowMFoiLCJpIjoiMDAwIn0");
+        taskColumn = tasks;
+    }
+
+    @Benchmark
+    public byte[] projectPage() throws Exception {
+        return mapper.writeValueAsBytes(projectPage);
+    }
+
+    @Benchmark
+    public byte[] projectCursorPage() throws Exception {
+        return mapper.writeValueAsBytes(projectCursorPage);
+    }
+
+    @Benchmark
+    public byte[] taskColumn() throws Exception {
+        return mapper.writeValueAsBytes(taskColumn);
+    }
+}
@@ -0,0 +1,74 @@
+package dev.taskraum.backend.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.Cookie;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The per-request auth path: cookie lookup, principal from AccessTokenCache or a full JWT parse,
+ * SecurityContext population. {@code cache=miss} is what every request cost before the cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthFilterBenchmark {
+
+    @Param({"hit", "miss"})
+    public String cache;
+
+    // A few unrelated cookies in front, like a real browser sends
+    @Param({"1", "5"})
+    public int cookies;
+
+    private JwtAuthFilter filter;
+    private MockHttpServletRequest request;
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+    private final FilterChain chain = (req, res) -> { };
+
+    @Setup
+    public void setUp() {
+        var jwt = new JwtUtil(JwtBenchmark.SECRET, 15, 10);
+        AccessTokenCache tokens = "hit".equals(cache)
+                ? new AccessTokenCache(10_000)
+                : new AccessTokenCache(10_000) {
+                    @Override public UserPrincipal get(String token) { return null; }
+                    @Override public void put(String token, UserPrincipal principal, Date expiration) { }
+                };
+        filter = new JwtAuthFilter(jwt, tokens);
+
+        Cookie[] jar = new Cookie[cookies];
+        for (int i = 0; i < cookies - 1; i++) jar[i] = new Cookie("pref" + i, "v" + i);
+        jar[cookies - 1] = new Cookie("access", jwt.createAccessToken("64f0c0ffee0000000000beef", "user@example.com"));
+        request = new MockHttpServletRequest("GET", "/api/projects");
+        request.setCookies(jar);
+    }
+
+    @Benchmark
+    public Authentication authenticate() throws Exception {
+        // doFilterInternal: doFilter would skip the reused request as already filtered
+        filter.doFilterInternal(request, response, chain);
+        var auth = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return auth;
+    }
+}
@@ -0,0 +1,45 @@
+package dev.taskraum.backend.security;
+
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/** Token issue (login/refresh) and verification (every request on a token-cache miss). */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+    static final String SECRET = "PXogpzVEHDFTbJhNm3hZAG2hLj/9HtzdQK8fHaOnpKgDgyhMBwLkkBg/V6G7u0fG";
+
+    private JwtUtil jwt;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwt = new JwtUtil(SECRET, 15, 10);
+        token = jwt.createAccessToken("64f0c0ffee0000000000beef", "user@example.com");
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return jwt.createAccessToken("64f0c0ffee0000000000beef", "user@example.com");
+    }
+
+    @Benchmark
+    public Claims parse() {
+        return jwt.parse(token);
+    }
+}
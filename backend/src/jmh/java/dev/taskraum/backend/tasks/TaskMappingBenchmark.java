@@ -0,0 +1,78 @@
+package dev.taskraum.backend.tasks;
+
+import dev.taskraum.backend.common.enums.TaskPriority;
+import dev.taskraum.backend.common.enums.TaskStatus;
+import dev.taskraum.backend.tasks.dto.BoardResponse;
+import dev.taskraum.backend.tasks.dto.TaskResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/** Entity to DTO mapping of a whole column / board, as done on every list and board request. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskMappingBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int size;
+
+    private List<Task> tasks;
+    private final Collection<TaskStatus> allColumns = TaskService.wantedColumns(null);
+
+    @Setup
+    public void setUp() {
+        tasks = tasks(size);
+    }
+
+    @Benchmark
+    public List<TaskResponse> toResponseList() {
+        return tasks.stream().map(TaskService::toResponse).toList();
+    }
+
+    @Benchmark
+    public BoardResponse toBoard() {
+        return TaskService.toBoard("p1", allColumns, tasks);
+    }
+
+    public static List<Task> tasks(int n) {
+        TaskStatus[] statuses = TaskStatus.values();
+        TaskPriority[] priorities = TaskPriority.values();
+        Instant now = Instant.parse("2025-01-01T00:00:00Z");
+        List<Task> out = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            out.add(Task.builder()
+                    .id(String.format("%024x", i))
+                    .projectId("p1")
+                    .title("Task number " + i)
+                    .description("Description of task " + i + ", long enough to look like a real one.")
+                    .status(statuses[i % statuses.length])
+                    .rank(Integer.toString(i, 36))
+                    .priority(priorities[i % priorities.length])
+                    .dueDate(i % 3 == 0 ? LocalDate.of(2025, 3, 1).plusDays(i % 90) : null)
+                    .assigneeId(i % 2 == 0 ? "u" + (i % 7) : null)
+                    .createdAt(now.plusSeconds(i))
+                    .updatedAt(now.plusSeconds(2L * i))
+                    .build());
+        }
+        return out;
+    }
+}
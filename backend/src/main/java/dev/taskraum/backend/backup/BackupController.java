@@ -0,0 +1,46 @@
+package dev.taskraum.backend.backup;
+
+import dev.taskraum.backend.backup.dto.ImportResult;
+import dev.taskraum.backend.security.UserPrincipal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+// Servlet stack only (StreamingResponseBody / InputStream bodies)
+@Profile("!reactive")
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+public class BackupController {
+    static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final BackupService service;
+
+    // Chunked NDJSON stream of the caller's projects, then their tasks
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(@AuthenticationPrincipal UserPrincipal me) {
+        String ownerId = me.id();
+        return ResponseEntity.ok()
+                .contentType(NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"taskraum-export.ndjson\"")
+                .body(out -> service.export(ownerId, out));
+    }
+
+    @PostMapping("/import")
+    public ImportResult importBackup(
+            @AuthenticationPrincipal UserPrincipal me,
+            InputStream body) throws IOException {
+        return service.importStream(me.id(), body);
+    }
+}
@@ -0,0 +1,12 @@
+package dev.taskraum.backend.backup;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import dev.taskraum.backend.projects.Project;
+import dev.taskraum.backend.tasks.Task;
+
+// One NDJSON line: exactly one of project / task is set
+@JsonInclude(JsonInclude.Include.NON_NULL)
+record BackupLine(Project project, Task task) {
+    static BackupLine of(Project p) { return new BackupLine(p, null); }
+    static BackupLine of(Task t) { return new BackupLine(null, t); }
+}
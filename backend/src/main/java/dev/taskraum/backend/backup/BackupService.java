@@ -0,0 +1,141 @@
+package dev.taskraum.backend.backup;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import dev.taskraum.backend.backup.dto.ImportResult;
+import dev.taskraum.backend.projects.Project;
+import dev.taskraum.backend.projects.TaskCounters;
+import dev.taskraum.backend.tasks.Task;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * NDJSON account backup. Export walks Mongo cursors and writes line by line,
+ * import reads line by line and inserts in batches, so neither side holds the account on the heap.
+ */
+@Service
+public class BackupService {
+    private final MongoTemplate mongo;
+    private final ObjectMapper mapper;
+    private final int batchSize;
+
+    public BackupService(
+            MongoTemplate mongo,
+            ObjectMapper mapper,
+            @Value("${taskraum.backup.batch-size:1000}") int batchSize
+    ) {
+        this.mongo = mongo;
+        this.mapper = mapper;
+        this.batchSize = batchSize;
+    }
+
+    public void export(String ownerId, OutputStream out) throws IOException {
+        ObjectWriter writer = mapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator gen = mapper.getFactory().createGenerator(out)) {
+            gen.setPrettyPrinter(new MinimalPrettyPrinter("\n"));
+
+            // Only project ids are kept, to scope the task cursor
+            List<String> projectIds = new ArrayList<>();
+            try (Stream<Project> projects = mongo.stream(Query.query(Criteria.where("ownerId").is(ownerId)), Project.class)) {
+                for (Project p : (Iterable<Project>) projects::iterator) {
+                    projectIds.add(p.getId());
+                    writer.writeValue(gen, BackupLine.of(p));
+                }
+            }
+
+            for (int i = 0; i < projectIds.size(); i += batchSize) {
+                var ids = projectIds.subList(i, Math.min(i + batchSize, projectIds.size()));
+                try (Stream<Task> tasks = mongo.stream(Query.query(Criteria.where("projectId").in(ids)), Task.class)) {
+                    for (Task t : (Iterable<Task>) tasks::iterator) {
+                        writer.writeValue(gen, BackupLine.of(t));
+                    }
+                }
+            }
+            gen.writeRaw('\n');
+        }
+    }
+
+    public ImportResult importStream(String ownerId, InputStream in) throws IOException {
+        // Imported data gets fresh ids; tasks follow their project through this map
+        Map<String, String> projectIds = new HashMap<>();
+        List<Project> projects = new ArrayList<>(batchSize);
+        List<Task> tasks = new ArrayList<>(batchSize);
+        // Counters are rebuilt from the tasks actually imported; the file's may be stale, edited or miss skipped rows
+        Map<String, TaskCounters> counters = new HashMap<>();
+        int projectCount = 0, taskCount = 0, skipped = 0;
+
+        try (MappingIterator<BackupLine> lines = mapper.readerFor(BackupLine.class).readValues(in)) {
+            while (lines.hasNextValue()) {
+                BackupLine line = lines.nextValue();
+
+                if (line.project() != null && line.project().getTitle() != null) {
+                    Project p = line.project();
+                    String newId = new ObjectId().toHexString();
+                    if (p.getId() != null) projectIds.put(p.getId(), newId);
+                    p.setId(newId);
+                    p.setOwnerId(ownerId);
+                    p.setTaskCounts(null);
+                    p.setOpenDueCounts(null);
+                    projects.add(p);
+                    projectCount++;
+                    if (projects.size() >= batchSize) flush(projects, Project.class);
+                } else if (line.task() != null && line.task().getTitle() != null
+                        && line.task().getStatus() != null && projectIds.containsKey(line.task().getProjectId())) {
+                    Task t = line.task();
+                    t.setId(null);
+                    t.setProjectId(projectIds.get(t.getProjectId()));
+                    // Denormalised from the project: the file's value is the old account's, or anything at all
+                    t.setOwnerId(ownerId);
+                    counters.computeIfAbsent(t.getProjectId(), id -> TaskCounters.none()).add(t.getStatus(), t.getDueDate());
+                    tasks.add(t);
+                    taskCount++;
+                    if (tasks.size() >= batchSize) flush(tasks, Task.class);
+                } else {
+                    skipped++;
+                }
+            }
+        }
+        flush(projects, Project.class);
+        flush(tasks, Task.class);
+        applyCounters(counters);
+
+        return ImportResult.builder().projects(projectCount).tasks(taskCount).skipped(skipped).build();
+    }
+
+    // One bulkWrite of $inc per imported project that got tasks, onto the counters cleared at insert
+    private void applyCounters(Map<String, TaskCounters> counters) {
+        if (counters.isEmpty()) return;
+        var ops = mongo.bulkOps(BulkOperations.BulkMode.UNORDERED, Project.class);
+        counters.forEach((projectId, c) -> {
+            var update = new Update();
+            c.deltas().forEach(update::inc);
+            ops.updateOne(Query.query(Criteria.where("_id").is(projectId)), update);
+        });
+        ops.execute();
+    }
+
+    private <T> void flush(List<T> batch, Class<T> type) {
+        if (batch.isEmpty()) return;
+        mongo.insert(batch, type); // insertMany
+        batch.clear();
+    }
+}
@@ -0,0 +1,12 @@
+package dev.taskraum.backend.backup.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class ImportResult {
+    int projects;
+    int tasks;
+    int skipped;
+}
@@ -0,0 +1,72 @@
+package dev.taskraum.backend.calendar;
+
+import dev.taskraum.backend.calendar.dto.CalendarFeedResponse;
+import dev.taskraum.backend.security.UserPrincipal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+
+// Servlet stack (StreamingResponseBody); ReactiveCalendarController serves the "reactive" profile
+@Profile("!reactive")
+@RestController
+@RequestMapping("/api/calendar")
+@RequiredArgsConstructor
+public class CalendarController {
+    static final MediaType TEXT_CALENDAR = MediaType.parseMediaType("text/calendar;charset=UTF-8");
+
+    private final CalendarService service;
+
+    // Tasks due in [from, to] across the caller's projects, streamed as a JSON array
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> range(
+            @AuthenticationPrincipal UserPrincipal me,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        service.checkRange(from, to);
+        String ownerId = me.id();
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(out -> service.writeRange(ownerId, from, to, out));
+    }
+
+    // Creates the subscription URL, or replaces it (the old one stops working)
+    @PostMapping("/feed")
+    public CalendarFeedResponse rotateFeed(@AuthenticationPrincipal UserPrincipal me) {
+        return service.rotateFeed(me.id());
+    }
+
+    @DeleteMapping("/feed")
+    public ResponseEntity<Void> revokeFeed(@AuthenticationPrincipal UserPrincipal me) {
+        service.revokeFeed(me.id());
+        return ResponseEntity.noContent().build();
+    }
+
+    // Public: calendar apps send no cookies, the token in the path is the credential
+    @GetMapping("/feed/{token}.ics")
+    public ResponseEntity<StreamingResponseBody> feed(@PathVariable String token, WebRequest request) {
+        var feed = service.feed(token, CalendarService.today())
+                .orElseThrow(() -> new IllegalArgumentException("FEED_NOT_FOUND"));
+        // Clients poll every few minutes; unchanged calendars cost one projects query and a 304
+        if (request.checkNotModified(feed.etag())) return null;
+        return ResponseEntity.ok()
+                .contentType(TEXT_CALENDAR)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .eTag(feed.etag())
+                .body(out -> service.writeFeed(feed, out));
+    }
+}
@@ -0,0 +1,211 @@
+package dev.taskraum.backend.calendar;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import dev.taskraum.backend.calendar.dto.CalendarEntry;
+import dev.taskraum.backend.calendar.dto.CalendarFeedResponse;
+import dev.taskraum.backend.projects.Project;
+import dev.taskraum.backend.tasks.Task;
+import dev.taskraum.backend.users.User;
+import dev.taskraum.backend.users.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Due dates as a calendar: a date-range query for the app and a per-user ICS subscription feed.
+ * Both read tasks through owner_due_idx and stream them from a cursor, so a wide range never sits on the heap.
+ * The feed's ETag is derived from the versions of the owner's projects (every task write bumps its project's
+ * version), so an unchanged calendar is answered with a 304 after one small projects query.
+ */
+@Service
+public class CalendarService {
+    static final int MAX_RANGE_DAYS = 5 * 366;
+    // The feed covers recent history plus everything ahead
+    static final int FEED_PAST_DAYS = 90;
+
+    public record Feed(String ownerId, LocalDate today, String etag, Map<String, String> projectTitles) {}
+
+    private final MongoTemplate mongo;
+    private final UserRepository userRepo;
+    private final ObjectMapper mapper;
+    private final int batchSize;
+    private final SecureRandom random = new SecureRandom();
+
+    public CalendarService(
+            MongoTemplate mongo,
+            UserRepository userRepo,
+            ObjectMapper mapper,
+            @Value("${taskraum.calendar.batch-size:500}") int batchSize
+    ) {
+        this.mongo = mongo;
+        this.userRepo = userRepo;
+        this.mapper = mapper;
+        this.batchSize = batchSize;
+    }
+
+    // Due dates are calendar days; "today" is the UTC day, as for overdue counts
+    public static LocalDate today() {
+        return LocalDate.now(ZoneOffset.UTC);
+    }
+
+    // --- Range --- //
+
+    // Checked before the response starts, so a bad range is still a 400
+    public void checkRange(LocalDate from, LocalDate to) {
+        if (to.isBefore(from) || ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("INVALID_RANGE");
+        }
+    }
+
+    // JSON array of the owner's tasks due in [from, to], by due date
+    public void writeRange(String ownerId, LocalDate from, LocalDate to, OutputStream out) throws IOException {
+        var projectIds = ownedProjects(ownerId).keySet();
+        ObjectWriter writer = mapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator gen = mapper.getFactory().createGenerator(out);
+             Stream<Task> tasks = mongo.stream(dueQuery(ownerId, from, to), Task.class)) {
+            gen.writeStartArray();
+            for (Task t : (Iterable<Task>) tasks::iterator) {
+                // Tasks of a force-deleted project linger until ProjectDeletionWorker removes them
+                if (projectIds.contains(t.getProjectId())) writer.writeValue(gen, toEntry(t));
+            }
+            gen.writeEndArray();
+        }
+    }
+
+    // --- ICS feed --- //
+
+    // New token for the caller's feed; any previous feed URL stops working
+    public CalendarFeedResponse rotateFeed(String userId) {
+        byte[] bytes = new byte[32];
+        random.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        mongo.updateFirst(Query.query(Criteria.where("_id").is(userId)),
+                new Update().set("calendarFeedHash", sha256(token)), User.class);
+        return new CalendarFeedResponse(token, "/api/calendar/feed/" + token + ".ics");
+    }
+
+    public void revokeFeed(String userId) {
+        mongo.updateFirst(Query.query(Criteria.where("_id").is(userId)), new Update().unset("calendarFeedHash"), User.class);
+    }
+
+    // Resolves the token and computes the ETag without reading any task
+    public Optional<Feed> feed(String token, LocalDate today) {
+        return userRepo.findByCalendarFeedHash(sha256(token)).map(user -> {
+            var projects = ownedProjects(user.getId());
+            var digest = sha256Digest();
+            projects.forEach((id, p) -> digest.update((id + ":" + p.getVersion() + "\n").getBytes(StandardCharsets.UTF_8)));
+            // The window moves with the day, so the day is part of the tag
+            String etag = "\"" + HexFormat.of().formatHex(digest.digest(), 0, 16) + "-" + today + "\"";
+
+            Map<String, String> titles = new LinkedHashMap<>();
+            projects.forEach((id, p) -> titles.put(id, p.getTitle()));
+            return new Feed(user.getId(), today, etag, titles);
+        });
+    }
+
+    // Byte-for-byte the same for the same ETag: fixed order, DTSTAMP from the task, no generation time
+    public void writeFeed(Feed feed, OutputStream out) throws IOException {
+        Writer w = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        Ics.line(w, "BEGIN:VCALENDAR");
+        Ics.line(w, "VERSION:2.0");
+        Ics.line(w, "PRODID:-//taskraum//calendar//EN");
+        Ics.line(w, "CALSCALE:GREGORIAN");
+        Ics.line(w, "X-WR-CALNAME:Taskraum");
+
+        try (Stream<Task> tasks = mongo.stream(dueQuery(feed.ownerId(), feed.today().minusDays(FEED_PAST_DAYS), null), Task.class)) {
+            for (Task t : (Iterable<Task>) tasks::iterator) {
+                String project = feed.projectTitles().get(t.getProjectId());
+                if (project != null) writeEvent(w, t, project);
+            }
+        }
+
+        Ics.line(w, "END:VCALENDAR");
+        w.flush();
+    }
+
+    private static void writeEvent(Writer w, Task t, String project) throws IOException {
+        Instant stamp = t.getUpdatedAt() != null ? t.getUpdatedAt()
+                : t.getCreatedAt() != null ? t.getCreatedAt() : Instant.EPOCH;
+        Ics.line(w, "BEGIN:VEVENT");
+        Ics.line(w, "UID:" + t.getId() + "@taskraum");
+        Ics.line(w, "DTSTAMP:" + Ics.utc(stamp));
+        Ics.line(w, "DTSTART;VALUE=DATE:" + Ics.date(t.getDueDate()));
+        Ics.line(w, "DTEND;VALUE=DATE:" + Ics.date(t.getDueDate().plusDays(1)));
+        Ics.line(w, "SUMMARY:" + Ics.text(t.getTitle()));
+        Ics.line(w, "DESCRIPTION:" + Ics.text(project));
+        if (t.getStatus() != null) Ics.line(w, "CATEGORIES:" + t.getStatus());
+        Ics.line(w, "END:VEVENT");
+    }
+
+    // --- Helpers --- //
+
+    // owner_due_idx answers filter and sort in one bounded scan; to == null leaves the range open
+    private Query dueQuery(String ownerId, LocalDate from, LocalDate to) {
+        var criteria = Criteria.where("ownerId").is(ownerId).and("dueDate").gte(from);
+        if (to != null) criteria = criteria.lte(to);
+        var query = Query.query(criteria)
+                .with(Sort.by("dueDate", "_id"))
+                .cursorBatchSize(batchSize);
+        query.fields().include("projectId", "title", "status", "priority", "dueDate", "createdAt", "updatedAt");
+        return query;
+    }
+
+    // _id -> project (title, version), in _id order
+    private Map<String, Project> ownedProjects(String ownerId) {
+        var query = Query.query(Criteria.where("ownerId").is(ownerId)).with(Sort.by("_id"));
+        query.fields().include("title").include("version");
+        Map<String, Project> projects = new LinkedHashMap<>();
+        mongo.find(query, Project.class).forEach(p -> projects.put(p.getId(), p));
+        return projects;
+    }
+
+    private static CalendarEntry toEntry(Task t) {
+        return CalendarEntry.builder()
+                .id(t.getId())
+                .projectId(t.getProjectId())
+                .title(t.getTitle())
+                .status(t.getStatus())
+                .priority(t.getPriority())
+                .dueDate(t.getDueDate())
+                .build();
+    }
+
+    static String sha256(String value) {
+        return HexFormat.of().formatHex(sha256Digest().digest(value.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static MessageDigest sha256Digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package dev.taskraum.backend.calendar;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/** Minimal iCalendar (RFC 5545) writing: CRLF lines, folded at 75 octets, escaped text values. */
+final class Ics {
+    private static final int MAX_LINE_OCTETS = 75;
+    private static final DateTimeFormatter DATE = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final DateTimeFormatter UTC_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+
+    private Ics() {}
+
+    static String date(LocalDate date) {
+        return DATE.format(date);
+    }
+
+    static String utc(Instant instant) {
+        return UTC_TIME.format(instant);
+    }
+
+    // TEXT value escaping: backslash, semicolon, comma and newlines
+    static String text(String value) {
+        if (value == null) return "";
+        var out = new StringBuilder(value.length() + 8);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> out.append("\\\\");
+                case ';' -> out.append("\\;");
+                case ',' -> out.append("\\,");
+                case '\n' -> out.append("\\n");
+                case '\r' -> { }
+                default -> out.append(c);
+            }
+        }
+        return out.toString();
+    }
+
+    // Writes one content line, folding so no physical line exceeds 75 octets and no UTF-8 sequence is split
+    static void line(Writer out, String line) throws IOException {
+        int octets = 0;
+        for (int i = 0; i < line.length(); ) {
+            int cp = line.codePointAt(i);
+            int n = cp < 0x80 ? 1 : cp < 0x800 ? 2 : cp < 0x10000 ? 3 : 4; // UTF-8 length
+            if (octets + n > MAX_LINE_OCTETS) {
+                out.write("\r\n ");
+                octets = 1;
+            }
+            out.write(Character.toChars(cp));
+            octets += n;
+            i += Character.charCount(cp);
+        }
+        out.write("\r\n");
+    }
+}
@@ -0,0 +1,96 @@
+package dev.taskraum.backend.calendar;
+
+import dev.taskraum.backend.calendar.dto.CalendarFeedResponse;
+import dev.taskraum.backend.security.UserPrincipal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.concurrent.Executor;
+
+// Same endpoints as CalendarController for the "reactive" profile. CalendarService reads through MongoTemplate
+// and writes to an OutputStream, so all of it runs on boundedElastic, off the event loop.
+@Profile("reactive")
+@RestController
+@RequestMapping("/api/calendar")
+@RequiredArgsConstructor
+public class ReactiveCalendarController {
+    private static final Executor BLOCKING = task -> Schedulers.boundedElastic().schedule(task);
+
+    private final CalendarService service;
+
+    @GetMapping
+    public ResponseEntity<Flux<DataBuffer>> range(
+            @AuthenticationPrincipal UserPrincipal me,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            ServerWebExchange exchange) {
+        service.checkRange(from, to);
+        String ownerId = me.id();
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(stream(exchange, out -> service.writeRange(ownerId, from, to, out)));
+    }
+
+    @PostMapping("/feed")
+    public Mono<CalendarFeedResponse> rotateFeed(@AuthenticationPrincipal UserPrincipal me) {
+        return Mono.fromCallable(() -> service.rotateFeed(me.id())).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @DeleteMapping("/feed")
+    public Mono<ResponseEntity<Void>> revokeFeed(@AuthenticationPrincipal UserPrincipal me) {
+        return Mono.fromRunnable(() -> service.revokeFeed(me.id()))
+                .subscribeOn(Schedulers.boundedElastic())
+                .thenReturn(ResponseEntity.noContent().build());
+    }
+
+    @GetMapping("/feed/{token}.ics")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> feed(@PathVariable String token, ServerWebExchange exchange) {
+        return Mono.fromCallable(() -> service.feed(token, CalendarService.today())
+                        .orElseThrow(() -> new IllegalArgumentException("FEED_NOT_FOUND")))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(feed -> exchange.checkNotModified(feed.etag())
+                        ? Mono.empty()
+                        : Mono.just(ResponseEntity.ok()
+                                .contentType(CalendarController.TEXT_CALENDAR)
+                                .cacheControl(CacheControl.noCache().cachePrivate())
+                                .eTag(feed.etag())
+                                .body(stream(exchange, out -> service.writeFeed(feed, out)))));
+    }
+
+    interface BodyWriter {
+        void write(OutputStream out) throws IOException;
+    }
+
+    // Buffers are emitted as the writer fills them; nothing runs until the response subscribes
+    private static Flux<DataBuffer> stream(ServerWebExchange exchange, BodyWriter writer) {
+        return Flux.from(DataBufferUtils.outputStreamPublisher(out -> {
+            try {
+                writer.write(out);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }, exchange.getResponse().bufferFactory(), BLOCKING));
+    }
+}
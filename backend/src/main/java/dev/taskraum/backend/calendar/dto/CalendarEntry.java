@@ -0,0 +1,20 @@
+package dev.taskraum.backend.calendar.dto;
+
+import dev.taskraum.backend.common.enums.TaskPriority;
+import dev.taskraum.backend.common.enums.TaskStatus;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDate;
+
+// One due task on the calendar; the rest of the task is one GET away
+@Value
+@Builder
+public class CalendarEntry {
+    String id;
+    String projectId;
+    String title;
+    TaskStatus status;
+    TaskPriority priority;
+    LocalDate dueDate;
+}
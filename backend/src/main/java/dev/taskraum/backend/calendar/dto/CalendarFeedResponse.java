@@ -0,0 +1,4 @@
+package dev.taskraum.backend.calendar.dto;
+
+// Only returned when the feed is (re)created; the server keeps a hash of the token
+public record CalendarFeedResponse(String token, String path) {}
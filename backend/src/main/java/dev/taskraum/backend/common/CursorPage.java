@@ -0,0 +1,12 @@
+package dev.taskraum.backend.common;
+
+import lombok.Value;
+
+import java.util.List;
+
+/** One keyset page; {@code nextCursor} is null on the last page. No total count is computed. */
+@Value
+public class CursorPage<T> {
+    List<T> items;
+    String nextCursor;
+}
@@ -0,0 +1,17 @@
+package dev.taskraum.backend.common;
+
+import java.time.LocalDate;
+
+/** ETags derived from Project.version; the version changes with every write that affects a response. */
+public final class ETags {
+    private ETags() {}
+
+    public static String strong(long version) {
+        return "\"" + version + "\"";
+    }
+
+    // For responses that also depend on the date (e.g. overdue counts), which no write ever bumps the version for
+    public static String strong(long version, LocalDate day) {
+        return "\"" + version + "-" + day + "\"";
+    }
+}
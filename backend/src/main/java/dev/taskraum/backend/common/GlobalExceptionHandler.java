@@ -1,11 +1,14 @@
 package dev.taskraum.backend.common;
 
+import dev.taskraum.backend.security.HashingBusyException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.util.Objects;
@@ -19,12 +22,28 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(ApiError.of("ValidationError", msg, 400));
     }
 
+    // @Valid failures on the reactive stack
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ApiError> handleValidation(WebExchangeBindException ex) {
+        var msg = ex.getBindingResult().getAllErrors().getFirst().getDefaultMessage();
+        return ResponseEntity.badRequest().body(ApiError.of("ValidationError", msg, 400));
+    }
+
     @ExceptionHandler(BadCredentialsException.class)
     public ResponseEntity<ApiError> handleBadCreds(BadCredentialsException ex) {
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                 .body(ApiError.of("Unauthorized", ex.getMessage(), 401));
     }
 
+    // Password hashing pool saturated (BoundedPasswordEncoder): rejected fast, the client retries later
+    @ExceptionHandler(HashingBusyException.class)
+    public ResponseEntity<ApiError> handleHashingBusy(HashingBusyException ex) {
+        HttpStatus status = HttpStatus.TOO_MANY_REQUESTS;
+        return ResponseEntity.status(status)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, ex.getRetryAfter().toSeconds())))
+                .body(ApiError.of("TooManyRequests", ex.getMessage(), status.value()));
+    }
+
     @ExceptionHandler(ResponseStatusException.class)
     public ResponseEntity<ApiError> handleRse(ResponseStatusException ex) {
         var status = ex.getStatusCode().value();
@@ -41,6 +60,8 @@ public class GlobalExceptionHandler {
         String message = switch (code) {
             case "PROJECT_NOT_FOUND" -> "Project not found";
             case "TASK_NOT_FOUND"    -> "Task not found";
+            case "JOB_NOT_FOUND"     -> "Job not found";
+            case "FEED_NOT_FOUND"    -> "Calendar feed not found";
             case ""                  -> "Bad request.";
             default                  -> code;
         };
@@ -0,0 +1,5 @@
+package dev.taskraum.backend.common.enums;
+
+public enum JobStatus {
+    PENDING, RUNNING, DONE, FAILED
+}
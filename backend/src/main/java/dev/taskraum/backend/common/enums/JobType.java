@@ -0,0 +1,5 @@
+package dev.taskraum.backend.common.enums;
+
+public enum JobType {
+    PROJECT_DELETE
+}
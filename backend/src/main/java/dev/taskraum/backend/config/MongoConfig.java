@@ -4,12 +4,15 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.auditing.DateTimeProvider;
 import org.springframework.data.mongodb.config.EnableMongoAuditing;
+import org.springframework.data.mongodb.config.EnableReactiveMongoAuditing;
 
 import java.time.Instant;
 import java.util.Optional;
 
 @Configuration
 @EnableMongoAuditing(dateTimeProviderRef = "dateTimeProvider")
+// Same timestamps for saves through the reactive repositories ("reactive" profile)
+@EnableReactiveMongoAuditing(dateTimeProviderRef = "dateTimeProvider")
 public class MongoConfig {
 
     // Ensures @CreatedDate/@LastModifiedDate use Instant
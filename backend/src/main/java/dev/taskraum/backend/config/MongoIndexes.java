@@ -0,0 +1,47 @@
+package dev.taskraum.backend.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates the indexes declared on the mapped documents (@Indexed, @CompoundIndex, @TextIndexed) at startup.
+ * Spring Data only does that with spring.data.mongodb.auto-index-creation, which is off outside the tests;
+ * without them the keyset, owner-wide and $text queries run as collection scans or fail.
+ * Creating an index that already exists is a no-op.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class MongoIndexes implements ApplicationRunner {
+    private final MongoTemplate mongo;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        ensureAll();
+    }
+
+    void ensureAll() {
+        var mappingContext = mongo.getConverter().getMappingContext();
+        var resolver = IndexResolver.create(mappingContext);
+        for (var entity : mappingContext.getPersistentEntities()) {
+            if (!entity.isAnnotationPresent(Document.class)) continue;
+            var ops = mongo.indexOps(entity.getType());
+            for (var index : resolver.resolveIndexFor(entity.getTypeInformation())) {
+                try {
+                    ops.createIndex(index);
+                } catch (DataAccessException ex) {
+                    // e.g. an index with the same keys under another name; the others are still created
+                    log.warn("Index {} on {} not created: {}", index.getIndexOptions().get("name"),
+                            entity.getCollection(), ex.getMessage());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package dev.taskraum.backend.config;
+
+import dev.taskraum.backend.security.AccessTokenCache;
+import dev.taskraum.backend.security.JwtAuthWebFilter;
+import dev.taskraum.backend.security.JwtUtil;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.config.Customizer;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.authentication.HttpStatusServerEntryPoint;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.reactive.CorsConfigurationSource;
+import org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource;
+
+import java.util.List;
+
+/** SecurityConfig for the "reactive" profile: same rules, same cookie-based JWT, no sessions. */
+@Profile("reactive & !test")
+@Configuration
+@EnableWebFluxSecurity
+public class ReactiveSecurityConfig {
+
+    @Bean
+    SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http, JwtUtil jwt, AccessTokenCache tokens) {
+        return http
+                .csrf(ServerHttpSecurity.CsrfSpec::disable)
+                .cors(Customizer.withDefaults())
+                .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+                .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+                // The servlet chain answers unauthenticated requests with 403 (no login mechanism configured)
+                .exceptionHandling(e -> e.authenticationEntryPoint(new HttpStatusServerEntryPoint(HttpStatus.FORBIDDEN)))
+                .authorizeExchange(auth -> auth
+                        .pathMatchers("/auth/**").permitAll()
+                        // ICS subscription: the unguessable token in the path is the credential
+                        .pathMatchers(HttpMethod.GET, "/api/calendar/feed/*.ics").permitAll()
+                        .pathMatchers("/api/**").authenticated()
+                        // index.html, assets and SPA routes
+                        .anyExchange().permitAll())
+                .addFilterAt(new JwtAuthWebFilter(jwt, tokens), SecurityWebFiltersOrder.AUTHENTICATION)
+                .build();
+    }
+
+    @Bean
+    CorsConfigurationSource corsConfigurationSource() {
+        CorsConfiguration config = new CorsConfiguration();
+        // Same origins as SecurityConfig; cookies are sent, so no "*"
+        config.setAllowedOrigins(List.of("http://localhost:5173",
+                "http://localhost:8080",
+                "https://taskraum.onrender.com"));
+        config.setAllowedMethods(List.of("GET","POST","PUT","DELETE","PATCH","OPTIONS"));
+        config.setAllowedHeaders(List.of("Content-Type","Authorization"));
+        config.setAllowCredentials(true);
+        config.setMaxAge(3600L);
+
+        UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
+        source.registerCorsConfiguration("/**", config);
+        return source;
+    }
+}
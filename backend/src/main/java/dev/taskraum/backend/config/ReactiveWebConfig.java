@@ -0,0 +1,40 @@
+package dev.taskraum.backend.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.web.reactive.config.BlockingExecutionConfigurer;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import org.springframework.web.server.WebFilter;
+
+import java.util.regex.Pattern;
+
+/**
+ * WebFlux setup for the "reactive" profile. Task and project endpoints are fully non-blocking;
+ * the remaining controllers (auth, profile, jobs) keep their blocking services and are run on
+ * virtual threads instead of the event loop.
+ */
+@Profile("reactive")
+@Configuration
+public class ReactiveWebConfig implements WebFluxConfigurer {
+
+    // Same rule as SpaController: first segment not auth|api|assets, no dots anywhere
+    private static final Pattern SPA_ROUTE = Pattern.compile("^/(?!auth|api|assets)[^.]*$");
+
+    @Override
+    public void configureBlockingExecution(BlockingExecutionConfigurer configurer) {
+        // Applies to controller methods that do not return a reactive type
+        configurer.setExecutor(new VirtualThreadTaskExecutor("webflux-blocking-"));
+    }
+
+    // WebFlux has no forward:, so client-side routes are rewritten to the SPA entry point
+    @Bean
+    WebFilter spaRoutes() {
+        return (exchange, chain) -> {
+            var request = exchange.getRequest();
+            if (!SPA_ROUTE.matcher(request.getPath().value()).matches()) return chain.filter(exchange);
+            return chain.filter(exchange.mutate().request(request.mutate().path("/index.html").build()).build());
+        };
+    }
+}
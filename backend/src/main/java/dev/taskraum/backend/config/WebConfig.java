@@ -1,8 +1,24 @@
 package dev.taskraum.backend.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.web.config.EnableSpringDataWebSupport;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
 
 @EnableSpringDataWebSupport(pageSerializationMode = EnableSpringDataWebSupport.PageSerializationMode.VIA_DTO)
 @Configuration
-class WebConfig {}
+class WebConfig implements WebMvcConfigurer {
+
+    // StreamingResponseBody (export, calendar range and feed) runs as an async request; without this the container's
+    // default (30s on Tomcat) cuts off large exports. SseEmitter sets its own timeout (taskraum.events.timeout).
+    @Value("${taskraum.streaming.timeout:PT30M}")
+    private Duration streamingTimeout;
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setDefaultTimeout(streamingTimeout.toMillis());
+    }
+}
@@ -0,0 +1,27 @@
+package dev.taskraum.backend.dashboard;
+
+import dev.taskraum.backend.dashboard.dto.DashboardResponse;
+import dev.taskraum.backend.security.UserPrincipal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/dashboard")
+@RequiredArgsConstructor
+public class DashboardController {
+    private static final int MAX_LIMIT = 50;
+
+    private final DashboardService service;
+
+    // "limit" caps each list separately
+    @GetMapping
+    public DashboardResponse dashboard(
+            @AuthenticationPrincipal UserPrincipal me,
+            @RequestParam(defaultValue = "20") int limit) {
+        return service.dashboard(me.id(), Math.clamp(limit, 1, MAX_LIMIT));
+    }
+}
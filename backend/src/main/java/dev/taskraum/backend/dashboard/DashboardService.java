@@ -0,0 +1,64 @@
+package dev.taskraum.backend.dashboard;
+
+import dev.taskraum.backend.common.enums.TaskPriority;
+import dev.taskraum.backend.common.enums.TaskStatus;
+import dev.taskraum.backend.dashboard.dto.DashboardResponse;
+import dev.taskraum.backend.projects.ProjectAccessCache;
+import dev.taskraum.backend.tasks.Task;
+import dev.taskraum.backend.tasks.TaskRepository;
+import dev.taskraum.backend.tasks.TaskService;
+import dev.taskraum.backend.tasks.dto.TaskResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Range;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Owner-wide task views. Each list is one limited query on the denormalised Task.ownerId, served by the
+ * owner indexes with the status in the prefix, so the cost grows neither with the number of projects nor
+ * with the DONE tasks an account has piled up.
+ */
+@Service
+@RequiredArgsConstructor
+public class DashboardService {
+    // Listed rather than "not DONE": $in keeps the status in the index prefix
+    static final Set<TaskStatus> OPEN = EnumSet.of(TaskStatus.TODO, TaskStatus.IN_PROGRESS);
+
+    private final TaskRepository taskRepo;
+    private final ProjectAccessCache projectAccess;
+
+    public DashboardResponse dashboard(String ownerId, int limit) {
+        return dashboard(ownerId, LocalDate.now(ZoneOffset.UTC), limit);
+    }
+
+    DashboardResponse dashboard(String ownerId, LocalDate today, int limit) {
+        var max = Limit.of(limit);
+        var overdue = taskRepo.findByOwnerIdAndStatusInAndDueDateBeforeOrderByDueDateAsc(
+                ownerId, OPEN, today, max);
+        var week = taskRepo.findByOwnerIdAndStatusInAndDueDateBetweenOrderByDueDateAsc(
+                ownerId, OPEN, Range.closed(today, today.plusDays(6)), max);
+        var high = taskRepo.findByOwnerIdAndPriorityAndStatusInOrderByDueDateAsc(
+                ownerId, TaskPriority.HIGH, OPEN, max);
+
+        return DashboardResponse.builder()
+                .today(today)
+                .overdue(visible(ownerId, overdue))
+                .dueThisWeek(visible(ownerId, week))
+                .highPriority(visible(ownerId, high))
+                .build();
+    }
+
+    // Tasks of a force-deleted project keep its ownerId until ProjectDeletionWorker gets to them
+    private List<TaskResponse> visible(String ownerId, List<Task> tasks) {
+        return tasks.stream()
+                .filter(t -> projectAccess.status(ownerId, t.getProjectId()).isPresent())
+                .map(TaskService::toResponse)
+                .toList();
+    }
+}
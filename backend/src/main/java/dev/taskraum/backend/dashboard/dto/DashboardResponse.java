@@ -0,0 +1,22 @@
+package dev.taskraum.backend.dashboard.dto;
+
+import dev.taskraum.backend.tasks.dto.TaskResponse;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// Cross-project task views of the caller; each list is capped at the requested limit
+@Value
+@Builder
+public class DashboardResponse {
+    // UTC day the lists were computed for
+    LocalDate today;
+    // Not DONE, due before today; oldest first
+    List<TaskResponse> overdue;
+    // Not DONE, due today or within the next 6 days; soonest first
+    List<TaskResponse> dueThisWeek;
+    // HIGH priority, TODO or IN_PROGRESS; tasks without a due date first, then soonest
+    List<TaskResponse> highPriority;
+}
@@ -0,0 +1,37 @@
+package dev.taskraum.backend.events;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import dev.taskraum.backend.tasks.dto.TaskCard;
+
+/**
+ * One change on a project's board, as sent on GET /api/projects/{id}/events.
+ * {@code version} is the project version after the change (the board ETag), so clients can tell
+ * whether a refetch is needed; RESYNC means events were dropped and the board must be reloaded.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ProjectEvent(Type type, String projectId, Long version, String taskId, TaskCard task) {
+
+    public enum Type {
+        CONNECTED,
+        TASK_CREATED,
+        TASK_UPDATED,
+        TASK_DELETED,
+        // Bulk changes (reorder, import): reload the board
+        BOARD_CHANGED,
+        PROJECT_UPDATED,
+        PROJECT_DELETED,
+        RESYNC
+    }
+
+    public static ProjectEvent task(Type type, String projectId, long version, TaskCard task) {
+        return new ProjectEvent(type, projectId, version, task.getId(), task);
+    }
+
+    public static ProjectEvent taskDeleted(String projectId, long version, String taskId) {
+        return new ProjectEvent(Type.TASK_DELETED, projectId, version, taskId, null);
+    }
+
+    public static ProjectEvent project(Type type, String projectId, Long version) {
+        return new ProjectEvent(type, projectId, version, null, null);
+    }
+}
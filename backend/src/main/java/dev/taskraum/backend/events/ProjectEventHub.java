@@ -0,0 +1,223 @@
+package dev.taskraum.backend.events;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * In-process pub/sub for board changes, fanned out to SSE subscribers (servlet SseEmitter or reactive Flux).
+ * Publishing never blocks the caller: each subscriber has a bounded queue drained by its own
+ * virtual-thread sender, and a subscriber that falls behind loses its backlog and gets a RESYNC instead.
+ * Idle subscribers hold no thread, only the async request and an empty queue.
+ */
+@Slf4j
+@Component
+public class ProjectEventHub implements MeterBinder {
+    private static final Object HEARTBEAT = new Object();
+
+    private final Map<String, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final ExecutorService senders;
+    private final int bufferSize;
+    private final Duration timeout;
+
+    @Autowired
+    public ProjectEventHub(
+            @Value("${taskraum.events.buffer-size:64}") int bufferSize,
+            @Value("${taskraum.events.timeout:PT30M}") Duration timeout
+    ) {
+        this(Executors.newVirtualThreadPerTaskExecutor(), bufferSize, timeout);
+    }
+
+    ProjectEventHub(ExecutorService senders, int bufferSize, Duration timeout) {
+        this.senders = senders;
+        this.bufferSize = bufferSize;
+        this.timeout = timeout;
+    }
+
+    /** Opens a stream for the project; {@code first} is sent before any published event. */
+    public SseEmitter subscribe(String projectId, ProjectEvent first) {
+        // EventSource reconnects by itself once the timeout closes the stream
+        var emitter = new SseEmitter(timeout.toMillis());
+        Runnable unsubscribe = subscribe(projectId, first, new Sink() {
+            @Override
+            public void send(ProjectEvent event) throws IOException {
+                emitter.send(SseEmitter.event().name(event.type().name()).data(event, MediaType.APPLICATION_JSON));
+            }
+
+            @Override
+            public void ping() throws IOException {
+                emitter.send(SseEmitter.event().comment("ping"));
+            }
+
+            @Override
+            public void complete() {
+                emitter.complete();
+            }
+        });
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(unsubscribe);
+        emitter.onError(ex -> unsubscribe.run());
+        return emitter;
+    }
+
+    /**
+     * Transport-neutral variant of {@link #subscribe(String, ProjectEvent)}; the sink is only ever called
+     * from one sender thread at a time. Returns the action that unsubscribes it.
+     */
+    public Runnable subscribe(String projectId, ProjectEvent first, Sink sink) {
+        var sub = new Subscriber(projectId, sink);
+        subscribers.computeIfAbsent(projectId, k -> ConcurrentHashMap.newKeySet()).add(sub);
+        sub.offer(first);
+        return () -> remove(sub);
+    }
+
+    public void publish(ProjectEvent event) {
+        var subs = subscribers.get(event.projectId());
+        if (subs == null) return;
+        subs.forEach(s -> s.offer(event));
+    }
+
+    /** Sends {@code last} and ends every stream of the project, e.g. after it was deleted. */
+    public void close(ProjectEvent last) {
+        var subs = subscribers.remove(last.projectId());
+        if (subs == null) return;
+        subs.forEach(s -> {
+            s.offer(last);
+            s.closing = true;
+            s.schedule();
+        });
+    }
+
+    // Keeps proxies from cutting idle streams and surfaces dead connections
+    @Scheduled(fixedDelayString = "${taskraum.events.heartbeat:PT25S}")
+    public void heartbeat() {
+        subscribers.values().forEach(subs -> subs.forEach(Subscriber::ping));
+    }
+
+    public Duration timeout() {
+        return timeout;
+    }
+
+    public int subscriberCount() {
+        return subscribers.values().stream().mapToInt(Set::size).sum();
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        Gauge.builder("taskraum.events.subscribers", this, ProjectEventHub::subscriberCount)
+                .description("Open board change feeds")
+                .register(registry);
+        Gauge.builder("taskraum.events.projects", subscribers, Map::size)
+                .description("Projects with at least one open feed")
+                .register(registry);
+    }
+
+    List<Subscriber> subscribers(String projectId) {
+        return List.copyOf(subscribers.getOrDefault(projectId, Set.of()));
+    }
+
+    private void remove(Subscriber sub) {
+        subscribers.computeIfPresent(sub.projectId, (k, subs) -> {
+            subs.remove(sub);
+            return subs.isEmpty() ? null : subs;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        senders.shutdownNow();
+        subscribers.values().forEach(subs -> subs.forEach(s -> s.sink.complete()));
+        subscribers.clear();
+    }
+
+    /** Where a subscriber's events go: an SseEmitter on the servlet stack, a Flux on the reactive one. */
+    public interface Sink {
+        void send(ProjectEvent event) throws IOException;
+
+        void ping() throws IOException;
+
+        void complete();
+    }
+
+    final class Subscriber {
+        private final String projectId;
+        private final Sink sink;
+        private final BlockingQueue<Object> queue = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile boolean closing;
+
+        private Subscriber(String projectId, Sink sink) {
+            this.projectId = projectId;
+            this.sink = sink;
+        }
+
+        void offer(ProjectEvent event) {
+            if (!queue.offer(event)) {
+                // Too slow: drop the backlog, the client reloads the board on RESYNC
+                queue.clear();
+                queue.offer(ProjectEvent.project(ProjectEvent.Type.RESYNC, projectId, null));
+                queue.offer(event);
+            }
+            schedule();
+        }
+
+        void ping() {
+            // A full queue will write soon anyway
+            if (queue.offer(HEARTBEAT)) schedule();
+        }
+
+        List<Object> pending() {
+            return List.copyOf(queue);
+        }
+
+        void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                Object next;
+                while ((next = queue.poll()) != null) {
+                    if (next == HEARTBEAT) {
+                        sink.ping();
+                    } else {
+                        sink.send((ProjectEvent) next);
+                    }
+                }
+                if (closing) sink.complete();
+            } catch (IOException | IllegalStateException ex) {
+                // Client went away; the container reports completion, this just stops further sends
+                log.debug("Dropping event subscriber for project {}: {}", projectId, ex.getMessage());
+                remove(this);
+                return;
+            } finally {
+                scheduled.set(false);
+            }
+            // An offer that raced with the end of the loop
+            if (!queue.isEmpty()) schedule();
+        }
+    }
+}
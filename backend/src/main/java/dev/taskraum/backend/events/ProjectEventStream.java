@@ -0,0 +1,114 @@
+package dev.taskraum.backend.events;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Reactive side of {@link ProjectEventHub}: the hub's sender writes into a Flux only as far as the
+ * connection has requested, so a slow client backs up into the hub's bounded queue and ends in RESYNC,
+ * exactly like a blocked SseEmitter write on the servlet stack.
+ */
+@Profile("reactive")
+@Component
+public class ProjectEventStream {
+    // A client that requests nothing for this long is treated as gone
+    private static final Duration STALL_TIMEOUT = Duration.ofMinutes(1);
+
+    private final ProjectEventHub hub;
+
+    public ProjectEventStream(ProjectEventHub hub) {
+        this.hub = hub;
+    }
+
+    public Flux<ServerSentEvent<ProjectEvent>> subscribe(String projectId, ProjectEvent first) {
+        return Flux.<ServerSentEvent<ProjectEvent>>create(sink -> {
+                    var demand = new DemandSink(sink);
+                    sink.onRequest(demand::request);
+                    Runnable unsubscribe = hub.subscribe(projectId, first, demand);
+                    sink.onDispose(() -> {
+                        demand.cancel();
+                        unsubscribe.run();
+                    });
+                })
+                // EventSource reconnects by itself once the stream ends
+                .take(hub.timeout());
+    }
+
+    static final class DemandSink implements ProjectEventHub.Sink {
+        private final FluxSink<ServerSentEvent<ProjectEvent>> sink;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition requested = lock.newCondition();
+        private long demand;
+        private boolean cancelled;
+
+        DemandSink(FluxSink<ServerSentEvent<ProjectEvent>> sink) {
+            this.sink = sink;
+        }
+
+        void request(long n) {
+            lock.lock();
+            try {
+                demand = demand > Long.MAX_VALUE - n ? Long.MAX_VALUE : demand + n;
+                requested.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void cancel() {
+            lock.lock();
+            try {
+                cancelled = true;
+                requested.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void send(ProjectEvent event) throws IOException {
+            awaitDemand();
+            sink.next(ServerSentEvent.builder(event).event(event.type().name()).build());
+        }
+
+        @Override
+        public void ping() throws IOException {
+            awaitDemand();
+            sink.next(ServerSentEvent.<ProjectEvent>builder().comment("ping").build());
+        }
+
+        @Override
+        public void complete() {
+            sink.complete();
+        }
+
+        // Runs on the hub's virtual-thread sender, so waiting here costs no platform thread
+        private void awaitDemand() throws IOException {
+            lock.lock();
+            try {
+                while (demand == 0 && !cancelled) {
+                    if (!requested.await(STALL_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                        sink.complete();
+                        throw new IOException("Subscriber stalled");
+                    }
+                }
+                if (cancelled) throw new IOException("Subscriber cancelled");
+                if (demand != Long.MAX_VALUE) demand--;
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IOException(ex);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package dev.taskraum.backend.jobs;
+
+import dev.taskraum.backend.common.enums.JobStatus;
+import dev.taskraum.backend.common.enums.JobType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+@Document("jobs")
+@Data @Builder @NoArgsConstructor @AllArgsConstructor
+@CompoundIndexes({
+        @CompoundIndex(name = "type_status_lock_idx", def = "{'type':1,'status':1,'lockedUntil':1}")
+})
+public class Job {
+    @Id private String id;
+
+    @Indexed private String ownerId;
+
+    private JobType type;
+    private JobStatus status;
+
+    // What the job works on, e.g. the deleted project's id
+    private String targetId;
+
+    private long processed;
+    private int attempts;
+    private String error;
+
+    // Lease held by the worker instance running the job; expired leases are picked up again
+    private Instant lockedUntil;
+
+    @CreatedDate private Instant createdAt;
+    @LastModifiedDate private Instant updatedAt;
+}
@@ -0,0 +1,24 @@
+package dev.taskraum.backend.jobs;
+
+import dev.taskraum.backend.jobs.dto.JobResponse;
+import dev.taskraum.backend.security.UserPrincipal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/jobs")
+@RequiredArgsConstructor
+public class JobController {
+    private final JobService service;
+
+    @GetMapping("/{id}")
+    public JobResponse get(
+            @AuthenticationPrincipal UserPrincipal me,
+            @PathVariable String id) {
+        return service.get(me.id(), id);
+    }
+}
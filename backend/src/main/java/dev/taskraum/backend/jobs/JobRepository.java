@@ -0,0 +1,9 @@
+package dev.taskraum.backend.jobs;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import java.util.Optional;
+
+public interface JobRepository extends MongoRepository<Job, String> {
+    Optional<Job> findByIdAndOwnerId(String id, String ownerId);
+}
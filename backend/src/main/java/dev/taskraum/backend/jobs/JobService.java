@@ -0,0 +1,46 @@
+package dev.taskraum.backend.jobs;
+
+import dev.taskraum.backend.common.enums.JobStatus;
+import dev.taskraum.backend.common.enums.JobType;
+import dev.taskraum.backend.jobs.dto.JobResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class JobService {
+    private final JobRepository jobRepo;
+
+    public JobResponse submit(String ownerId, JobType type, String targetId) {
+        return toResponse(jobRepo.save(pending(ownerId, type, targetId)));
+    }
+
+    public JobResponse get(String ownerId, String id) {
+        return jobRepo.findByIdAndOwnerId(id, ownerId)
+                .map(JobService::toResponse)
+                .orElseThrow(() -> new IllegalArgumentException("JOB_NOT_FOUND"));
+    }
+
+    // Public for the reactive services, which store jobs through ReactiveMongoTemplate
+    public static Job pending(String ownerId, JobType type, String targetId) {
+        return Job.builder()
+                .ownerId(ownerId)
+                .type(type)
+                .status(JobStatus.PENDING)
+                .targetId(targetId)
+                .build();
+    }
+
+    public static JobResponse toResponse(Job job) {
+        return JobResponse.builder()
+                .id(job.getId())
+                .type(job.getType())
+                .status(job.getStatus())
+                .targetId(job.getTargetId())
+                .processed(job.getProcessed())
+                .error(job.getError())
+                .createdAt(job.getCreatedAt())
+                .updatedAt(job.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,21 @@
+package dev.taskraum.backend.jobs.dto;
+
+import dev.taskraum.backend.common.enums.JobStatus;
+import dev.taskraum.backend.common.enums.JobType;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Instant;
+
+@Value
+@Builder
+public class JobResponse {
+    String id;
+    JobType type;
+    JobStatus status;
+    String targetId;
+    long processed;
+    String error;
+    Instant createdAt;
+    Instant updatedAt;
+}
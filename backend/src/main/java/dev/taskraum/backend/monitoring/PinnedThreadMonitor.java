@@ -0,0 +1,137 @@
+package dev.taskraum.backend.monitoring;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.lang.NonNull;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Reports virtual threads that block while pinned to their carrier (JFR jdk.VirtualThreadPinned),
+ * grouped by the innermost application frame. Each new site is logged once with its stack,
+ * a summary of all sites is logged periodically. Only active in virtual-thread mode.
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class PinnedThreadMonitor implements MeterBinder {
+    static final String EVENT = "jdk.VirtualThreadPinned";
+    private static final String APP_PACKAGE = "dev.taskraum.";
+    private static final int LOGGED_FRAMES = 12;
+
+    public record Site(String frame, long count, Duration total, Duration max) {}
+
+    private static final class Stats {
+        final LongAdder count = new LongAdder();
+        final LongAdder nanos = new LongAdder();
+        volatile long maxNanos;
+    }
+
+    private final Duration threshold;
+    private final Map<String, Stats> sites = new ConcurrentHashMap<>();
+    private RecordingStream stream;
+
+    public PinnedThreadMonitor(@Value("${taskraum.pinning.threshold:PT0.02S}") Duration threshold) {
+        this.threshold = threshold;
+    }
+
+    @PostConstruct
+    void start() {
+        stream = new RecordingStream();
+        stream.enable(EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(EVENT, this::record);
+        stream.startAsync();
+        log.info("Virtual thread pinning monitor started (threshold {})", threshold);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (stream != null) stream.close();
+    }
+
+    void record(RecordedEvent event) {
+        List<RecordedFrame> frames = event.getStackTrace() != null ? event.getStackTrace().getFrames() : List.of();
+        String site = site(frames);
+        long nanos = event.getDuration().toNanos();
+
+        var created = new boolean[1];
+        var stats = sites.computeIfAbsent(site, k -> {
+            created[0] = true;
+            return new Stats();
+        });
+        stats.count.increment();
+        stats.nanos.add(nanos);
+        if (nanos > stats.maxNanos) stats.maxNanos = nanos;
+
+        if (created[0]) {
+            log.warn("Virtual thread pinned for {} ms at {}\n\t{}", nanos / 1_000_000, site,
+                    frames.stream().limit(LOGGED_FRAMES).map(PinnedThreadMonitor::format)
+                            .collect(Collectors.joining("\n\t")));
+        }
+    }
+
+    /** Pinning sites seen so far, worst total first. */
+    public List<Site> report() {
+        return sites.entrySet().stream()
+                .map(e -> new Site(e.getKey(), e.getValue().count.sum(),
+                        Duration.ofNanos(e.getValue().nanos.sum()), Duration.ofNanos(e.getValue().maxNanos)))
+                .sorted(Comparator.comparing(Site::total).reversed())
+                .toList();
+    }
+
+    // Totals only; the per-site breakdown stays in the log report to keep tag cardinality bounded
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        FunctionCounter.builder("taskraum.pinning.events", sites,
+                        s -> s.values().stream().mapToLong(st -> st.count.sum()).sum())
+                .description("Virtual thread pinning events above the threshold")
+                .register(registry);
+        FunctionCounter.builder("taskraum.pinning.time", sites,
+                        s -> s.values().stream().mapToLong(st -> st.nanos.sum()).sum() / 1e9)
+                .description("Time virtual threads spent pinned above the threshold")
+                .baseUnit("seconds")
+                .register(registry);
+    }
+
+    @Scheduled(initialDelayString = "${taskraum.pinning.report-interval:PT5M}",
+            fixedDelayString = "${taskraum.pinning.report-interval:PT5M}")
+    public void logReport() {
+        var report = report();
+        if (report.isEmpty()) return;
+        log.warn("Virtual thread pinning since startup:\n\t{}", report.stream()
+                .map(s -> s.count() + "x, total " + s.total().toMillis() + " ms, max " + s.max().toMillis() + " ms: " + s.frame())
+                .collect(Collectors.joining("\n\t")));
+    }
+
+    // Innermost frame of our own code, else the innermost frame
+    static String site(List<RecordedFrame> frames) {
+        return frames.stream()
+                .filter(f -> f.isJavaFrame() && f.getMethod().getType().getName().startsWith(APP_PACKAGE))
+                .findFirst()
+                .or(() -> frames.stream().findFirst())
+                .map(PinnedThreadMonitor::format)
+                .orElse("<no stack>");
+    }
+
+    private static String format(RecordedFrame f) {
+        return f.getMethod().getType().getName() + "." + f.getMethod().getName() + ":" + f.getLineNumber();
+    }
+}
@@ -0,0 +1,319 @@
+package dev.taskraum.backend.monitoring;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * Logs Mongo commands on the watched collections that take longer than the threshold, with the shape of
+ * their filter, sort and projection (values replaced by "?") and an explain("executionStats") summary:
+ * winning plan stages, keys and docs examined. Registered on both the sync and the reactive client.
+ * <p>
+ * Explains run one at a time on a background thread, only for a sample of slow commands and at most one
+ * per {@code explain-interval}; a shape that was explained recently reuses its summary. A slow command
+ * that is not explained is still logged, just without a plan.
+ * Off by default; {@code taskraum.slow-query.enabled=true} switches it on.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "taskraum.slow-query.enabled", havingValue = "true")
+public class SlowQueryLog implements CommandListener, MongoClientSettingsBuilderCustomizer {
+    private static final Set<String> EXPLAINABLE =
+            Set.of("find", "aggregate", "count", "distinct", "findAndModify", "update", "delete");
+    // Session and routing fields the driver adds; explain rejects some of them
+    private static final List<String> DRIVER_FIELDS = List.of("$db", "lsid", "$clusterTime", "$readPreference",
+            "txnNumber", "autocommit", "startTransaction", "apiVersion", "apiStrict", "apiDeprecationErrors");
+
+    /** Runs the explain command against a database. */
+    interface Explainer {
+        BsonDocument explain(String database, BsonDocument explainCommand);
+    }
+
+    record Plan(String stages, long keysExamined, long docsExamined, long returned) {
+        @Override
+        public String toString() {
+            return "plan=" + stages + " keysExamined=" + keysExamined + " docsExamined=" + docsExamined + " nReturned=" + returned;
+        }
+    }
+
+    private final long thresholdNanos;
+    private final Set<String> collections;
+    private final double sampleRate;
+    private final long intervalNanos;
+    private final Explainer explainer;
+    private final ExecutorService explains;
+    private final LongSupplier clock;
+    private final DoubleSupplier random;
+
+    // Started watched commands by request id; entries only live until the reply (or failure)
+    private final Cache<Integer, BsonDocument> inFlight =
+            Caffeine.newBuilder().maximumSize(10_000).expireAfterWrite(Duration.ofMinutes(5)).build();
+    private final Cache<String, Plan> plans;
+    private final AtomicLong nextExplainAt = new AtomicLong();
+    private final AtomicBoolean explaining = new AtomicBoolean();
+
+    @Autowired
+    public SlowQueryLog(
+            @Value("${taskraum.slow-query.threshold:PT0.1S}") Duration threshold,
+            @Value("${taskraum.slow-query.collections:tasks,projects,users}") String[] collections,
+            @Value("${taskraum.slow-query.explain-sample-rate:0.1}") double sampleRate,
+            @Value("${taskraum.slow-query.explain-interval:PT10S}") Duration explainInterval,
+            @Value("${taskraum.slow-query.plan-ttl:PT10M}") Duration planTtl,
+            ObjectProvider<MongoDatabaseFactory> databases
+    ) {
+        // The factory is looked up lazily: it depends on the client this listener is registered on
+        this(threshold, collections, sampleRate, explainInterval, planTtl,
+                (db, cmd) -> databases.getObject().getMongoDatabase(db).runCommand(cmd, BsonDocument.class),
+                Executors.newSingleThreadExecutor(Thread.ofVirtual().name("slow-query-explain").factory()),
+                System::nanoTime, () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    SlowQueryLog(Duration threshold, String[] collections, double sampleRate, Duration explainInterval, Duration planTtl,
+                 Explainer explainer, ExecutorService explains, LongSupplier clock, DoubleSupplier random) {
+        this.thresholdNanos = threshold.toNanos();
+        this.collections = new HashSet<>(Arrays.asList(collections));
+        this.sampleRate = sampleRate;
+        this.intervalNanos = explainInterval.toNanos();
+        this.explainer = explainer;
+        this.explains = explains;
+        this.clock = clock;
+        this.random = random;
+        this.plans = Caffeine.newBuilder().maximumSize(1_000).expireAfterWrite(planTtl).build();
+        this.nextExplainAt.set(clock.getAsLong());
+    }
+
+    @Override
+    public void customize(MongoClientSettings.Builder settings) {
+        settings.addCommandListener(this);
+    }
+
+    @PreDestroy
+    void stop() {
+        explains.shutdownNow();
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        if (!EXPLAINABLE.contains(event.getCommandName())) return;
+        BsonValue coll = event.getCommand().get(event.getCommandName());
+        if (coll == null || !coll.isString() || !collections.contains(coll.asString().getValue())) return;
+        inFlight.put(event.getRequestId(), copy(event.getCommand()));
+    }
+
+    // The driver reuses the command's buffer once the callback returns, so keep a copy.
+    // Bulk writes keep only their first statement: enough for the shape and the explain.
+    static BsonDocument copy(BsonDocument command) {
+        var copy = new BsonDocument();
+        command.forEach((k, v) -> copy.put(k, (k.equals("updates") || k.equals("deletes")) && v.isArray()
+                ? new BsonArray(v.asArray().subList(0, Math.min(1, v.asArray().size())))
+                : v));
+        return copy.clone();
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        finished(event.getRequestId(), event.getDatabaseName(), event.getElapsedTime(TimeUnit.NANOSECONDS), null);
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        finished(event.getRequestId(), event.getDatabaseName(), event.getElapsedTime(TimeUnit.NANOSECONDS), event.getThrowable());
+    }
+
+    private void finished(int requestId, String database, long nanos, Throwable failure) {
+        BsonDocument command = inFlight.asMap().remove(requestId);
+        if (command == null || nanos < thresholdNanos) return;
+
+        String name = command.getFirstKey();
+        String collection = command.getString(name).getValue();
+        String shape = shape(command);
+        String line = String.format("Slow mongo %s on %s: %d ms %s%s", name, collection,
+                TimeUnit.NANOSECONDS.toMillis(nanos), shape, failure != null ? " failed: " + failure : "");
+
+        String shapeKey = collection + " " + name + " " + shape;
+        Plan known = plans.getIfPresent(shapeKey);
+        if (known != null) {
+            log.warn("{} {}", line, known);
+        } else if (tryAcquireExplain()) {
+            explains.execute(() -> {
+                try {
+                    Plan plan = summarize(explainer.explain(database, explainCommand(command)));
+                    plans.put(shapeKey, plan);
+                    log.warn("{} {}", line, plan);
+                } catch (RuntimeException ex) {
+                    log.warn("{} (explain failed: {})", line, ex.getMessage());
+                } finally {
+                    explaining.set(false);
+                }
+            });
+        } else {
+            log.warn(line);
+        }
+    }
+
+    // Sampled, one at a time, and at most one per interval, so a burst of slow queries costs at most one explain
+    boolean tryAcquireExplain() {
+        if (random.getAsDouble() >= sampleRate) return false;
+        long now = clock.getAsLong();
+        long next = nextExplainAt.get();
+        if (now - next < 0 || !nextExplainAt.compareAndSet(next, now + intervalNanos)) return false;
+        return explaining.compareAndSet(false, true);
+    }
+
+    // --- Shapes --- //
+
+    /** Filter, sort and projection with literal values replaced by "?". */
+    static String shape(BsonDocument command) {
+        String name = command.getFirstKey();
+        BsonDocument filter;
+        BsonDocument sort = null;
+        BsonDocument projection = null;
+        switch (name) {
+            case "find" -> {
+                filter = doc(command, "filter");
+                sort = doc(command, "sort");
+                projection = doc(command, "projection");
+            }
+            case "findAndModify" -> {
+                filter = doc(command, "query");
+                sort = doc(command, "sort");
+                projection = doc(command, "fields");
+            }
+            case "count", "distinct" -> filter = doc(command, "query");
+            case "update" -> filter = firstStatement(command, "updates");
+            case "delete" -> filter = firstStatement(command, "deletes");
+            case "aggregate" -> {
+                // Stage names, with the first $match as the filter
+                var stages = command.getArray("pipeline", new BsonArray());
+                filter = stages.stream().filter(s -> s.isDocument() && s.asDocument().containsKey("$match"))
+                        .map(s -> s.asDocument().getDocument("$match")).findFirst().orElse(null);
+                return "pipeline=" + stages.stream().filter(BsonValue::isDocument)
+                        .map(s -> s.asDocument().getFirstKey()).toList()
+                        + " filter=" + (filter != null ? mask(filter) : "{}");
+            }
+            default -> filter = null;
+        }
+        return "filter=" + (filter != null ? mask(filter) : "{}")
+                + (sort != null ? " sort=" + sort.toJson() : "")
+                + (projection != null ? " projection=" + projection.toJson() : "");
+    }
+
+    static BsonValue mask(BsonValue value) {
+        if (value.isDocument()) {
+            var masked = new BsonDocument();
+            // Operators keep their structure ($in, $and, ...), field values become "?"
+            value.asDocument().forEach((k, v) -> masked.put(k,
+                    k.startsWith("$") || v.isDocument() ? mask(v) : new BsonString("?")));
+            return masked;
+        }
+        if (value.isArray()) {
+            var masked = new BsonArray();
+            value.asArray().forEach(v -> masked.add(v.isDocument() ? mask(v) : new BsonString("?")));
+            // $in: [..] lists are one "?" whatever their length
+            return masked.stream().allMatch(BsonValue::isString) ? new BsonString("?") : masked;
+        }
+        return new BsonString("?");
+    }
+
+    private static BsonDocument doc(BsonDocument command, String key) {
+        BsonValue v = command.get(key);
+        return v != null && v.isDocument() ? v.asDocument() : null;
+    }
+
+    private static BsonDocument firstStatement(BsonDocument command, String key) {
+        BsonValue statements = command.get(key);
+        if (statements == null || !statements.isArray() || statements.asArray().isEmpty()) return null;
+        BsonValue first = statements.asArray().getFirst();
+        return first.isDocument() ? doc(first.asDocument(), "q") : null;
+    }
+
+    // --- Explain --- //
+
+    static BsonDocument explainCommand(BsonDocument command) {
+        var inner = command.clone();
+        DRIVER_FIELDS.forEach(inner::remove);
+        return new BsonDocument("explain", inner).append("verbosity", new BsonString("executionStats"));
+    }
+
+    /** Winning plan stages (innermost last, IXSCAN with its index) and the execution counters. */
+    static Plan summarize(BsonDocument explain) {
+        BsonDocument winning = find(explain, "winningPlan");
+        BsonDocument stats = find(explain, "executionStats");
+        var stages = new StringBuilder();
+        if (winning != null) stages(winning, stages);
+        return new Plan(stages.isEmpty() ? "?" : stages.toString(),
+                number(stats, "totalKeysExamined"), number(stats, "totalDocsExamined"), number(stats, "nReturned"));
+    }
+
+    private static void stages(BsonDocument plan, StringBuilder out) {
+        // Classic plans nest via inputStage(s); SBE plans wrap the classic tree in "queryPlan"
+        if (plan.containsKey("queryPlan")) {
+            stages(plan.getDocument("queryPlan"), out);
+            return;
+        }
+        if (plan.containsKey("stage")) {
+            if (!out.isEmpty()) out.append(" <- ");
+            out.append(plan.getString("stage").getValue());
+            if (plan.containsKey("indexName")) out.append('(').append(plan.getString("indexName").getValue()).append(')');
+        }
+        if (plan.containsKey("inputStage")) stages(plan.getDocument("inputStage"), out);
+        if (plan.containsKey("inputStages")) {
+            plan.getArray("inputStages").stream().filter(BsonValue::isDocument)
+                    .forEach(s -> stages(s.asDocument(), out));
+        }
+    }
+
+    // Depth-first; aggregate explains put the find-layer plan under stages[0].$cursor
+    private static BsonDocument find(BsonValue node, String key) {
+        if (node.isDocument()) {
+            for (Map.Entry<String, BsonValue> e : node.asDocument().entrySet()) {
+                if (e.getKey().equals(key) && e.getValue().isDocument()) return e.getValue().asDocument();
+                BsonDocument found = find(e.getValue(), key);
+                if (found != null) return found;
+            }
+        } else if (node.isArray()) {
+            for (BsonValue v : node.asArray()) {
+                BsonDocument found = find(v, key);
+                if (found != null) return found;
+            }
+        }
+        return null;
+    }
+
+    private static long number(BsonDocument doc, String key) {
+        BsonValue v = doc != null ? doc.get(key) : null;
+        return v != null && v.isNumber() ? v.asNumber().longValue() : -1;
+    }
+}
@@ -11,26 +11,42 @@ import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.index.TextIndexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.Instant;
+import java.util.Map;
 
 @Document("projects")
 @Data @Builder @NoArgsConstructor @AllArgsConstructor
 @CompoundIndexes({
-        @CompoundIndex(name = "owner_status_idx", def = "{'ownerId':1,'status':1}")
+        // One per ProjectSort field; also serve plain {ownerId, status} lookups by prefix
+        @CompoundIndex(name = "owner_status_updated_idx", def = "{'ownerId':1,'status':1,'updatedAt':1,'_id':1}"),
+        @CompoundIndex(name = "owner_status_created_idx", def = "{'ownerId':1,'status':1,'createdAt':1,'_id':1}"),
+        @CompoundIndex(name = "owner_status_title_idx", def = "{'ownerId':1,'status':1,'title':1,'_id':1}")
 })
 public class Project {
     @Id private String id;
 
     @Indexed private String ownerId;
 
-    @Indexed private String title;
+    @Indexed @TextIndexed(weight = 3) private String title;
 
-    private String description;
+    @TextIndexed private String description;
 
     @Indexed private ProjectStatus status = ProjectStatus.ACTIVE;
 
+    // Bumped on every change to the project or its tasks; served as the ETag of project and board GETs.
+    // Only ever incremented in place ($inc), never written from a loaded copy.
+    private long version;
+
+    // Denormalised for the project list cards, so a page of projects stays one query. Like version, only
+    // changed in place: $inc from the task write paths (TaskCounters), $set by TaskCounterReconciler.
+    // taskCounts: TaskStatus name -> tasks; openDueCounts: due date (yyyy-MM-dd) -> tasks not DONE, so the
+    // overdue count follows the calendar without any write.
+    private Map<String, Long> taskCounts;
+    private Map<String, Long> openDueCounts;
+
     @CreatedDate private Instant createdAt;
     @LastModifiedDate private Instant updatedAt;
 }
@@ -0,0 +1,76 @@
+package dev.taskraum.backend.projects;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import dev.taskraum.backend.common.enums.ProjectStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Short-lived (projectId, ownerId) -> status lookup for the task endpoints.
+ * Only owned projects are cached; ProjectService (and its reactive twin) invalidates entries on update and delete,
+ * the TTL bounds staleness across instances.
+ */
+@Component
+public class ProjectAccessCache implements MeterBinder {
+
+    private record Key(String projectId, String ownerId) {}
+
+    private final ProjectRepository projectRepo;
+    private final Cache<Key, ProjectStatus> cache;
+
+    public ProjectAccessCache(
+            ProjectRepository projectRepo,
+            @Value("${taskraum.project-cache.enabled:true}") boolean enabled,
+            @Value("${taskraum.project-cache.max-size:10000}") long maxSize,
+            @Value("${taskraum.project-cache.ttl:PT1M}") Duration ttl
+    ) {
+        this.projectRepo = projectRepo;
+        this.cache = enabled
+                ? Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).recordStats().build()
+                : null;
+    }
+
+    public Optional<ProjectStatus> status(String ownerId, String projectId) {
+        if (cache == null) return load(new Key(projectId, ownerId));
+        // A null mapping (not found / not owned) is not stored
+        return Optional.ofNullable(cache.get(new Key(projectId, ownerId), k -> load(k).orElse(null)));
+    }
+
+    /** Cached status without loading; the reactive services load through their own repository on a miss. */
+    public ProjectStatus cached(String ownerId, String projectId) {
+        return cache != null ? cache.getIfPresent(new Key(projectId, ownerId)) : null;
+    }
+
+    public void put(String ownerId, String projectId, ProjectStatus status) {
+        if (cache != null) cache.put(new Key(projectId, ownerId), status);
+    }
+
+    public void invalidate(String ownerId, String projectId) {
+        if (cache != null) cache.invalidate(new Key(projectId, ownerId));
+    }
+
+    public CacheStats stats() {
+        return cache != null ? cache.stats() : CacheStats.empty();
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        if (cache != null) CaffeineCacheMetrics.monitor(registry, cache, "projectAccess");
+    }
+
+    private Optional<ProjectStatus> load(Key key) {
+        // Legacy documents without a status behave as ACTIVE, like before
+        return projectRepo.findByIdAndOwnerId(key.projectId(), key.ownerId())
+                .map(p -> Objects.requireNonNullElse(p.getStatus(), ProjectStatus.ACTIVE));
+    }
+}
@@ -1,26 +1,39 @@
 package dev.taskraum.backend.projects;
 
+import dev.taskraum.backend.common.CursorPage;
+import dev.taskraum.backend.common.ETags;
 import dev.taskraum.backend.common.enums.ProjectStatus;
+import dev.taskraum.backend.events.ProjectEvent;
+import dev.taskraum.backend.events.ProjectEventHub;
+import dev.taskraum.backend.jobs.dto.JobResponse;
 import dev.taskraum.backend.projects.dto.CreateProjectDto;
 import dev.taskraum.backend.projects.dto.ProjectResponse;
 import dev.taskraum.backend.projects.dto.UpdateProjectDto;
 import dev.taskraum.backend.security.UserPrincipal;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.net.URI;
+
+@Profile("!reactive")
 @RestController
 @RequestMapping("/api/projects")
 @RequiredArgsConstructor
 public class ProjectController {
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final ProjectService service;
+    private final ProjectEventHub events;
 
     @GetMapping
     public Page<ProjectResponse> list(
@@ -30,14 +43,23 @@ public class ProjectController {
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(defaultValue = "updatedAt, DESC") String sort) {
 
-        String[] s = sort.split(",");
-        String field = s[0].trim();
-        String dirToken = (s.length > 1 ? s[1].trim() : "");
-        Sort.Direction dir = "ASC".equalsIgnoreCase(dirToken) ? Sort.Direction.ASC : Sort.Direction.DESC;
-        Pageable pageable = PageRequest.of(page, size, Sort.by(dir, field));
+        Pageable pageable = PageRequest.of(page, size, ProjectSort.parse(sort).toSort());
         return service.list(me.id(), status, pageable);
     }
 
+    // Cursor mode: selected by the presence of "cursor" (empty for the first page)
+    @GetMapping(params = "cursor")
+    public CursorPage<ProjectResponse> listByCursor(
+            @AuthenticationPrincipal UserPrincipal me,
+            @RequestParam(defaultValue = "ACTIVE") ProjectStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "updatedAt, DESC") String sort) {
+
+        int limit = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        return service.listAfter(me.id(), status, ProjectSort.parse(sort), cursor, limit);
+    }
+
     @PostMapping
     public ResponseEntity<ProjectResponse> create(
             @AuthenticationPrincipal UserPrincipal me,
@@ -48,10 +70,24 @@ public class ProjectController {
     }
 
     @GetMapping("/{id}")
-    public ProjectResponse get(
+    public ResponseEntity<ProjectResponse> get(
+            @AuthenticationPrincipal UserPrincipal me,
+            @PathVariable String id,
+            WebRequest request) {
+        // Version-only lookup first; an unchanged project is answered with 304 and never loaded
+        // The day is part of the tag: overdue counts move at midnight without a version bump
+        String etag = ETags.strong(service.version(me.id(), id), ProjectService.today());
+        if (request.checkNotModified(etag)) return null;
+        return ResponseEntity.ok().eTag(etag).body(service.get(me.id(), id));
+    }
+
+    // Board change feed (SSE); replaces polling the board
+    @GetMapping("/{id}/events")
+    public SseEmitter events(
             @AuthenticationPrincipal UserPrincipal me,
             @PathVariable String id) {
-        return service.get(me.id(), id);
+        long version = service.version(me.id(), id); // ownership check
+        return events.subscribe(id, ProjectEvent.project(ProjectEvent.Type.CONNECTED, id, version));
     }
 
     @PutMapping("/{id}")
@@ -63,7 +99,7 @@ public class ProjectController {
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> delete(
+    public ResponseEntity<JobResponse> delete(
             @AuthenticationPrincipal UserPrincipal me,
             @PathVariable String id,
             @RequestParam(defaultValue = "false") boolean force
@@ -71,7 +107,8 @@ public class ProjectController {
         if (!force) {
             return ResponseEntity.status(HttpStatus.CONFLICT).build();
         }
-        service.hardDelete(me.id(), id);
-        return ResponseEntity.noContent().build();
+        // Tasks are removed in the background; the client can poll the job
+        var job = service.hardDelete(me.id(), id);
+        return ResponseEntity.accepted().location(URI.create("/api/jobs/" + job.getId())).body(job);
     }
 }
@@ -0,0 +1,36 @@
+package dev.taskraum.backend.projects;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position after the last project of a page: its sort value and id, bound to the sort it was issued for.
+ * Opaque to clients (base64url).
+ */
+record ProjectCursor(String sortKey, String id, String value) {
+
+    static ProjectCursor after(ProjectSort sort, Project last) {
+        return new ProjectCursor(sort.key(), last.getId(), sort.field().format(last));
+    }
+
+    String encode() {
+        String raw = sortKey + "\n" + id + (value != null ? "\n" + value : "");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** Decodes a cursor issued for {@code sort}; anything else is rejected. */
+    static ProjectCursor decode(String cursor, ProjectSort sort) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\n", 3);
+            if (parts.length < 2 || !parts[0].equals(sort.key()) || parts[1].isEmpty()) {
+                throw new IllegalArgumentException("INVALID_CURSOR");
+            }
+            String value = parts.length == 3 ? parts[2] : null;
+            if (value != null) sort.field().parse(value); // fail fast on tampered values
+            return new ProjectCursor(parts[0], parts[1], value);
+        } catch (RuntimeException ex) {
+            throw new IllegalArgumentException("INVALID_CURSOR");
+        }
+    }
+}
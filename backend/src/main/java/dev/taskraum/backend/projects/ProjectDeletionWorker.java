@@ -0,0 +1,126 @@
+package dev.taskraum.backend.projects;
+
+import dev.taskraum.backend.common.enums.JobStatus;
+import dev.taskraum.backend.common.enums.JobType;
+import dev.taskraum.backend.jobs.Job;
+import dev.taskraum.backend.tasks.Task;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Deletes the tasks of force-deleted projects in the background, one bounded batch at a time.
+ * Progress lives on the Job document and jobs are claimed with a lease, so work resumes after a restart
+ * or on another instance. A failed attempt keeps the job leased for a growing retry delay.
+ * A large project holds one scheduler thread for a while; spring.task.scheduling.pool.size leaves the
+ * other scheduled tasks room to run.
+ */
+@Slf4j
+@Component
+public class ProjectDeletionWorker {
+    private static final int MAX_ATTEMPTS = 5;
+
+    private final MongoTemplate mongo;
+    private final int batchSize;
+    private final Duration pause;
+    private final Duration lease;
+    private final Duration retryDelay;
+
+    public ProjectDeletionWorker(
+            MongoTemplate mongo,
+            @Value("${taskraum.jobs.delete-batch-size:500}") int batchSize,
+            @Value("${taskraum.jobs.delete-pause:PT0.2S}") Duration pause,
+            @Value("${taskraum.jobs.lease:PT1M}") Duration lease,
+            @Value("${taskraum.jobs.retry-delay:PT30S}") Duration retryDelay
+    ) {
+        this.mongo = mongo;
+        this.batchSize = batchSize;
+        this.pause = pause;
+        this.lease = lease;
+        this.retryDelay = retryDelay;
+    }
+
+    @Scheduled(fixedDelayString = "${taskraum.jobs.poll-delay:PT5S}")
+    public void poll() {
+        Job job;
+        while ((job = claim()) != null) {
+            run(job);
+        }
+    }
+
+    Job claim() {
+        var now = Instant.now();
+        var query = Query.query(Criteria.where("type").is(JobType.PROJECT_DELETE)
+                .and("status").in(JobStatus.PENDING, JobStatus.RUNNING)
+                .orOperator(Criteria.where("lockedUntil").is(null), Criteria.where("lockedUntil").lt(now)));
+        var update = new Update()
+                .set("status", JobStatus.RUNNING)
+                .set("lockedUntil", now.plus(lease))
+                .inc("attempts", 1);
+        return mongo.findAndModify(query, update, FindAndModifyOptions.options().returnNew(true), Job.class);
+    }
+
+    void run(Job job) {
+        try {
+            while (true) {
+                var batch = Query.query(Criteria.where("projectId").is(job.getTargetId())).limit(batchSize);
+                batch.fields().include("_id");
+                List<String> ids = mongo.find(batch, Task.class).stream().map(Task::getId).toList();
+
+                if (ids.isEmpty()) {
+                    finish(job, JobStatus.DONE, null);
+                    return;
+                }
+
+                long deleted = mongo.remove(Query.query(Criteria.where("_id").in(ids)), Task.class).getDeletedCount();
+                mongo.updateFirst(byId(job), new Update()
+                        .inc("processed", deleted)
+                        .set("lockedUntil", Instant.now().plus(lease))
+                        .currentDate("updatedAt"), Job.class);
+
+                // Throttle so a huge project does not monopolise the primary
+                Thread.sleep(pause.toMillis());
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException ex) {
+            log.warn("Project delete job {} failed (attempt {})", job.getId(), job.getAttempts(), ex);
+            if (job.getAttempts() >= MAX_ATTEMPTS) {
+                finish(job, JobStatus.FAILED, ex.getMessage());
+            } else {
+                // Not claimable before the lease runs out, so one transient failure does not use up every attempt
+                mongo.updateFirst(byId(job), new Update()
+                        .set("error", ex.getMessage())
+                        .set("lockedUntil", Instant.now().plus(retryBackoff(retryDelay, job.getAttempts())))
+                        .currentDate("updatedAt"), Job.class);
+            }
+        }
+    }
+
+    // retryDelay after the first failure, doubling with every further one
+    static Duration retryBackoff(Duration retryDelay, int attempts) {
+        return retryDelay.multipliedBy(1L << Math.min(Math.max(attempts - 1, 0), 10));
+    }
+
+    private void finish(Job job, JobStatus status, String error) {
+        mongo.updateFirst(byId(job), new Update()
+                .set("status", status)
+                .set("error", error)
+                .unset("lockedUntil")
+                .currentDate("updatedAt"), Job.class);
+    }
+
+    private static Query byId(Job job) {
+        return Query.query(Criteria.where("_id").is(job.getId()));
+    }
+}
@@ -9,7 +9,7 @@ import org.springframework.stereotype.Repository;
 import java.util.Optional;
 
 @Repository
-public interface ProjectRepository extends MongoRepository<Project, String> {
+public interface ProjectRepository extends MongoRepository<Project, String>, ProjectRepositoryCustom {
     Page<Project> findByOwnerIdAndStatus(String ownerId, ProjectStatus status, Pageable pageable);
     Optional<Project> findByIdAndOwnerId(String id, String ownerId);
 }
@@ -0,0 +1,23 @@
+package dev.taskraum.backend.projects;
+
+import dev.taskraum.backend.common.enums.ProjectStatus;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface ProjectRepositoryCustom {
+    // Keyset page: projects strictly after the cursor in sort order (cursor null = first page), no count
+    List<Project> findPage(String ownerId, ProjectStatus status, ProjectSort sort, ProjectCursor after, int limit);
+
+    // Version of an owned project, read through the _id index with a version-only projection
+    Optional<Long> findVersion(String id, String ownerId);
+
+    // Returns the new version, 0 if the project is gone
+    long incrementVersion(String id);
+
+    // Same, applying task counter deltas in the same update (task writes)
+    long incrementVersion(String id, TaskCounters counters);
+
+    // Writes title/description/status and bumps the version in one findAndModify; returns the new document
+    Optional<Project> updateDetails(Project project);
+}
@@ -0,0 +1,110 @@
+package dev.taskraum.backend.projects;
+
+import dev.taskraum.backend.common.enums.ProjectStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.List;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+class ProjectRepositoryImpl implements ProjectRepositoryCustom {
+    private final MongoTemplate mongo;
+
+    @Override
+    public List<Project> findPage(String ownerId, ProjectStatus status, ProjectSort sort, ProjectCursor after, int limit) {
+        return mongo.find(pageQuery(ownerId, status, sort, after, limit), Project.class);
+    }
+
+    @Override
+    public Optional<Long> findVersion(String id, String ownerId) {
+        return Optional.ofNullable(mongo.findOne(versionQuery(id, ownerId), Project.class)).map(Project::getVersion);
+    }
+
+    @Override
+    public long incrementVersion(String id) {
+        return incrementVersion(id, TaskCounters.none());
+    }
+
+    @Override
+    public long incrementVersion(String id, TaskCounters counters) {
+        var p = mongo.findAndModify(versionBumpQuery(id), versionBump(counters),
+                FindAndModifyOptions.options().returnNew(true), Project.class);
+        return p != null ? p.getVersion() : 0;
+    }
+
+    @Override
+    public Optional<Project> updateDetails(Project project) {
+        return Optional.ofNullable(mongo.findAndModify(ownedQuery(project), detailsUpdate(project),
+                FindAndModifyOptions.options().returnNew(true), Project.class));
+    }
+
+    // Shared with ReactiveProjectRepositoryImpl
+
+    static Query pageQuery(String ownerId, ProjectStatus status, ProjectSort sort, ProjectCursor after, int limit) {
+        var criteria = Criteria.where("ownerId").is(ownerId).and("status").is(status);
+        if (after != null) {
+            criteria = criteria.andOperator(afterCursor(sort, after));
+        }
+        return Query.query(criteria).with(sort.toSort()).limit(limit);
+    }
+
+    static Query versionQuery(String id, String ownerId) {
+        var query = Query.query(Criteria.where("_id").is(id).and("ownerId").is(ownerId));
+        query.fields().include("version");
+        return query;
+    }
+
+    static Query versionBumpQuery(String id) {
+        var query = Query.query(Criteria.where("_id").is(id));
+        query.fields().include("version");
+        return query;
+    }
+
+    static Update versionBump(TaskCounters counters) {
+        return counters.applyTo(new Update().inc("version", 1));
+    }
+
+    static Query ownedQuery(Project project) {
+        return Query.query(Criteria.where("_id").is(project.getId()).and("ownerId").is(project.getOwnerId()));
+    }
+
+    static Update detailsUpdate(Project project) {
+        return new Update()
+                .set("title", project.getTitle())
+                .set("description", project.getDescription())
+                .set("status", project.getStatus())
+                .inc("version", 1)
+                .currentDate("updatedAt");
+    }
+
+    /**
+     * Range predicate on (field, _id) that the compound index answers with a single bounded scan.
+     * Missing values sort first ascending and last descending, as in Mongo's own ordering.
+     */
+    private static Criteria afterCursor(ProjectSort sort, ProjectCursor after) {
+        String field = sort.field().property();
+        boolean asc = sort.direction() == Sort.Direction.ASC;
+
+        if (after.value() == null) {
+            var sameNull = asc
+                    ? Criteria.where(field).is(null).and("_id").gt(after.id())
+                    : Criteria.where(field).is(null).and("_id").lt(after.id());
+            return asc ? new Criteria().orOperator(sameNull, Criteria.where(field).ne(null)) : sameNull;
+        }
+
+        Object value = sort.field().parse(after.value());
+        var beyond = asc ? Criteria.where(field).gt(value) : Criteria.where(field).lt(value);
+        var tie = asc
+                ? Criteria.where(field).is(value).and("_id").gt(after.id())
+                : Criteria.where(field).is(value).and("_id").lt(after.id());
+        return asc
+                ? new Criteria().orOperator(beyond, tie)
+                : new Criteria().orOperator(beyond, tie, Criteria.where(field).is(null));
+    }
+}
@@ -1,35 +1,59 @@
 package dev.taskraum.backend.projects;
 
+import dev.taskraum.backend.common.CursorPage;
+import dev.taskraum.backend.common.enums.JobType;
 import dev.taskraum.backend.common.enums.ProjectStatus;
+import dev.taskraum.backend.common.enums.TaskStatus;
+import dev.taskraum.backend.events.ProjectEvent;
+import dev.taskraum.backend.events.ProjectEventHub;
+import dev.taskraum.backend.jobs.JobService;
+import dev.taskraum.backend.jobs.dto.JobResponse;
 import dev.taskraum.backend.projects.dto.CreateProjectDto;
 import dev.taskraum.backend.projects.dto.ProjectResponse;
 import dev.taskraum.backend.projects.dto.UpdateProjectDto;
-import dev.taskraum.backend.tasks.TaskRepository;
+import io.micrometer.core.annotation.Counted;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+@Timed(value = "taskraum.service", histogram = true)
+@Counted(value = "taskraum.service.failures", recordFailuresOnly = true)
 @Service
 @RequiredArgsConstructor
 public class ProjectService {
     private final ProjectRepository projectRepo;
-    private final TaskRepository taskRepo;
+    private final JobService jobs;
+    private final ProjectAccessCache projectAccess;
+    private final ProjectEventHub events;
 
     public Page<ProjectResponse> list(String ownerId, ProjectStatus status, Pageable pageable) {
-        return projectRepo.findByOwnerIdAndStatus(ownerId, status, pageable).map(this::toResponse);
+        return projectRepo.findByOwnerIdAndStatus(ownerId, status, pageable).map(ProjectService::toResponse);
+    }
+
+    /** Keyset variant of {@link #list}: no count query and no skipping, whatever the depth. */
+    public CursorPage<ProjectResponse> listAfter(String ownerId, ProjectStatus status, ProjectSort sort, String cursor, int size) {
+        // One extra row tells whether another page exists
+        var rows = projectRepo.findPage(ownerId, status, sort, decodeCursor(cursor, sort), size + 1);
+        return toCursorPage(rows, sort, size);
     }
 
     @Transactional
     public ProjectResponse create(String ownerId, CreateProjectDto dto) {
-        Project p = Project.builder()
-                .ownerId(ownerId)
-                .title(dto.getTitle().trim())
-                .description(dto.getDescription().trim())
-                .status(ProjectStatus.ACTIVE)
-                .build();
-        return toResponse(projectRepo.save(p));
+        return toResponse(projectRepo.save(newProject(ownerId, dto)));
+    }
+
+    public long version(String ownerId, String id) {
+        return projectRepo.findVersion(id, ownerId)
+                .orElseThrow(() -> new IllegalArgumentException("PROJECT_NOT_FOUND"));
     }
 
     public ProjectResponse get(String ownerId, String id) {
@@ -42,7 +66,56 @@ public class ProjectService {
     public ProjectResponse update(String ownerId, String id, UpdateProjectDto dto) {
         Project p = projectRepo.findByIdAndOwnerId(id, ownerId)
                 .orElseThrow(() -> new IllegalArgumentException("PROJECT_NOT_FOUND"));
+        applyUpdate(p, dto);
+
+        // Field-level write so a concurrent task change's version bump is never overwritten
+        var saved = projectRepo.updateDetails(p)
+                .orElseThrow(() -> new IllegalArgumentException("PROJECT_NOT_FOUND"));
+        projectAccess.invalidate(ownerId, id);
+        events.publish(ProjectEvent.project(ProjectEvent.Type.PROJECT_UPDATED, id, saved.getVersion()));
+        return toResponse(saved);
+    }
+
+    /**
+     * Removes the project right away and leaves its tasks to ProjectDeletionWorker.
+     * The job is stored first, so a crash in between never leaves tasks without a cleanup job.
+     */
+    @Transactional
+    public JobResponse hardDelete(String ownerId, String id) {
+        Project p = projectRepo.findByIdAndOwnerId(id, ownerId)
+                .orElseThrow(() -> new IllegalArgumentException("PROJECT_NOT_FOUND"));
+
+        var job = jobs.submit(ownerId, JobType.PROJECT_DELETE, p.getId());
+
+        projectRepo.delete(p);
+        projectAccess.invalidate(ownerId, id);
+        events.close(ProjectEvent.project(ProjectEvent.Type.PROJECT_DELETED, id, null));
+        return job;
+    }
 
+    // --- Shared with ReactiveProjectService --- //
+
+    static ProjectCursor decodeCursor(String cursor, ProjectSort sort) {
+        return cursor == null || cursor.isBlank() ? null : ProjectCursor.decode(cursor, sort);
+    }
+
+    static CursorPage<ProjectResponse> toCursorPage(List<Project> rows, ProjectSort sort, int size) {
+        boolean hasNext = rows.size() > size;
+        var items = hasNext ? rows.subList(0, size) : rows;
+        String next = hasNext ? ProjectCursor.after(sort, items.getLast()).encode() : null;
+        return new CursorPage<>(items.stream().map(ProjectService::toResponse).toList(), next);
+    }
+
+    static Project newProject(String ownerId, CreateProjectDto dto) {
+        return Project.builder()
+                .ownerId(ownerId)
+                .title(dto.getTitle().trim())
+                .description(dto.getDescription().trim())
+                .status(ProjectStatus.ACTIVE)
+                .build();
+    }
+
+    static void applyUpdate(Project p, UpdateProjectDto dto) {
         boolean wasArchived = p.getStatus() == ProjectStatus.ARCHIVED;
         boolean wantsUnarchive = dto.getStatus() == ProjectStatus.ACTIVE;
 
@@ -56,30 +129,48 @@ public class ProjectService {
 
         if (dto.getTitle() != null) p.setTitle(dto.getTitle().trim());
         if (dto.getDescription() != null) p.setDescription(dto.getDescription().trim());
+    }
 
-        return toResponse(projectRepo.save(p));
+    static ProjectResponse toResponse(Project p) {
+        return toResponse(p, today());
     }
 
-    @Transactional
-    public void hardDelete(String ownerId, String id) {
-        Project p = projectRepo.findByIdAndOwnerId(id, ownerId)
-                .orElseThrow(() -> new IllegalArgumentException("PROJECT_NOT_FOUND"));
+    // Overdue is relative to the UTC calendar day
+    static LocalDate today() {
+        return LocalDate.now(ZoneOffset.UTC);
+    }
 
-        taskRepo.deleteByProjectId(p.getId());
+    static ProjectResponse toResponse(Project p, LocalDate today) {
+        Map<TaskStatus, Long> counts = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus s : TaskStatus.values()) {
+            counts.put(s, Math.max(0, count(p.getTaskCounts(), s.name())));
+        }
+        long total = counts.values().stream().mapToLong(Long::longValue).sum();
 
-        projectRepo.delete(p);
-    }
+        // Due dates are ISO strings, so string order is date order
+        String todayKey = today.toString();
+        long overdue = p.getOpenDueCounts() == null ? 0 : p.getOpenDueCounts().entrySet().stream()
+                .filter(e -> e.getKey().compareTo(todayKey) < 0)
+                .mapToLong(e -> Math.max(0, e.getValue()))
+                .sum();
 
-    private ProjectResponse toResponse(Project p) {
         return ProjectResponse.builder()
                 .id(p.getId())
                 .ownerId(p.getOwnerId())
                 .title(p.getTitle())
                 .description(p.getDescription())
                 .status(p.getStatus())
+                .version(p.getVersion())
+                .taskCounts(counts)
+                .overdueCount(overdue)
+                .percentComplete(total == 0 ? 0 : (int) (counts.get(TaskStatus.DONE) * 100 / total))
                 .createdAt(p.getCreatedAt())
                 .updatedAt(p.getUpdatedAt())
                 .build();
     }
 
+    private static long count(Map<String, Long> counts, String key) {
+        Long n = counts == null ? null : counts.get(key);
+        return n == null ? 0 : n;
+    }
 }
@@ -0,0 +1,64 @@
+package dev.taskraum.backend.projects;
+
+import org.springframework.data.domain.Sort;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Whitelisted project list orders. Each field has a {ownerId, status, field, _id} index on Project,
+ * and _id is always the tie-breaker so keyset pagination is stable.
+ */
+public record ProjectSort(Field field, Sort.Direction direction) {
+
+    public enum Field {
+        UPDATED_AT("updatedAt"),
+        CREATED_AT("createdAt"),
+        TITLE("title");
+
+        private final String property;
+
+        Field(String property) {
+            this.property = property;
+        }
+
+        public String property() {
+            return property;
+        }
+
+        // Cursor values are stored as strings
+        Object parse(String value) {
+            return this == TITLE ? value : Instant.parse(value);
+        }
+
+        String format(Project p) {
+            Object v = switch (this) {
+                case UPDATED_AT -> p.getUpdatedAt();
+                case CREATED_AT -> p.getCreatedAt();
+                case TITLE -> p.getTitle();
+            };
+            return v == null ? null : v.toString();
+        }
+    }
+
+    /** Parses "field[, ASC|DESC]" (direction defaults to DESC); unknown fields are rejected. */
+    public static ProjectSort parse(String sort) {
+        String[] s = sort.split(",");
+        String name = s[0].trim();
+        Field field = Arrays.stream(Field.values())
+                .filter(f -> f.property.equalsIgnoreCase(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("INVALID_SORT"));
+        String dirToken = s.length > 1 ? s[1].trim().toUpperCase(Locale.ROOT) : "";
+        return new ProjectSort(field, "ASC".equals(dirToken) ? Sort.Direction.ASC : Sort.Direction.DESC);
+    }
+
+    public Sort toSort() {
+        return Sort.by(direction, field.property, "_id");
+    }
+
+    String key() {
+        return field.property + "," + direction;
+    }
+}
@@ -0,0 +1,117 @@
+package dev.taskraum.backend.projects;
+
+import dev.taskraum.backend.common.CursorPage;
+import dev.taskraum.backend.common.ETags;
+import dev.taskraum.backend.common.enums.ProjectStatus;
+import dev.taskraum.backend.events.ProjectEvent;
+import dev.taskraum.backend.events.ProjectEventStream;
+import dev.taskraum.backend.jobs.dto.JobResponse;
+import dev.taskraum.backend.projects.dto.CreateProjectDto;
+import dev.taskraum.backend.projects.dto.ProjectResponse;
+import dev.taskraum.backend.projects.dto.UpdateProjectDto;
+import dev.taskraum.backend.security.UserPrincipal;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PagedModel;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+
+/** ProjectController on WebFlux ("reactive" profile); same paths, parameters and response bodies. */
+@Profile("reactive")
+@RestController
+@RequestMapping("/api/projects")
+@RequiredArgsConstructor
+public class ReactiveProjectController {
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final ReactiveProjectService service;
+    private final ProjectEventStream events;
+
+    // PagedModel is what the servlet stack's VIA_DTO page serialization writes
+    @GetMapping
+    public Mono<PagedModel<ProjectResponse>> list(
+            @AuthenticationPrincipal UserPrincipal me,
+            @RequestParam(defaultValue = "ACTIVE") ProjectStatus status,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "updatedAt, DESC") String sort) {
+
+        Pageable pageable = PageRequest.of(page, size, ProjectSort.parse(sort).toSort());
+        return service.list(me.id(), status, pageable).map(PagedModel::new);
+    }
+
+    // Cursor mode: selected by the presence of "cursor" (empty for the first page)
+    @GetMapping(params = "cursor")
+    public Mono<CursorPage<ProjectResponse>> listByCursor(
+            @AuthenticationPrincipal UserPrincipal me,
+            @RequestParam(defaultValue = "ACTIVE") ProjectStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "updatedAt, DESC") String sort) {
+
+        int limit = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        return service.listAfter(me.id(), status, ProjectSort.parse(sort), cursor, limit);
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<ProjectResponse>> create(
+            @AuthenticationPrincipal UserPrincipal me,
+            @RequestBody @Valid CreateProjectDto dto) {
+
+        return service.create(me.id(), dto).map(res -> ResponseEntity.status(HttpStatus.CREATED).body(res));
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<ProjectResponse>> get(
+            @AuthenticationPrincipal UserPrincipal me,
+            @PathVariable String id,
+            ServerWebExchange exchange) {
+        // Version-only lookup first; an unchanged project is answered with 304 and never loaded
+        // The day is part of the tag: overdue counts move at midnight without a version bump
+        return service.version(me.id(), id).map(v -> ETags.strong(v, ProjectService.today())).flatMap(etag -> exchange.checkNotModified(etag)
+                ? Mono.empty()
+                : service.get(me.id(), id).map(p -> ResponseEntity.ok().eTag(etag).body(p)));
+    }
+
+    // Board change feed (SSE); replaces polling the board
+    @GetMapping("/{id}/events")
+    public Flux<ServerSentEvent<ProjectEvent>> events(
+            @AuthenticationPrincipal UserPrincipal me,
+            @PathVariable String id) {
+        return service.version(me.id(), id) // ownership check
+                .flatMapMany(version -> events.subscribe(id, ProjectEvent.project(ProjectEvent.Type.CONNECTED, id, version)));
+    }
+
+    @PutMapping("/{id}")
+    public Mono<ProjectResponse> update(
+            @AuthenticationPrincipal UserPrincipal me,
+            @PathVariable String id,
+            @RequestBody @Valid UpdateProjectDto dto) {
+        return service.update(me.id(), id, dto);
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<JobResponse>> delete(
+            @AuthenticationPrincipal UserPrincipal me,
+            @PathVariable String id,
+            @RequestParam(defaultValue = "false") boolean force
+    ) {
+        if (!force) {
+            return Mono.just(ResponseEntity.status(HttpStatus.CONFLICT).build());
+        }
+        // Tasks are removed in the background; the client can poll the job
+        return service.hardDelete(me.id(), id)
+                .map(job -> ResponseEntity.accepted().location(URI.create("/api/jobs/" + job.getId())).body(job));
+    }
+}
@@ -0,0 +1,16 @@
+package dev.taskraum.backend.projects;
+
+import dev.taskraum.backend.common.enums.ProjectStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// Non-blocking twin of ProjectRepository for the "reactive" profile; same collection and indexes
+@Repository
+public interface ReactiveProjectRepository extends ReactiveMongoRepository<Project, String>, ReactiveProjectRepositoryCustom {
+    Flux<Project> findByOwnerIdAndStatus(String ownerId, ProjectStatus status, Pageable pageable);
+    Mono<Long> countByOwnerIdAndStatus(String ownerId, ProjectStatus status);
+    Mono<Project> findByIdAndOwnerId(String id, String ownerId);
+}
@@ -0,0 +1,19 @@
+package dev.taskraum.backend.projects;
+
+import dev.taskraum.backend.common.enums.ProjectStatus;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// Same queries as ProjectRepositoryCustom; an empty Mono stands for "not found"
+public interface ReactiveProjectRepositoryCustom {
+    Flux<Project> findPage(String ownerId, ProjectStatus status, ProjectSort sort, ProjectCursor after, int limit);
+
+    Mono<Long> findVersion(String id, String ownerId);
+
+    // Emits the new version, 0 if the project is gone
+    Mono<Long> incrementVersion(String id);
+
+    Mono<Long> incrementVersion(String id, TaskCounters counters);
+
+    Mono<Project> updateDetails(Project project);
+}
@@ -0,0 +1,42 @@
+package dev.taskraum.backend.projects;
+
+import dev.taskraum.backend.common.enums.ProjectStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RequiredArgsConstructor
+class ReactiveProjectRepositoryImpl implements ReactiveProjectRepositoryCustom {
+    private final ReactiveMongoTemplate mongo;
+
+    @Override
+    public Flux<Project> findPage(String ownerId, ProjectStatus status, ProjectSort sort, ProjectCursor after, int limit) {
+        return mongo.find(ProjectRepositoryImpl.pageQuery(ownerId, status, sort, after, limit), Project.class);
+    }
+
+    @Override
+    public Mono<Long> findVersion(String id, String ownerId) {
+        return mongo.findOne(ProjectRepositoryImpl.versionQuery(id, ownerId), Project.class).map(Project::getVersion);
+    }
+
+    @Override
+    public Mono<Long> incrementVersion(String id) {
+        return incrementVersion(id, TaskCounters.none());
+    }
+
+    @Override
+    public Mono<Long> incrementVersion(String id, TaskCounters counters) {
+        return mongo.findAndModify(ProjectRepositoryImpl.versionBumpQuery(id), ProjectRepositoryImpl.versionBump(counters),
+                        FindAndModifyOptions.options().returnNew(true), Project.class)
+                .map(Project::getVersion)
+                .defaultIfEmpty(0L);
+    }
+
+    @Override
+    public Mono<Project> updateDetails(Project project) {
+        return mongo.findAndModify(ProjectRepositoryImpl.ownedQuery(project), ProjectRepositoryImpl.detailsUpdate(project),
+                FindAndModifyOptions.options().returnNew(true), Project.class);
+    }
+}
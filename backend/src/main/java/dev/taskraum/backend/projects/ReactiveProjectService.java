@@ -0,0 +1,96 @@
+package dev.taskraum.backend.projects;
+
+import dev.taskraum.backend.common.CursorPage;
+import dev.taskraum.backend.common.enums.JobType;
+import dev.taskraum.backend.common.enums.ProjectStatus;
+import dev.taskraum.backend.events.ProjectEvent;
+import dev.taskraum.backend.events.ProjectEventHub;
+import dev.taskraum.backend.jobs.JobService;
+import dev.taskraum.backend.jobs.dto.JobResponse;
+import dev.taskraum.backend.projects.dto.CreateProjectDto;
+import dev.taskraum.backend.projects.dto.ProjectResponse;
+import dev.taskraum.backend.projects.dto.UpdateProjectDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * ProjectService on the reactive driver: same rules (shared static helpers), same error codes,
+ * same version counter and change feed.
+ */
+@Profile("reactive")
+@Service
+@RequiredArgsConstructor
+public class ReactiveProjectService {
+    private final ReactiveProjectRepository projectRepo;
+    private final ReactiveMongoTemplate mongo;
+    private final ProjectAccessCache projectAccess;
+    private final ProjectEventHub events;
+
+    private static <T> Mono<T> notFound() {
+        return Mono.error(() -> new IllegalArgumentException("PROJECT_NOT_FOUND"));
+    }
+
+    public Mono<Page<ProjectResponse>> list(String ownerId, ProjectStatus status, Pageable pageable) {
+        return projectRepo.findByOwnerIdAndStatus(ownerId, status, pageable)
+                .map(ProjectService::toResponse)
+                .collectList()
+                .zipWith(projectRepo.countByOwnerIdAndStatus(ownerId, status))
+                .map(t -> new PageImpl<>(t.getT1(), pageable, t.getT2()));
+    }
+
+    public Mono<CursorPage<ProjectResponse>> listAfter(String ownerId, ProjectStatus status, ProjectSort sort, String cursor, int size) {
+        // Deferred so a bad cursor surfaces as an error signal (INVALID_CURSOR -> 400)
+        return Mono.defer(() -> projectRepo
+                        .findPage(ownerId, status, sort, ProjectService.decodeCursor(cursor, sort), size + 1)
+                        .collectList())
+                .map(rows -> ProjectService.toCursorPage(rows, sort, size));
+    }
+
+    public Mono<ProjectResponse> create(String ownerId, CreateProjectDto dto) {
+        return projectRepo.save(ProjectService.newProject(ownerId, dto)).map(ProjectService::toResponse);
+    }
+
+    public Mono<Long> version(String ownerId, String id) {
+        return projectRepo.findVersion(id, ownerId).switchIfEmpty(notFound());
+    }
+
+    public Mono<ProjectResponse> get(String ownerId, String id) {
+        return projectRepo.findByIdAndOwnerId(id, ownerId)
+                .switchIfEmpty(notFound())
+                .map(ProjectService::toResponse);
+    }
+
+    public Mono<ProjectResponse> update(String ownerId, String id, UpdateProjectDto dto) {
+        return projectRepo.findByIdAndOwnerId(id, ownerId)
+                .switchIfEmpty(notFound())
+                .flatMap(p -> {
+                    ProjectService.applyUpdate(p, dto);
+                    return projectRepo.updateDetails(p);
+                })
+                .switchIfEmpty(notFound())
+                .doOnNext(saved -> {
+                    projectAccess.invalidate(ownerId, id);
+                    events.publish(ProjectEvent.project(ProjectEvent.Type.PROJECT_UPDATED, id, saved.getVersion()));
+                })
+                .map(ProjectService::toResponse);
+    }
+
+    // Same order as ProjectService.hardDelete: the cleanup job is stored before the project goes
+    public Mono<JobResponse> hardDelete(String ownerId, String id) {
+        return projectRepo.findByIdAndOwnerId(id, ownerId)
+                .switchIfEmpty(notFound())
+                .flatMap(p -> mongo.insert(JobService.pending(ownerId, JobType.PROJECT_DELETE, p.getId()))
+                        .flatMap(job -> projectRepo.delete(p).thenReturn(job)))
+                .doOnNext(job -> {
+                    projectAccess.invalidate(ownerId, id);
+                    events.close(ProjectEvent.project(ProjectEvent.Type.PROJECT_DELETED, id, null));
+                })
+                .map(JobService::toResponse);
+    }
+}
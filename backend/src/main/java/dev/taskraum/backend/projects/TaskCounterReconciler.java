@@ -0,0 +1,131 @@
+package dev.taskraum.backend.projects;
+
+import dev.taskraum.backend.common.enums.TaskStatus;
+import dev.taskraum.backend.tasks.Task;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rebuilds the task counters on Project from the tasks collection, one batch of projects at a time, and
+ * rewrites only the projects that drifted (writes that failed half-way, imports cut short, data from before
+ * the counters existed, due dates whose count went back to zero). A project whose version moved while its batch was counted is left for the next run.
+ */
+@Slf4j
+@Component
+public class TaskCounterReconciler {
+
+    record Counts(Map<String, Long> byStatus, Map<String, Long> openByDue) {
+        static final Counts EMPTY = new Counts(Map.of(), Map.of());
+    }
+
+    private final MongoTemplate mongo;
+    private final int batchSize;
+
+    public TaskCounterReconciler(
+            MongoTemplate mongo,
+            @Value("${taskraum.counters.batch-size:200}") int batchSize
+    ) {
+        this.mongo = mongo;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(initialDelayString = "${taskraum.counters.reconcile-initial-delay:PT1M}",
+            fixedDelayString = "${taskraum.counters.reconcile-delay:PT6H}")
+    public void reconcile() {
+        String after = null;
+        int checked = 0, fixed = 0;
+        while (true) {
+            List<Project> batch = page(after);
+            if (batch.isEmpty()) break;
+            checked += batch.size();
+            fixed += reconcile(batch);
+            after = batch.getLast().getId();
+        }
+        log.info("Task counters reconciled: {} projects checked, {} rewritten", checked, fixed);
+    }
+
+    // Returns how many projects were rewritten
+    int reconcile(List<Project> projects) {
+        Map<String, Counts> actual = count(projects.stream().map(Project::getId).toList());
+
+        var ops = mongo.bulkOps(BulkOperations.BulkMode.UNORDERED, Project.class);
+        int queued = 0;
+        for (Project p : projects) {
+            var counts = actual.getOrDefault(p.getId(), Counts.EMPTY);
+            // Zero due-date entries count as drift: the write paths only $inc, so each date ever used would stay
+            if (nonZero(p.getTaskCounts()).equals(counts.byStatus())
+                    && orEmpty(p.getOpenDueCounts()).equals(counts.openByDue())) continue;
+
+            // Guarded by the version read with the batch; no version bump, the board itself is unchanged
+            ops.updateOne(Query.query(Criteria.where("_id").is(p.getId()).and("version").is(p.getVersion())),
+                    new Update().set(TaskCounters.BY_STATUS, counts.byStatus())
+                            .set(TaskCounters.OPEN_BY_DUE, counts.openByDue()));
+            queued++;
+        }
+        return queued == 0 ? 0 : ops.execute().getModifiedCount();
+    }
+
+    private List<Project> page(String after) {
+        var query = new Query(after == null ? new Criteria() : Criteria.where("_id").gt(after))
+                .with(Sort.by("_id"))
+                .limit(batchSize);
+        query.fields().include("version").include(TaskCounters.BY_STATUS).include(TaskCounters.OPEN_BY_DUE);
+        return mongo.find(query, Project.class);
+    }
+
+    // One aggregation per batch over the {projectId, status, ...} index prefix
+    Map<String, Counts> count(List<String> projectIds) {
+        var aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("projectId").in(projectIds)),
+                Aggregation.group("projectId", "status", "dueDate").count().as("n"));
+
+        Map<String, Counts> counts = new HashMap<>();
+        for (Document row : mongo.aggregate(aggregation, Task.class, Document.class)) {
+            var id = row.get("_id", Document.class);
+            String status = id.getString("status");
+            LocalDate due = toLocalDate(id.get("dueDate"));
+            long n = ((Number) row.get("n")).longValue();
+
+            var c = counts.computeIfAbsent(id.getString("projectId"), k -> new Counts(new HashMap<>(), new HashMap<>()));
+            if (status != null) c.byStatus().merge(status, n, Long::sum);
+            if (due != null && !TaskStatus.DONE.name().equals(status)) c.openByDue().merge(due.toString(), n, Long::sum);
+        }
+        return counts;
+    }
+
+    // Same LocalDate <-> Date mapping as the entity converter uses when tasks are written
+    private LocalDate toLocalDate(Object value) {
+        return value instanceof Date date
+                ? mongo.getConverter().getConversionService().convert(date, LocalDate.class)
+                : null;
+    }
+
+    private static Map<String, Long> orEmpty(Map<String, Long> counts) {
+        return counts == null ? Map.of() : counts;
+    }
+
+    private static Map<String, Long> nonZero(Map<String, Long> counts) {
+        if (counts == null) return Map.of();
+        Map<String, Long> out = new HashMap<>();
+        counts.forEach((k, v) -> {
+            if (v != null && v != 0) out.put(k, v);
+        });
+        return out;
+    }
+}
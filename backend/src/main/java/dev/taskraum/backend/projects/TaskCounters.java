@@ -0,0 +1,76 @@
+package dev.taskraum.backend.projects;
+
+import dev.taskraum.backend.common.enums.TaskStatus;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * $inc deltas for the denormalised task counters on {@link Project}, collected by the task write paths and
+ * applied together with the version bump. A task counts once under its status and, while not DONE and
+ * with a due date, once under that date in {@code openDueCounts}.
+ */
+public final class TaskCounters {
+    static final String BY_STATUS = "taskCounts";
+    static final String OPEN_BY_DUE = "openDueCounts";
+
+    // Dotted field path -> delta
+    private final Map<String, Long> deltas = new HashMap<>();
+
+    private TaskCounters() {
+    }
+
+    public static TaskCounters none() {
+        return new TaskCounters();
+    }
+
+    public static TaskCounters added(TaskStatus status, LocalDate dueDate) {
+        return none().add(status, dueDate);
+    }
+
+    public static TaskCounters removed(TaskStatus status, LocalDate dueDate) {
+        return none().remove(status, dueDate);
+    }
+
+    public static TaskCounters changed(TaskStatus fromStatus, LocalDate fromDue, TaskStatus toStatus, LocalDate toDue) {
+        return none().change(fromStatus, fromDue, toStatus, toDue);
+    }
+
+    public TaskCounters add(TaskStatus status, LocalDate dueDate) {
+        return plus(status, dueDate, 1);
+    }
+
+    public TaskCounters remove(TaskStatus status, LocalDate dueDate) {
+        return plus(status, dueDate, -1);
+    }
+
+    public TaskCounters change(TaskStatus fromStatus, LocalDate fromDue, TaskStatus toStatus, LocalDate toDue) {
+        return plus(fromStatus, fromDue, -1).plus(toStatus, toDue, 1);
+    }
+
+    // Non-zero deltas by field path, e.g. taskCounts.DONE -> 1
+    public Map<String, Long> deltas() {
+        Map<String, Long> out = new HashMap<>();
+        deltas.forEach((field, n) -> {
+            if (n != 0) out.put(field, n);
+        });
+        return out;
+    }
+
+    Update applyTo(Update update) {
+        deltas().forEach(update::inc);
+        return update;
+    }
+
+    static boolean isOpen(TaskStatus status) {
+        return status != TaskStatus.DONE;
+    }
+
+    private TaskCounters plus(TaskStatus status, LocalDate dueDate, long n) {
+        if (status != null) deltas.merge(BY_STATUS + "." + status.name(), n, Long::sum);
+        if (dueDate != null && isOpen(status)) deltas.merge(OPEN_BY_DUE + "." + dueDate, n, Long::sum);
+        return this;
+    }
+}
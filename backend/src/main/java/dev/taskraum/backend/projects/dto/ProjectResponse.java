@@ -1,10 +1,12 @@
 package dev.taskraum.backend.projects.dto;
 
 import dev.taskraum.backend.common.enums.ProjectStatus;
+import dev.taskraum.backend.common.enums.TaskStatus;
 import lombok.Builder;
 import lombok.Value;
 
 import java.time.Instant;
+import java.util.Map;
 
 @Value
 @Builder
@@ -14,6 +16,13 @@ public class ProjectResponse {
     String title;
     String description;
     ProjectStatus status;
+    long version;
+    // Every status is present, 0 when empty
+    Map<TaskStatus, Long> taskCounts;
+    // Not DONE and due before today (UTC)
+    long overdueCount;
+    // DONE share of all tasks, rounded down; 0 for an empty project
+    int percentComplete;
     Instant createdAt;
     Instant updatedAt;
 }
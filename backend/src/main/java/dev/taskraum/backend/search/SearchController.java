@@ -0,0 +1,30 @@
+package dev.taskraum.backend.search;
+
+import dev.taskraum.backend.common.CursorPage;
+import dev.taskraum.backend.search.dto.SearchHit;
+import dev.taskraum.backend.security.UserPrincipal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+public class SearchController {
+    private static final int MAX_PAGE_SIZE = 50;
+
+    private final SearchService service;
+
+    // Best matches first; "cursor" from the previous page continues the same ranking
+    @GetMapping
+    public CursorPage<SearchHit> search(
+            @AuthenticationPrincipal UserPrincipal me,
+            @RequestParam String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return service.search(me.id(), q, cursor, Math.clamp(size, 1, MAX_PAGE_SIZE));
+    }
+}
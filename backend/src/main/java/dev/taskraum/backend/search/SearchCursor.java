@@ -0,0 +1,38 @@
+package dev.taskraum.backend.search;
+
+import dev.taskraum.backend.search.dto.SearchHit;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Comparator;
+
+/**
+ * Position after the last hit of a page. Hits are ordered by score (desc), then type (projects first),
+ * then id, so the order is total across both collections. Opaque to clients (base64url).
+ */
+record SearchCursor(double score, SearchHit.Type type, String id) {
+
+    static final Comparator<SearchHit> ORDER = Comparator.comparingDouble(SearchHit::getScore).reversed()
+            .thenComparing(SearchHit::getType)
+            .thenComparing(SearchHit::getId);
+
+    static SearchCursor after(SearchHit last) {
+        return new SearchCursor(last.getScore(), last.getType(), last.getId());
+    }
+
+    String encode() {
+        String raw = score + "\n" + type + "\n" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static SearchCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\n", 3);
+            if (parts.length < 3 || parts[2].isEmpty()) throw new IllegalArgumentException("INVALID_CURSOR");
+            return new SearchCursor(Double.parseDouble(parts[0]), SearchHit.Type.valueOf(parts[1]), parts[2]);
+        } catch (RuntimeException ex) {
+            throw new IllegalArgumentException("INVALID_CURSOR");
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package dev.taskraum.backend.search;
+
+import dev.taskraum.backend.common.CursorPage;
+import dev.taskraum.backend.projects.Project;
+import dev.taskraum.backend.search.dto.SearchHit;
+import dev.taskraum.backend.tasks.Task;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Ranked full-text search over the caller's projects and their tasks, on the weighted text indexes of
+ * both collections. Each collection returns its next {@code size + 1} hits after the cursor; the two
+ * lists are merged by {@link SearchCursor#ORDER}.
+ */
+@Service
+@RequiredArgsConstructor
+public class SearchService {
+    static final int MAX_QUERY_LENGTH = 200;
+
+    private static final AggregationOperation ADD_SCORE =
+            ctx -> new Document("$addFields", new Document("score", new Document("$meta", "textScore")));
+
+    private final MongoTemplate mongo;
+
+    public CursorPage<SearchHit> search(String ownerId, String q, String cursor, int size) {
+        String query = q == null ? "" : q.strip();
+        if (query.isEmpty() || query.length() > MAX_QUERY_LENGTH) throw new IllegalArgumentException("INVALID_QUERY");
+        SearchCursor after = (cursor == null || cursor.isEmpty()) ? null : SearchCursor.decode(cursor);
+
+        List<String> projectIds = ownedProjectIds(ownerId);
+        if (projectIds.isEmpty()) return new CursorPage<>(List.of(), null);
+
+        List<String> terms = Snippets.terms(query);
+        var hits = new ArrayList<SearchHit>(2 * size + 2);
+        find(SearchHit.Type.PROJECT, Criteria.where("ownerId").is(ownerId), query, after, size + 1)
+                .forEach(d -> hits.add(toHit(SearchHit.Type.PROJECT, d, terms)));
+        // Tasks of deleted projects (still being cleaned up) are out of scope along with their project
+        find(SearchHit.Type.TASK, Criteria.where("projectId").in(projectIds), query, after, size + 1)
+                .forEach(d -> hits.add(toHit(SearchHit.Type.TASK, d, terms)));
+        hits.sort(SearchCursor.ORDER);
+
+        List<SearchHit> page = hits.size() > size ? List.copyOf(hits.subList(0, size)) : hits;
+        String next = hits.size() > size ? SearchCursor.after(page.getLast()).encode() : null;
+        return new CursorPage<>(page, next);
+    }
+
+    private List<String> ownedProjectIds(String ownerId) {
+        var query = Query.query(Criteria.where("ownerId").is(ownerId));
+        query.fields().include("_id");
+        return mongo.find(query, Project.class).stream().map(Project::getId).toList();
+    }
+
+    private List<Document> find(SearchHit.Type type, Criteria scope, String q, SearchCursor after, int limit) {
+        var stages = new ArrayList<AggregationOperation>();
+        // $text has to be in the first stage; the scope $match is merged into it by the server
+        stages.add(Aggregation.match(TextCriteria.forDefaultLanguage().matching(q)));
+        stages.add(Aggregation.match(scope));
+        stages.add(ADD_SCORE);
+        if (after != null) stages.add(Aggregation.match(afterCursor(type, after)));
+        stages.add(Aggregation.sort(Sort.by(Sort.Order.desc("score"), Sort.Order.asc("_id"))));
+        stages.add(Aggregation.limit(limit));
+        stages.add(type == SearchHit.Type.TASK
+                ? Aggregation.project("projectId", "title", "description", "status", "score")
+                : Aggregation.project("title", "description", "status", "score"));
+
+        Class<?> entity = type == SearchHit.Type.TASK ? Task.class : Project.class;
+        return mongo.aggregate(Aggregation.newAggregation(stages), mongo.getCollectionName(entity), Document.class)
+                .getMappedResults();
+    }
+
+    /** Hits of {@code type} that sort after the cursor: lower score, or same score and later (type, id). */
+    static Criteria afterCursor(SearchHit.Type type, SearchCursor after) {
+        int cmp = type.compareTo(after.type());
+        if (cmp > 0) return Criteria.where("score").lte(after.score());
+        if (cmp < 0) return Criteria.where("score").lt(after.score());
+        return new Criteria().orOperator(
+                Criteria.where("score").lt(after.score()),
+                Criteria.where("score").is(after.score()).and("_id").gt(objectId(after.id())));
+    }
+
+    private static Object objectId(String id) {
+        return ObjectId.isValid(id) ? new ObjectId(id) : id;
+    }
+
+    private static SearchHit toHit(SearchHit.Type type, Document d, List<String> terms) {
+        String title = d.getString("title");
+        String snippet = Snippets.snippet(d.getString("description"), terms);
+        String id = d.get("_id") instanceof ObjectId oid ? oid.toHexString() : String.valueOf(d.get("_id"));
+        return SearchHit.builder()
+                .type(type)
+                .id(id)
+                .projectId(type == SearchHit.Type.TASK ? d.getString("projectId") : id)
+                .title(title)
+                .status(d.getString("status"))
+                .score(d.get("score", Number.class).doubleValue())
+                .snippet(snippet)
+                .titleHighlights(Snippets.highlights(title, terms))
+                .snippetHighlights(Snippets.highlights(snippet, terms))
+                .build();
+    }
+}
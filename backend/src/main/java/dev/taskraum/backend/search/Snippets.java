@@ -0,0 +1,75 @@
+package dev.taskraum.backend.search;
+
+import dev.taskraum.backend.search.dto.SearchHit.Highlight;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Snippets and highlight ranges for search hits. Matching is by word prefix, which covers what the
+ * text index's stemming matches in practice ("deploy" finds "deployment").
+ */
+final class Snippets {
+    static final int LENGTH = 160;
+    private static final int LEAD = 40;
+
+    private Snippets() {}
+
+    /** Lower-cased search words; negated words ("-foo") and operators are dropped. */
+    static List<String> terms(String q) {
+        return Arrays.stream(q.split("\\s+"))
+                .filter(w -> !w.startsWith("-"))
+                .map(w -> w.replaceAll("[^\\p{L}\\p{N}]", "").toLowerCase(Locale.ROOT))
+                .filter(w -> !w.isEmpty())
+                .distinct()
+                .toList();
+    }
+
+    /** Up to LENGTH chars of {@code text} around the first match, ellipsised where cut. */
+    static String snippet(String text, List<String> terms) {
+        if (text == null || text.isBlank()) return null;
+        String flat = text.strip().replaceAll("\\s+", " ");
+        if (flat.length() <= LENGTH) return flat;
+
+        var first = highlights(flat, terms).stream().findFirst();
+        int start = first.map(h -> Math.max(0, h.start() - LEAD)).orElse(0);
+        start = Math.min(start, flat.length() - LENGTH);
+        // Don't start or end in the middle of a word
+        if (start > 0) {
+            int space = flat.indexOf(' ', start);
+            if (space >= 0 && space < start + LEAD) start = space + 1;
+        }
+        int end = Math.min(flat.length(), start + LENGTH);
+        if (end < flat.length()) {
+            int space = flat.lastIndexOf(' ', end);
+            if (space > start) end = space;
+        }
+        return (start > 0 ? "…" : "") + flat.substring(start, end) + (end < flat.length() ? "…" : "");
+    }
+
+    /** Ranges of words in {@code text} that start with one of the terms, in text order. */
+    static List<Highlight> highlights(String text, List<String> terms) {
+        var out = new ArrayList<Highlight>();
+        if (text == null || terms.isEmpty()) return out;
+        String lower = text.toLowerCase(Locale.ROOT);
+        int i = 0;
+        while (i < lower.length()) {
+            if (!Character.isLetterOrDigit(lower.charAt(i))) {
+                i++;
+                continue;
+            }
+            int end = i;
+            while (end < lower.length() && Character.isLetterOrDigit(lower.charAt(end))) end++;
+            for (String term : terms) {
+                if (lower.startsWith(term, i)) {
+                    out.add(new Highlight(i, end));
+                    break;
+                }
+            }
+            i = end;
+        }
+        return out;
+    }
+}
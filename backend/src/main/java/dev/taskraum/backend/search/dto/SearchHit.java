@@ -0,0 +1,26 @@
+package dev.taskraum.backend.search.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+// One search result; highlights are character ranges into title and snippet, the client does the markup
+@Value
+@Builder
+public class SearchHit {
+    public enum Type { PROJECT, TASK }
+
+    public record Highlight(int start, int end) {}
+
+    Type type;
+    String id;
+    String projectId;
+    String title;
+    // TaskStatus for tasks, ProjectStatus for projects
+    String status;
+    double score;
+    String snippet;
+    List<Highlight> titleHighlights;
+    List<Highlight> snippetHighlights;
+}
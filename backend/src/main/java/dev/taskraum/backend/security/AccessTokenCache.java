@@ -0,0 +1,70 @@
+package dev.taskraum.backend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.lang.NonNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Date;
+
+/**
+ * Principals of already verified access tokens, kept until the token's own expiry.
+ * Keys are SHA-256 digests so raw tokens never sit in memory longer than the request.
+ */
+@Component
+public class AccessTokenCache implements MeterBinder {
+
+    private record Entry(UserPrincipal principal, long expiresAtMs) {}
+
+    private final Cache<ByteBuffer, Entry> cache;
+
+    public AccessTokenCache(@Value("${jwt.cacheSize:10000}") long maxSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(Expiry.<ByteBuffer, Entry>creating(
+                        (k, e) -> Duration.ofMillis(Math.max(0, e.expiresAtMs() - System.currentTimeMillis()))))
+                .recordStats()
+                .build();
+    }
+
+    public UserPrincipal get(String token) {
+        Entry e = cache.getIfPresent(digest(token));
+        // Expiry is lazy in Caffeine, so re-check against the clock
+        return (e != null && e.expiresAtMs() > System.currentTimeMillis()) ? e.principal() : null;
+    }
+
+    public void put(String token, UserPrincipal principal, Date expiration) {
+        if (expiration == null) return;
+        cache.put(digest(token), new Entry(principal, expiration.getTime()));
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    // cache.gets{cache=accessTokens,result=hit|miss}, evictions, size
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "accessTokens");
+    }
+
+    private static ByteBuffer digest(String token) {
+        try {
+            return ByteBuffer.wrap(MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
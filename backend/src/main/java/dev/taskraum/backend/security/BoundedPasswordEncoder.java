@@ -0,0 +1,147 @@
+package dev.taskraum.backend.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The application's PasswordEncoder: {@link PasswordHashingScheme} (BCrypt or Argon2 at a calibrated cost),
+ * run on a small dedicated pool instead of the request thread.
+ * At most {@code threads} hashes run at once, so a burst of logins cannot take every core from the rest of
+ * the API, and at most {@code queue-capacity} wait for a turn. Beyond that a call fails at once with
+ * {@link HashingBusyException} (429) rather than holding a request thread for seconds.
+ * <p>
+ * Meters: taskraum.password.hash{operation} (time on the pool), taskraum.password.hash.wait (time queued),
+ * taskraum.password.hash.queue, taskraum.password.hash.active and taskraum.password.hash.rejected.
+ */
+@Component
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor pool;
+    private final Duration retryAfter;
+    private final Timer encodeTime;
+    private final Timer matchesTime;
+    private final Timer waitTime;
+    private final Counter rejected;
+
+    @Autowired
+    public BoundedPasswordEncoder(
+            // 0: half the cores, at least one
+            @Value("${taskraum.password-hashing.threads:0}") int threads,
+            @Value("${taskraum.password-hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${taskraum.password-hashing.retry-after:PT1S}") Duration retryAfter,
+            @Value("${taskraum.password-hashing.algorithm:bcrypt}") String algorithm,
+            // BCrypt log rounds or Argon2 iterations; 0: calibrated against the target
+            @Value("${taskraum.password-hashing.cost:0}") int cost,
+            @Value("${taskraum.password-hashing.target:PT0.1S}") Duration target,
+            MeterRegistry registry
+    ) {
+        this(PasswordHashingScheme.create(algorithm, cost, target),
+                threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2),
+                queueCapacity, retryAfter, registry);
+    }
+
+    BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, Duration retryAfter,
+                           MeterRegistry registry) {
+        this.delegate = delegate;
+        this.retryAfter = retryAfter;
+        // CPU-bound work: platform threads, as many as may hash at once
+        this.pool = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("password-hash-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.encodeTime = hashTimer(registry, "encode");
+        this.matchesTime = hashTimer(registry, "matches");
+        this.waitTime = Timer.builder("taskraum.password.hash.wait")
+                .description("Time a password hash waited for a pool thread")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.rejected = Counter.builder("taskraum.password.hash.rejected")
+                .description("Password hashes turned away because the queue was full")
+                .register(registry);
+        Gauge.builder("taskraum.password.hash.queue", pool, p -> p.getQueue().size())
+                .description("Password hashes waiting for a pool thread")
+                .register(registry);
+        Gauge.builder("taskraum.password.hash.active", pool, ThreadPoolExecutor::getActiveCount)
+                .description("Password hashes running")
+                .register(registry);
+    }
+
+    private static Timer hashTimer(MeterRegistry registry, String operation) {
+        return Timer.builder("taskraum.password.hash")
+                .description("Time spent computing a password hash")
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    @PreDestroy
+    void stop() {
+        pool.shutdownNow();
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(encodeTime, () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(matchesTime, () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    // Reads the stored hash's parameters only; no need for the pool
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T run(Timer hashTime, Callable<T> hash) {
+        long queuedAt = System.nanoTime();
+        Future<T> result;
+        try {
+            result = pool.submit(() -> {
+                long startedAt = System.nanoTime();
+                waitTime.record(startedAt - queuedAt, TimeUnit.NANOSECONDS);
+                try {
+                    return hash.call();
+                } finally {
+                    hashTime.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            rejected.increment();
+            throw new HashingBusyException(retryAfter);
+        }
+
+        // The wait is bounded: the queue holds at most queue-capacity hashes ahead of this one
+        try {
+            return result.get();
+        } catch (InterruptedException ex) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for a password hash", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException re) throw re;
+            if (ex.getCause() instanceof Error err) throw err;
+            throw new RuntimeException(ex.getCause());
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package dev.taskraum.backend.security;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/** The password hashing pool and its queue are full; answered with 429 and a Retry-After. */
+@Getter
+public class HashingBusyException extends RuntimeException {
+    private final Duration retryAfter;
+
+    public HashingBusyException(Duration retryAfter) {
+        super("Too many password checks in progress, try again shortly");
+        this.retryAfter = retryAfter;
+    }
+}
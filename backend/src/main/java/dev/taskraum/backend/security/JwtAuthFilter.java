@@ -17,14 +17,19 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
 import java.util.List;
 
-@Profile("!test")
+@Profile("!test & !reactive")
 @Component
 public class JwtAuthFilter extends OncePerRequestFilter {
 
+    static final List<SimpleGrantedAuthority> USER_AUTHORITIES =
+            List.of(new SimpleGrantedAuthority("ROLE_USER"));
+
     private final JwtUtil jwt;
+    private final AccessTokenCache tokens;
 
-    public JwtAuthFilter(JwtUtil jwt) {
+    public JwtAuthFilter(JwtUtil jwt, AccessTokenCache tokens) {
         this.jwt = jwt;
+        this.tokens = tokens;
     }
 
     @Override
@@ -36,14 +41,9 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         try {
             String token = cookie(req);
             if (token != null && !token.isBlank()) {
-                var claims = jwt.parse(token);
-                if ("access".equals(claims.get("typ"))) {
-                    var userId = claims.getSubject();
-                    var email = (String) claims.get("email");
-                    var auth = new UsernamePasswordAuthenticationToken(
-                            new UserPrincipal(userId, email),
-                            null,
-                            List.of(new SimpleGrantedAuthority("ROLE_USER")));
+                var principal = principal(jwt, tokens, token);
+                if (principal != null) {
+                    var auth = new UsernamePasswordAuthenticationToken(principal, null, USER_AUTHORITIES);
                     SecurityContextHolder.getContext().setAuthentication(auth);
                 }
             }
@@ -53,6 +53,20 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         chain.doFilter(req, res);
     }
 
+    // Verified tokens are served from the cache until they expire; only the first request pays for HMAC + JSON.
+    // Shared with JwtAuthWebFilter.
+    static UserPrincipal principal(JwtUtil jwt, AccessTokenCache tokens, String token) {
+        var cached = tokens.get(token);
+        if (cached != null) return cached;
+
+        var claims = jwt.parse(token);
+        if (!"access".equals(claims.get("typ"))) return null;
+
+        var principal = new UserPrincipal(claims.getSubject(), (String) claims.get("email"));
+        tokens.put(token, principal, claims.getExpiration());
+        return principal;
+    }
+
     private String cookie(HttpServletRequest req) {
         var cookies =  req.getCookies();
         if (cookies == null) return null;
@@ -0,0 +1,45 @@
+package dev.taskraum.backend.security;
+
+import io.jsonwebtoken.JwtException;
+import org.springframework.http.HttpCookie;
+import org.springframework.lang.NonNull;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive equivalent of {@link JwtAuthFilter}: same "access" cookie, same token cache.
+ * Not a bean on purpose; ReactiveSecurityConfig places it in the security filter chain.
+ */
+public class JwtAuthWebFilter implements WebFilter {
+
+    private final JwtUtil jwt;
+    private final AccessTokenCache tokens;
+
+    public JwtAuthWebFilter(JwtUtil jwt, AccessTokenCache tokens) {
+        this.jwt = jwt;
+        this.tokens = tokens;
+    }
+
+    @Override
+    @NonNull
+    public Mono<Void> filter(@NonNull ServerWebExchange exchange, @NonNull WebFilterChain chain) {
+        HttpCookie cookie = exchange.getRequest().getCookies().getFirst("access");
+        if (cookie == null || cookie.getValue().isBlank()) return chain.filter(exchange);
+
+        UserPrincipal principal;
+        try {
+            // Cache hits never leave the event loop; a miss costs one HMAC check, still CPU-only
+            principal = JwtAuthFilter.principal(jwt, tokens, cookie.getValue());
+        } catch (JwtException ignored) {
+            principal = null;
+        }
+        if (principal == null) return chain.filter(exchange);
+
+        var auth = new UsernamePasswordAuthenticationToken(principal, null, JwtAuthFilter.USER_AUTHORITIES);
+        return chain.filter(exchange).contextWrite(ReactiveSecurityContextHolder.withAuthentication(auth));
+    }
+}
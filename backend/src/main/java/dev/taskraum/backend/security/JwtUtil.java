@@ -2,6 +2,7 @@ package dev.taskraum.backend.security;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -21,6 +22,7 @@ public class JwtUtil {
     private final String REFRESH = "refresh";
 
     private final SecretKey key;
+    private final JwtParser parser;
     private final long accessMs;
     private final long refreshMs;
 
@@ -37,6 +39,8 @@ public class JwtUtil {
             k = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
         }
         this.key = k;
+        // Immutable and thread-safe, build once
+        this.parser = Jwts.parser().verifyWith(k).build();
         this.accessMs = Duration.ofMinutes(accessMinutes).toMillis();
         this.refreshMs = Duration.ofDays(refreshDays).toMillis();
     }
@@ -65,8 +69,7 @@ public class JwtUtil {
 
     public Claims parse(String token) throws JwtException {
         // throws JwtException on invalid/expired tokens
-        return Jwts.parser().verifyWith(key).build()
-                .parseSignedClaims(token)
+        return parser.parseSignedClaims(token)
                 .getPayload();
     }
 
@@ -0,0 +1,102 @@
+package dev.taskraum.backend.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.IntFunction;
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * How new password hashes are made and stored ones recognised. Hashes carry an "{id}" prefix as with
+ * Spring's DelegatingPasswordEncoder; hashes from before the prefix are plain BCrypt.
+ * <p>
+ * The configured algorithm's cost (BCrypt log rounds, Argon2 iterations) is either fixed or calibrated at
+ * startup so that one hash takes about {@code target} on this machine, never below the former defaults.
+ * A stored hash with another algorithm or a lower cost reports {@code upgradeEncoding} and is rewritten by
+ * UserService on the next successful login.
+ */
+@Slf4j
+final class PasswordHashingScheme {
+    static final String BCRYPT = "bcrypt";
+    static final String ARGON2 = "argon2";
+
+    // BCryptPasswordEncoder's default; every step doubles the time
+    static final int MIN_BCRYPT_STRENGTH = 10;
+    static final int MAX_BCRYPT_STRENGTH = 16;
+    // Spring Security 5.8 defaults (16 MiB, 2 passes); time grows linearly with the passes
+    static final int MIN_ARGON2_ITERATIONS = 2;
+    static final int MAX_ARGON2_ITERATIONS = 16;
+    private static final int ARGON2_MEMORY_KIB = 1 << 14;
+
+    private static final String SAMPLE_PASSWORD = "calibration-sample";
+
+    private PasswordHashingScheme() {}
+
+    /** {@code cost <= 0} calibrates the cost of {@code algorithm} against {@code target}. */
+    static PasswordEncoder create(String algorithm, int cost, Duration target) {
+        var calibrated = switch (algorithm) {
+            case BCRYPT -> cost > 0 ? cost : calibrate(algorithm, target, MIN_BCRYPT_STRENGTH, MAX_BCRYPT_STRENGTH,
+                    PasswordHashingScheme::bcrypt, strength -> Math.pow(2, strength));
+            case ARGON2 -> cost > 0 ? cost : calibrate(algorithm, target, MIN_ARGON2_ITERATIONS, MAX_ARGON2_ITERATIONS,
+                    PasswordHashingScheme::argon2, iterations -> iterations);
+            default -> throw new IllegalArgumentException("Unknown password hashing algorithm: " + algorithm);
+        };
+        log.info("Password hashing: {} at cost {}", algorithm, calibrated);
+
+        // Both stay available for matching: the cost of a stored hash is read from the hash itself
+        var bcrypt = bcrypt(algorithm.equals(BCRYPT) ? calibrated : MIN_BCRYPT_STRENGTH);
+        var argon2 = argon2(algorithm.equals(ARGON2) ? calibrated : MIN_ARGON2_ITERATIONS);
+        var encoder = new DelegatingPasswordEncoder(algorithm, Map.of(BCRYPT, bcrypt, ARGON2, argon2));
+        // Hashes stored before the {id} prefix; they always report upgradeEncoding and get the prefix on login
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
+    }
+
+    static PasswordEncoder bcrypt(int strength) {
+        return new BCryptPasswordEncoder(strength);
+    }
+
+    static PasswordEncoder argon2(int iterations) {
+        return new Argon2PasswordEncoder(16, 32, 1, ARGON2_MEMORY_KIB, iterations);
+    }
+
+    private static int calibrate(String algorithm, Duration target, int min, int max,
+                                 IntFunction<PasswordEncoder> encoder, IntToDoubleFunction growth) {
+        long nanos = medianNanos(encoder.apply(min));
+        int cost = highestCostWithin(target, min, max, nanos, growth);
+        log.info("Password hashing calibration: {} at cost {} took {} ms, target {} ms",
+                algorithm, min, nanos / 1_000_000, target.toMillis());
+        return cost;
+    }
+
+    /**
+     * Highest cost in [min, max] whose predicted time fits the target, from one measurement at {@code min}:
+     * time(cost) = time(min) * growth(cost) / growth(min). Never below {@code min}, even on slow hardware.
+     */
+    static int highestCostWithin(Duration target, int min, int max, long nanosAtMin, IntToDoubleFunction growth) {
+        int cost = min;
+        while (cost < max && nanosAtMin * growth.applyAsDouble(cost + 1) / growth.applyAsDouble(min) <= target.toNanos()) {
+            cost++;
+        }
+        return cost;
+    }
+
+    // One warm-up hash, then the median of three
+    private static long medianNanos(PasswordEncoder encoder) {
+        encoder.encode(SAMPLE_PASSWORD);
+        long[] samples = new long[3];
+        for (int i = 0; i < samples.length; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples[1];
+    }
+}
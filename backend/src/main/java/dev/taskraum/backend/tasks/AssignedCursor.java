@@ -0,0 +1,52 @@
+package dev.taskraum.backend.tasks;
+
+import dev.taskraum.backend.common.enums.TaskPriority;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Position after the last task of an "assigned to me" page. Tasks are ordered by due date (undated last),
+ * then priority (HIGH first, unset last), then id. Opaque to clients (base64url).
+ */
+record AssignedCursor(LocalDate dueDate, TaskPriority priority, String id) {
+
+    // Priorities in page order; null (unset) is a value of its own, after LOW
+    static final List<TaskPriority> PRIORITIES = Arrays.asList(TaskPriority.HIGH, TaskPriority.MEDIUM, TaskPriority.LOW, null);
+
+    static final Comparator<Task> ORDER = Comparator
+            .comparing(Task::getDueDate, Comparator.nullsLast(Comparator.<LocalDate>naturalOrder()))
+            .thenComparingInt(t -> rank(t.getPriority()))
+            .thenComparing(Task::getId);
+
+    static int rank(TaskPriority priority) {
+        return PRIORITIES.indexOf(priority);
+    }
+
+    static AssignedCursor after(Task last) {
+        return new AssignedCursor(last.getDueDate(), last.getPriority(), last.getId());
+    }
+
+    String encode() {
+        String raw = (dueDate != null ? dueDate.toString() : "") + "\n" + (priority != null ? priority.name() : "") + "\n" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static AssignedCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\n", 3);
+            if (parts.length < 3 || parts[2].isEmpty()) throw new IllegalArgumentException("INVALID_CURSOR");
+            return new AssignedCursor(
+                    parts[0].isEmpty() ? null : LocalDate.parse(parts[0]),
+                    parts[1].isEmpty() ? null : TaskPriority.valueOf(parts[1]),
+                    parts[2]);
+        } catch (RuntimeException ex) {
+            throw new IllegalArgumentException("INVALID_CURSOR");
+        }
+    }
+}
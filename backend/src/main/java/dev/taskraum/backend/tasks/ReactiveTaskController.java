@@ -0,0 +1,139 @@
+package dev.taskraum.backend.tasks;
+
+import dev.taskraum.backend.common.CursorPage;
+import dev.taskraum.backend.common.ETags;
+import dev.taskraum.backend.common.enums.TaskStatus;
+import dev.taskraum.backend.security.UserPrincipal;
+import dev.taskraum.backend.tasks.dto.BoardResponse;
+import dev.taskraum.backend.tasks.dto.MoveTaskDto;
+import dev.taskraum.backend.tasks.dto.ReorderTasksDto;
+import dev.taskraum.backend.tasks.dto.TaskDto;
+import dev.taskraum.backend.tasks.dto.TaskImportResult;
+import dev.taskraum.backend.tasks.dto.TaskOrderResult;
+import dev.taskraum.backend.tasks.dto.TaskResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Set;
+
+/** TaskController on WebFlux ("reactive" profile); same paths, parameters and response bodies. */
+@Profile("reactive")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api")
+public class ReactiveTaskController {
+    private static final int MAX_PAGE_SIZE = 50;
+
+    private final ReactiveTaskService service;
+
+    // Column listing (one call per column)
+    @GetMapping("/projects/{projectId}/tasks")
+    public Flux<TaskResponse> list(
+            @AuthenticationPrincipal UserPrincipal me,
+            @PathVariable String projectId,
+            @RequestParam TaskStatus status) {
+        return service.list(me.id(), projectId, status);
+    }
+
+    // Whole board in one call; optional status subset (?status=TODO,DONE)
+    @GetMapping("/projects/{projectId}/board")
+    public Mono<ResponseEntity<BoardResponse>> board(
+            @AuthenticationPrincipal UserPrincipal me,
+            @PathVariable String projectId,
+            @RequestParam(required = false) Set<TaskStatus> status,
+            ServerWebExchange exchange) {
+        // Read the version before the tasks: a change in between only makes the ETag older, never newer
+        return service.boardVersion(me.id(), projectId).map(ETags::strong).flatMap(etag -> exchange.checkNotModified(etag)
+                ? Mono.empty()
+                : service.board(me.id(), projectId, status).map(b -> ResponseEntity.ok().eTag(etag).body(b)));
+    }
+
+    @PostMapping("/projects/{projectId}/tasks")
+    public Mono<ResponseEntity<TaskResponse>> create(
+            @AuthenticationPrincipal UserPrincipal me,
+            @PathVariable String projectId,
+            @RequestBody @Valid TaskDto dto
+    ) {
+        return service.create(me.id(), projectId, dto).map(res -> ResponseEntity.status(HttpStatus.CREATED).body(res));
+    }
+
+    // Bulk import from other trackers: text/csv with a header row, or JSON array / NDJSON of objects
+    @PostMapping("/projects/{projectId}/tasks/import")
+    public Mono<TaskImportResult> importTasks(
+            @AuthenticationPrincipal UserPrincipal me,
+            @PathVariable String projectId,
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+            @RequestBody Flux<DataBuffer> body
+    ) {
+        boolean csv = contentType == null || contentType.toLowerCase().contains("csv");
+        return service.importTasks(me.id(), projectId, csv, body);
+    }
+
+    // Column reshuffle: ownership checked once, one bulkWrite, per-item outcome
+    @PatchMapping("/projects/{projectId}/tasks/order")
+    public Mono<List<TaskOrderResult>> reorder(
+            @AuthenticationPrincipal UserPrincipal me,
+            @PathVariable String projectId,
+            @RequestBody @Valid ReorderTasksDto dto
+    ) {
+        return service.reorder(me.id(), projectId, dto);
+    }
+
+    // Tasks assigned to the caller across all projects (?status=TODO,DONE; open ones by default)
+    @GetMapping("/tasks/assigned")
+    public Mono<CursorPage<TaskResponse>> assigned(
+            @AuthenticationPrincipal UserPrincipal me,
+            @RequestParam(required = false) Set<TaskStatus> status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return service.assigned(me.id(), status, cursor, Math.clamp(size, 1, MAX_PAGE_SIZE));
+    }
+
+    // Full task incl. description; the board only carries cards
+    @GetMapping("/tasks/{id}")
+    public Mono<TaskResponse> get(
+            @AuthenticationPrincipal UserPrincipal me,
+            @PathVariable String id
+    ) {
+        return service.get(me.id(), id);
+    }
+
+    @PutMapping("/tasks/{id}")
+    public Mono<TaskResponse> update(
+            @AuthenticationPrincipal UserPrincipal me,
+            @PathVariable String id,
+            @RequestBody @Valid TaskDto dto
+    ) {
+        return service.update(me.id(), id, dto);
+    }
+
+    // Drag & drop: place between two neighbours, single write
+    @PostMapping("/tasks/{id}/move")
+    public Mono<TaskResponse> move(
+            @AuthenticationPrincipal UserPrincipal me,
+            @PathVariable String id,
+            @RequestBody MoveTaskDto dto
+    ) {
+        return service.move(me.id(), id, dto);
+    }
+
+    @DeleteMapping("/tasks/{id}")
+    public Mono<ResponseEntity<Void>> delete(
+            @AuthenticationPrincipal UserPrincipal me,
+            @PathVariable String id
+    ) {
+        return service.delete(me.id(), id).thenReturn(ResponseEntity.noContent().<Void>build());
+    }
+}
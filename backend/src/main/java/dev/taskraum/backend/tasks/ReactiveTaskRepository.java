@@ -0,0 +1,17 @@
+package dev.taskraum.backend.tasks;
+
+import dev.taskraum.backend.common.enums.TaskStatus;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+// Non-blocking twin of TaskRepository for the "reactive" profile
+public interface ReactiveTaskRepository extends ReactiveMongoRepository<Task, String>, ReactiveTaskRepositoryCustom {
+    Flux<Task> findByProjectIdAndStatusOrderByRankAsc(String projectId, TaskStatus status);
+    @Query(fields = "{'status':1,'rank':1,'order':1,'title':1,'priority':1,'dueDate':1,'assigneeId':1}")
+    Flux<Task> findCardsByProjectIdAndStatusInOrderByStatusAscRankAsc(String projectId, Collection<TaskStatus> statuses);
+    Mono<Boolean> existsByProjectIdAndStatusInAndIdNotIn(String projectId, Collection<TaskStatus> statuses, Collection<String> ids);
+}
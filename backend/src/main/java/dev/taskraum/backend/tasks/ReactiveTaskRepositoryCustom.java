@@ -0,0 +1,17 @@
+package dev.taskraum.backend.tasks;
+
+import dev.taskraum.backend.common.enums.TaskStatus;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+// Same operations as TaskRepositoryCustom
+public interface ReactiveTaskRepositoryCustom {
+    Mono<Map<String, Task>> findInProject(String projectId, Collection<String> ids);
+
+    Mono<Map<String, String>> applyPlacements(String projectId, List<TaskPlacement> placements);
+
+    Mono<List<Task>> findAssigned(String assigneeId, Collection<TaskStatus> statuses, AssignedCursor after, int limit);
+}
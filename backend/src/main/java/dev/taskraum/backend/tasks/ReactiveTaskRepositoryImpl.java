@@ -0,0 +1,75 @@
+package dev.taskraum.backend.tasks;
+
+import com.mongodb.MongoBulkWriteException;
+import dev.taskraum.backend.common.enums.TaskStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+class ReactiveTaskRepositoryImpl implements ReactiveTaskRepositoryCustom {
+    private final ReactiveMongoTemplate mongo;
+
+    @Override
+    public Mono<Map<String, Task>> findInProject(String projectId, Collection<String> ids) {
+        return mongo.find(TaskRepositoryImpl.inProjectQuery(projectId, ids), Task.class)
+                .collectMap(Task::getId);
+    }
+
+    @Override
+    public Mono<Map<String, String>> applyPlacements(String projectId, List<TaskPlacement> placements) {
+        if (placements.isEmpty()) return Mono.just(Map.of());
+
+        var ops = mongo.bulkOps(BulkOperations.BulkMode.UNORDERED, Task.class);
+        for (TaskPlacement p : placements) {
+            ops.updateOne(TaskRepositoryImpl.placementQuery(projectId, p), TaskRepositoryImpl.placementUpdate(p));
+        }
+
+        return ops.execute()
+                .map(result -> new BulkOutcome(result.getMatchedCount(), new HashMap<>()))
+                .onErrorResume(BulkOperationException.class, ex -> Mono.just(
+                        new BulkOutcome(ex.getResult().getMatchedCount(), TaskRepositoryImpl.failedPlacements(placements, ex))))
+                // The reactive bulk path may hand back the driver exception untranslated
+                .onErrorResume(MongoBulkWriteException.class, ex -> {
+                    Map<String, String> failed = new HashMap<>();
+                    ex.getWriteErrors().forEach(e -> failed.put(placements.get(e.getIndex()).taskId(), e.getMessage()));
+                    return Mono.just(new BulkOutcome(ex.getWriteResult().getMatchedCount(), failed));
+                })
+                .flatMap(outcome -> outcome.matched() >= placements.size() - outcome.failed().size()
+                        ? Mono.just(outcome.failed())
+                        : findInProject(projectId, TaskRepositoryImpl.writtenIds(placements, outcome.failed()))
+                                .map(found -> TaskRepositoryImpl.markDeleted(placements, outcome.failed(), found.keySet())));
+    }
+
+    private record BulkOutcome(int matched, Map<String, String> failed) {}
+
+    @Override
+    public Mono<List<Task>> findAssigned(String assigneeId, Collection<TaskStatus> statuses, AssignedCursor after, int limit) {
+        var undated = TaskRepositoryImpl.assignedUndatedQueries(assigneeId, statuses, after, limit);
+        return Flux.fromIterable(TaskRepositoryImpl.assignedDatedQueries(assigneeId, statuses, after, limit))
+                .concatMap(q -> mongo.find(q, Task.class))
+                .collectList()
+                .flatMap(dated -> dated.size() >= limit
+                        ? Mono.just(dated)
+                        // In page order already; take() cancels the queries that are no longer needed
+                        : Flux.fromIterable(undated)
+                                .concatMap(q -> mongo.find(q, Task.class))
+                                .take(limit - dated.size())
+                                .collectList()
+                                .map(rest -> {
+                                    List<Task> all = new ArrayList<>(dated);
+                                    all.addAll(rest);
+                                    return all;
+                                }))
+                .map(found -> TaskRepositoryImpl.firstAssigned(found, limit));
+    }
+}
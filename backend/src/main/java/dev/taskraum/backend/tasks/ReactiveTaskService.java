@@ -0,0 +1,203 @@
+package dev.taskraum.backend.tasks;
+
+import dev.taskraum.backend.common.CursorPage;
+import dev.taskraum.backend.common.enums.ProjectStatus;
+import dev.taskraum.backend.common.enums.TaskStatus;
+import dev.taskraum.backend.events.ProjectEvent;
+import dev.taskraum.backend.events.ProjectEventHub;
+import dev.taskraum.backend.projects.ProjectAccessCache;
+import dev.taskraum.backend.projects.ReactiveProjectRepository;
+import dev.taskraum.backend.projects.TaskCounters;
+import dev.taskraum.backend.tasks.dto.BoardResponse;
+import dev.taskraum.backend.tasks.dto.MoveTaskDto;
+import dev.taskraum.backend.tasks.dto.ReorderTasksDto;
+import dev.taskraum.backend.tasks.dto.TaskDto;
+import dev.taskraum.backend.tasks.dto.TaskImportResult;
+import dev.taskraum.backend.tasks.dto.TaskOrderDto;
+import dev.taskraum.backend.tasks.dto.TaskOrderResult;
+import dev.taskraum.backend.tasks.dto.TaskResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * TaskService on the reactive driver. Business rules are TaskService's shared static helpers;
+ * only the I/O is different. Shares ProjectAccessCache with the servlet services.
+ */
+@Profile("reactive")
+@Service
+@RequiredArgsConstructor
+public class ReactiveTaskService {
+    private static final int IMPORT_PREFETCH = 16;
+
+    private final ReactiveTaskRepository taskRepo;
+    private final ReactiveProjectRepository projectRepo;
+    private final ProjectAccessCache projectAccess;
+    private final ProjectEventHub events;
+    private final TaskImportService importService;
+
+
+    // --- Helpers --- //
+
+    private Mono<ProjectStatus> requireOwnedProject(String ownerId, String projectId) {
+        var cached = projectAccess.cached(ownerId, projectId);
+        if (cached != null) return Mono.just(cached);
+        // Legacy documents without a status behave as ACTIVE, like ProjectAccessCache
+        return projectRepo.findByIdAndOwnerId(projectId, ownerId)
+                .map(p -> Objects.requireNonNullElse(p.getStatus(), ProjectStatus.ACTIVE))
+                .doOnNext(status -> projectAccess.put(ownerId, projectId, status))
+                .switchIfEmpty(Mono.error(() -> new IllegalArgumentException("PROJECT_NOT_FOUND")));
+    }
+
+    private Mono<Boolean> projectExists(String ownerId, String projectId) {
+        if (ownerId == null) return Mono.just(false);
+        return requireOwnedProject(ownerId, projectId).hasElement()
+                .onErrorReturn(IllegalArgumentException.class, false);
+    }
+
+    private Mono<Void> requireWritableProject(String ownerId, String projectId) {
+        return requireOwnedProject(ownerId, projectId).doOnNext(TaskService::ensureNotArchived).then();
+    }
+
+    private Mono<Task> requireTask(String taskId) {
+        return taskRepo.findById(taskId)
+                .switchIfEmpty(Mono.error(() -> new IllegalArgumentException("TASK_NOT_FOUND")));
+    }
+
+    private Mono<TaskResponse> publishSaved(Task saved, ProjectEvent.Type type, TaskCounters counters) {
+        return projectRepo.incrementVersion(saved.getProjectId(), counters)
+                .doOnNext(version -> events.publish(
+                        ProjectEvent.task(type, saved.getProjectId(), version, TaskService.toCard(saved))))
+                .thenReturn(TaskService.toResponse(saved));
+    }
+
+    // --- API --- //
+
+    public Mono<TaskResponse> get(String ownerId, String taskId) {
+        return requireTask(taskId)
+                .flatMap(task -> requireOwnedProject(ownerId, task.getProjectId()).thenReturn(task))
+                .map(TaskService::toResponse);
+    }
+
+    public Flux<TaskResponse> list(String ownerId, String projectId, TaskStatus status) {
+        return requireOwnedProject(ownerId, projectId)
+                .thenMany(taskRepo.findByProjectIdAndStatusOrderByRankAsc(projectId, status))
+                .map(TaskService::toResponse);
+    }
+
+    public Mono<CursorPage<TaskResponse>> assigned(String userId, Set<TaskStatus> statuses, String cursor, int size) {
+        return Mono.fromCallable(() -> TaskService.decodeAssignedCursor(cursor))
+                .flatMap(after -> taskRepo.findAssigned(userId, TaskService.assignedStatuses(statuses), after, size + 1))
+                .flatMap(rows -> Flux.fromIterable(rows)
+                        .filterWhen(t -> projectExists(t.getOwnerId(), t.getProjectId()))
+                        .map(Task::getId)
+                        .collect(Collectors.toSet())
+                        .map(visible -> TaskService.toAssignedPage(rows, size, t -> visible.contains(t.getId()))));
+    }
+
+    public Mono<Long> boardVersion(String ownerId, String projectId) {
+        return projectRepo.findVersion(projectId, ownerId)
+                .switchIfEmpty(Mono.error(() -> new IllegalArgumentException("PROJECT_NOT_FOUND")));
+    }
+
+    public Mono<BoardResponse> board(String ownerId, String projectId, Collection<TaskStatus> statuses) {
+        Collection<TaskStatus> wanted = TaskService.wantedColumns(statuses);
+        return requireOwnedProject(ownerId, projectId)
+                .thenMany(taskRepo.findCardsByProjectIdAndStatusInOrderByStatusAscRankAsc(projectId, wanted))
+                .collectList()
+                .map(cards -> TaskService.toBoard(projectId, wanted, cards));
+    }
+
+    public Mono<TaskResponse> create(String ownerId, String projectId, TaskDto dto) {
+        return requireWritableProject(ownerId, projectId)
+                .then(Mono.defer(() -> taskRepo.save(TaskService.newTask(ownerId, projectId, dto))))
+                .flatMap(saved -> publishSaved(saved, ProjectEvent.Type.TASK_CREATED,
+                        TaskCounters.added(saved.getStatus(), saved.getDueDate())));
+    }
+
+    public Mono<TaskResponse> update(String ownerId, String taskId, TaskDto dto) {
+        return requireTask(taskId)
+                .flatMap(task -> requireWritableProject(ownerId, task.getProjectId()).thenReturn(task))
+                .flatMap(task -> {
+                    TaskStatus oldStatus = task.getStatus();
+                    LocalDate oldDue = task.getDueDate();
+                    TaskService.applyUpdate(task, dto);
+                    return taskRepo.save(task).flatMap(saved -> publishSaved(saved, ProjectEvent.Type.TASK_UPDATED,
+                            TaskCounters.changed(oldStatus, oldDue, saved.getStatus(), saved.getDueDate())));
+                });
+    }
+
+    public Mono<TaskResponse> move(String ownerId, String taskId, MoveTaskDto dto) {
+        return requireTask(taskId)
+                .flatMap(task -> requireWritableProject(ownerId, task.getProjectId()).thenReturn(task))
+                .flatMap(task -> {
+                    // Both neighbours in one read; only the moved task is written
+                    List<String> ids = TaskService.neighbourIds(dto);
+                    Mono<Map<String, Task>> neighbours = ids.isEmpty() ? Mono.just(Map.of())
+                            : taskRepo.findAllById(ids).collectMap(Task::getId, Function.identity());
+                    TaskStatus oldStatus = task.getStatus();
+                    return neighbours.flatMap(n -> {
+                        TaskService.applyMove(task, dto, n);
+                        return taskRepo.save(task);
+                    }).flatMap(saved -> publishSaved(saved, ProjectEvent.Type.TASK_UPDATED,
+                            TaskCounters.changed(oldStatus, saved.getDueDate(), saved.getStatus(), saved.getDueDate())));
+                });
+    }
+
+    public Mono<List<TaskOrderResult>> reorder(String ownerId, String projectId, ReorderTasksDto dto) {
+        List<TaskOrderDto> items = dto.getItems();
+        Set<String> ids = TaskService.reorderedIds(items);
+        return requireWritableProject(ownerId, projectId)
+                .then(Mono.defer(() -> taskRepo.existsByProjectIdAndStatusInAndIdNotIn(
+                        projectId, TaskService.reorderedColumns(items), ids)))
+                .flatMap(incomplete -> incomplete
+                        ? Mono.<Map<String, Task>>error(new IllegalArgumentException("INCOMPLETE_COLUMN"))
+                        : taskRepo.findInProject(projectId, ids))
+                .flatMap(existing -> {
+                    var plan = TaskService.planReorder(items, existing.keySet());
+                    return taskRepo.applyPlacements(projectId, plan.placements())
+                            .flatMap(failed -> {
+                                Mono<Long> bump = plan.placements().isEmpty() ? Mono.empty()
+                                        : projectRepo.incrementVersion(projectId,
+                                                TaskService.placementCounters(plan.placements(), existing, failed))
+                                        .doOnNext(version -> events.publish(
+                                                ProjectEvent.project(ProjectEvent.Type.BOARD_CHANGED, projectId, version)));
+                                return bump.thenReturn(TaskService.reorderOutcomes(items, existing.keySet(), plan.ranks(), failed));
+                            });
+                });
+    }
+
+    // The importer is blocking (streaming parser + insertMany), so it runs off the event loop
+    public Mono<TaskImportResult> importTasks(String ownerId, String projectId, boolean csv, Flux<DataBuffer> body) {
+        return Mono.fromCallable(() -> {
+            try (InputStream in = DataBufferUtils.subscriberInputStream(body, IMPORT_PREFETCH)) {
+                return importService.importTasks(ownerId, projectId, csv, in);
+            }
+        }).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    public Mono<Void> delete(String ownerId, String taskId) {
+        return requireTask(taskId)
+                .flatMap(task -> requireOwnedProject(ownerId, task.getProjectId())
+                        .then(taskRepo.delete(task))
+                        .then(projectRepo.incrementVersion(task.getProjectId(),
+                                TaskCounters.removed(task.getStatus(), task.getDueDate())))
+                        .doOnNext(version -> events.publish(ProjectEvent.taskDeleted(task.getProjectId(), version, taskId))))
+                .then();
+    }
+}
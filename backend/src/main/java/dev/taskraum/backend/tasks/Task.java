@@ -12,6 +12,7 @@ import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.index.TextIndexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.Instant;
@@ -20,18 +21,34 @@ import java.time.LocalDate;
 @Document("tasks")
 @Data @Builder @AllArgsConstructor @NoArgsConstructor
 @CompoundIndexes({
-    @CompoundIndex(name = "proj_status_order_idx", def = "{'projectId':1,'status':1,'order':1}")
+    @CompoundIndex(name = "proj_status_rank_idx", def = "{'projectId':1,'status':1,'rank':1}"),
+    // Owner-wide views (/api/dashboard) without going through the project list
+    // _id makes (dueDate, _id) a stable order for the calendar views
+    @CompoundIndex(name = "owner_due_idx", def = "{'ownerId':1,'dueDate':1,'_id':1}"),
+    // Open tasks only: status ahead of the due date, so DONE tasks are never walked; one range per open status, merged
+    @CompoundIndex(name = "owner_status_due_idx", def = "{'ownerId':1,'status':1,'dueDate':1,'_id':1}"),
+    @CompoundIndex(name = "owner_priority_status_due_idx", def = "{'ownerId':1,'priority':1,'status':1,'dueDate':1}"),
+    // "Assigned to me" (/api/tasks/assigned); priority and _id after the due date keep each page a bounded range scan
+    @CompoundIndex(name = "assignee_status_due_idx", def = "{'assigneeId':1,'status':1,'dueDate':1,'priority':1,'_id':1}")
 })
 public class Task {
     @Id private String id;
 
     @Indexed private String projectId;
 
-    private String title;
-    private String description;
+    // Copied from the project on insert (projects never change owner); TaskOwnerBackfill fills older tasks
+    private String ownerId;
+
+    // Text index for /api/search; a title hit ranks above a description hit
+    @TextIndexed(weight = 3) private String title;
+    @TextIndexed private String description;
 
     @Indexed private TaskStatus status;
-    @Indexed private Integer order;
+    private String rank;
+    // True while the rank is longer than TaskRank.MAX_LENGTH (or missing, on legacy tasks); unset otherwise.
+    // TaskRankRebalancer finds the columns to rewrite through this sparse index instead of scanning the ranks.
+    @Indexed(sparse = true) private Boolean rankRebalance;
+    private Integer order;
     private TaskPriority priority;
 
     private LocalDate dueDate;
@@ -1,23 +1,40 @@
 package dev.taskraum.backend.tasks;
 
+import dev.taskraum.backend.common.CursorPage;
+import dev.taskraum.backend.common.ETags;
 import dev.taskraum.backend.common.enums.TaskStatus;
 import dev.taskraum.backend.security.UserPrincipal;
+import dev.taskraum.backend.tasks.dto.BoardResponse;
+import dev.taskraum.backend.tasks.dto.MoveTaskDto;
+import dev.taskraum.backend.tasks.dto.ReorderTasksDto;
 import dev.taskraum.backend.tasks.dto.TaskDto;
+import dev.taskraum.backend.tasks.dto.TaskImportResult;
+import dev.taskraum.backend.tasks.dto.TaskOrderResult;
 import dev.taskraum.backend.tasks.dto.TaskResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
+import java.util.Set;
 
+@Profile("!reactive")
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api")
 public class TaskController {
+    private static final int MAX_PAGE_SIZE = 50;
+
     private final TaskService service;
+    private final TaskImportService importService;
 
     // Column listing (one call per column)
     @GetMapping("/projects/{projectId}/tasks")
@@ -28,6 +45,19 @@ public class TaskController {
         return service.list(me.id(), projectId, status);
     }
 
+    // Whole board in one call; optional status subset (?status=TODO,DONE)
+    @GetMapping("/projects/{projectId}/board")
+    public ResponseEntity<BoardResponse> board(
+            @AuthenticationPrincipal UserPrincipal me,
+            @PathVariable String projectId,
+            @RequestParam(required = false) Set<TaskStatus> status,
+            WebRequest request) {
+        // Read the version before the tasks: a change in between only makes the ETag older, never newer
+        String etag = ETags.strong(service.boardVersion(me.id(), projectId));
+        if (request.checkNotModified(etag)) return null;
+        return ResponseEntity.ok().eTag(etag).body(service.board(me.id(), projectId, status));
+    }
+
     @PostMapping("/projects/{projectId}/tasks")
     public ResponseEntity<TaskResponse> create(
             @AuthenticationPrincipal UserPrincipal me,
@@ -38,6 +68,48 @@ public class TaskController {
         return ResponseEntity.status(HttpStatus.CREATED).body(res);
     }
 
+    // Bulk import from other trackers: text/csv with a header row, or JSON array / NDJSON of objects
+    @PostMapping("/projects/{projectId}/tasks/import")
+    public TaskImportResult importTasks(
+            @AuthenticationPrincipal UserPrincipal me,
+            @PathVariable String projectId,
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+            InputStream body
+    ) throws IOException {
+        boolean csv = contentType == null || contentType.toLowerCase().contains("csv");
+        return importService.importTasks(me.id(), projectId, csv, body);
+    }
+
+    // Column reshuffle: ownership checked once, one bulkWrite, per-item outcome
+    @PatchMapping("/projects/{projectId}/tasks/order")
+    public List<TaskOrderResult> reorder(
+            @AuthenticationPrincipal UserPrincipal me,
+            @PathVariable String projectId,
+            @RequestBody @Valid ReorderTasksDto dto
+    ) {
+        return service.reorder(me.id(), projectId, dto);
+    }
+
+    // Tasks assigned to the caller across all projects (?status=TODO,DONE; open ones by default)
+    @GetMapping("/tasks/assigned")
+    public CursorPage<TaskResponse> assigned(
+            @AuthenticationPrincipal UserPrincipal me,
+            @RequestParam(required = false) Set<TaskStatus> status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return service.assigned(me.id(), status, cursor, Math.clamp(size, 1, MAX_PAGE_SIZE));
+    }
+
+    // Full task incl. description; the board only carries cards
+    @GetMapping("/tasks/{id}")
+    public TaskResponse get(
+            @AuthenticationPrincipal UserPrincipal me,
+            @PathVariable String id
+    ) {
+        return service.get(me.id(), id);
+    }
+
     @PutMapping("/tasks/{id}")
     public TaskResponse update(
             @AuthenticationPrincipal UserPrincipal me,
@@ -47,6 +119,16 @@ public class TaskController {
         return service.update(me.id(), id, dto);
     }
 
+    // Drag & drop: place between two neighbours, single write
+    @PostMapping("/tasks/{id}/move")
+    public TaskResponse move(
+            @AuthenticationPrincipal UserPrincipal me,
+            @PathVariable String id,
+            @RequestBody MoveTaskDto dto
+    ) {
+        return service.move(me.id(), id, dto);
+    }
+
     @DeleteMapping("/tasks/{id}")
     public ResponseEntity<Void> delete(
             @AuthenticationPrincipal UserPrincipal me,
@@ -0,0 +1,201 @@
+package dev.taskraum.backend.tasks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import dev.taskraum.backend.common.enums.ProjectStatus;
+import dev.taskraum.backend.common.enums.TaskPriority;
+import dev.taskraum.backend.common.enums.TaskStatus;
+import dev.taskraum.backend.events.ProjectEvent;
+import dev.taskraum.backend.events.ProjectEventHub;
+import dev.taskraum.backend.projects.ProjectAccessCache;
+import dev.taskraum.backend.projects.ProjectRepository;
+import dev.taskraum.backend.projects.TaskCounters;
+import dev.taskraum.backend.tasks.dto.TaskDto;
+import dev.taskraum.backend.tasks.dto.TaskImportResult;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk task import from other trackers (CSV with a header row, or JSON / NDJSON objects).
+ * Rows are read as a stream, validated with the TaskDto constraints and inserted with insertMany in batches;
+ * bad rows are reported and skipped.
+ */
+@Service
+public class TaskImportService {
+    static final int MAX_REPORTED_ERRORS = 100;
+
+    // Column header (lower-case, no spaces/underscores/dashes) -> TaskDto field
+    private static final Map<String, String> COLUMNS = Map.ofEntries(
+            Map.entry("title", "title"), Map.entry("name", "title"), Map.entry("summary", "title"),
+            Map.entry("description", "description"), Map.entry("details", "description"), Map.entry("body", "description"),
+            Map.entry("status", "status"), Map.entry("state", "status"), Map.entry("column", "status"), Map.entry("list", "status"),
+            Map.entry("priority", "priority"),
+            Map.entry("duedate", "dueDate"), Map.entry("due", "dueDate"), Map.entry("deadline", "dueDate"),
+            Map.entry("assignee", "assigneeId"), Map.entry("assigneeid", "assigneeId")
+    );
+
+    private final MongoTemplate mongo;
+    private final ProjectAccessCache projectAccess;
+    private final ProjectRepository projectRepo;
+    private final ProjectEventHub events;
+    private final Validator validator;
+    private final ObjectReader jsonRows;
+    private final ObjectReader csvRows;
+    private final int batchSize;
+
+    public TaskImportService(
+            MongoTemplate mongo,
+            ProjectAccessCache projectAccess,
+            ProjectRepository projectRepo,
+            ProjectEventHub events,
+            Validator validator,
+            ObjectMapper mapper,
+            @Value("${taskraum.import.batch-size:1000}") int batchSize
+    ) {
+        this.mongo = mongo;
+        this.projectAccess = projectAccess;
+        this.projectRepo = projectRepo;
+        this.events = events;
+        this.validator = validator;
+        this.jsonRows = mapper.readerForMapOf(Object.class);
+        CsvMapper csv = new CsvMapper();
+        this.csvRows = csv.readerForMapOf(String.class)
+                .with(CsvSchema.emptySchema().withHeader())
+                .with(CsvParser.Feature.TRIM_SPACES)
+                .with(CsvParser.Feature.SKIP_EMPTY_LINES);
+        this.batchSize = batchSize;
+    }
+
+    public TaskImportResult importTasks(String ownerId, String projectId, boolean csv, InputStream in) throws IOException {
+        var status = projectAccess.status(ownerId, projectId)
+                .orElseThrow(() -> new IllegalArgumentException("PROJECT_NOT_FOUND"));
+        if (status == ProjectStatus.ARCHIVED) {
+            throw new IllegalStateException("PROJECT_ARCHIVED_READ_ONLY");
+        }
+
+        List<Task> batch = new ArrayList<>(batchSize);
+        var counters = TaskCounters.none();
+        List<TaskImportResult.RowError> errors = new ArrayList<>();
+        int imported = 0, failed = 0;
+        long row = 0;
+
+        try (MappingIterator<Map<String, Object>> rows = (csv ? csvRows : jsonRows).readValues(in)) {
+            while (rows.hasNextValue()) {
+                row++;
+                try {
+                    batch.add(toTask(ownerId, projectId, toDto(rows.nextValue())));
+                } catch (IllegalArgumentException | JsonMappingException ex) {
+                    failed++;
+                    addError(errors, row, ex instanceof JsonMappingException jme ? jme.getOriginalMessage() : ex.getMessage());
+                    continue;
+                }
+                if (batch.size() >= batchSize) imported += flush(batch, counters);
+            }
+        } catch (JsonProcessingException ex) {
+            // Unreadable input: keep what was read so far and report where parsing stopped
+            failed++;
+            addError(errors, row, "Unreadable input: " + ex.getOriginalMessage());
+        }
+        imported += flush(batch, counters);
+        if (imported > 0) {
+            long version = projectRepo.incrementVersion(projectId, counters);
+            events.publish(ProjectEvent.project(ProjectEvent.Type.BOARD_CHANGED, projectId, version));
+        }
+
+        return TaskImportResult.builder().imported(imported).failed(failed).errors(errors).build();
+    }
+
+    private static void addError(List<TaskImportResult.RowError> errors, long row, String message) {
+        if (errors.size() < MAX_REPORTED_ERRORS) errors.add(new TaskImportResult.RowError(row, message));
+    }
+
+    private TaskDto toDto(Map<String, Object> raw) {
+        var dto = new TaskDto();
+        raw.forEach((header, value) -> {
+            String field = COLUMNS.get(header.toLowerCase(Locale.ROOT).replaceAll("[\\s_-]", ""));
+            String v = value == null ? null : value.toString().trim();
+            if (field == null || v == null || v.isEmpty()) return;
+            switch (field) {
+                case "title" -> dto.setTitle(v);
+                case "description" -> dto.setDescription(v);
+                case "status" -> dto.setStatus(parseEnum(TaskStatus.class, v, "status"));
+                case "priority" -> dto.setPriority(parseEnum(TaskPriority.class, v, "priority"));
+                case "dueDate" -> dto.setDueDate(parseDate(v));
+                case "assigneeId" -> dto.setAssigneeId(v);
+                default -> { }
+            }
+        });
+
+        var violations = validator.validate(dto);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.stream()
+                    .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+        }
+        return dto;
+    }
+
+    private Task toTask(String ownerId, String projectId, TaskDto dto) {
+        // Same defaults as TaskService.create; the rank is set per batch in flush()
+        return Task.builder()
+                .projectId(projectId)
+                .ownerId(ownerId)
+                .title(dto.getTitle())
+                .description(dto.getDescription())
+                .status(dto.getStatus() != null ? dto.getStatus() : TaskStatus.TODO)
+                .priority(dto.getPriority() != null ? dto.getPriority() : TaskPriority.MEDIUM)
+                .dueDate(dto.getDueDate())
+                .assigneeId(dto.getAssigneeId())
+                .build();
+    }
+
+    private int flush(List<Task> batch, TaskCounters counters) {
+        if (batch.isEmpty()) return 0;
+        int n = batch.size();
+        // One block of consecutive keys after everything issued so far: rows append in file order
+        List<String> ranks = TaskRank.next(n);
+        for (int i = 0; i < n; i++) batch.get(i).setRank(ranks.get(i));
+        mongo.insert(batch, Task.class); // insertMany
+        batch.forEach(t -> counters.add(t.getStatus(), t.getDueDate()));
+        batch.clear();
+        return n;
+    }
+
+    // "In progress", "in-progress", "IN_PROGRESS" and "To do" all map to the enum constant
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String value, String field) {
+        String key = value.toUpperCase(Locale.ROOT).replaceAll("[\\s-]+", "_");
+        if (type == TaskStatus.class && key.equals("TO_DO")) key = "TODO";
+        try {
+            return Enum.valueOf(type, key);
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException(field + ": unknown value '" + value + "'");
+        }
+    }
+
+    private static LocalDate parseDate(String value) {
+        try {
+            return LocalDate.parse(value.length() > 10 ? value.substring(0, 10) : value);
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("dueDate: expected yyyy-MM-dd, got '" + value + "'");
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package dev.taskraum.backend.tasks;
+
+import dev.taskraum.backend.projects.Project;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Online backfill of Task.ownerId for tasks written before it existed, in bounded batches with a pause in
+ * between. Tasks whose project is gone (waiting for ProjectDeletionWorker) get an explicit null owner, so
+ * they drop out of the scan without ever showing up in owner-wide views. Once everything is filled, a run
+ * is a single empty index probe.
+ */
+@Slf4j
+@Component
+public class TaskOwnerBackfill {
+
+    private final MongoTemplate mongo;
+    private final int batchSize;
+    private final Duration pause;
+
+    public TaskOwnerBackfill(
+            MongoTemplate mongo,
+            @Value("${taskraum.backfill.batch-size:500}") int batchSize,
+            @Value("${taskraum.backfill.pause:PT0.2S}") Duration pause
+    ) {
+        this.mongo = mongo;
+        this.batchSize = batchSize;
+        this.pause = pause;
+    }
+
+    @Scheduled(initialDelayString = "${taskraum.backfill.initial-delay:PT30S}",
+            fixedDelayString = "${taskraum.backfill.delay:PT10M}")
+    public void run() {
+        long filled = 0;
+        try {
+            int n;
+            while ((n = backfillBatch()) > 0) {
+                filled += n;
+                // Throttle so a large backlog does not monopolise the primary
+                Thread.sleep(pause.toMillis());
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        if (filled > 0) log.info("Task ownerId backfill: {} tasks updated", filled);
+    }
+
+    // Returns how many tasks were looked at; 0 when nothing is left
+    int backfillBatch() {
+        // {ownerId: {$exists: false}} is answered by the owner indexes (missing sorts with null)
+        var query = Query.query(Criteria.where("ownerId").exists(false)).limit(batchSize);
+        query.fields().include("projectId");
+        List<Task> batch = mongo.find(query, Task.class);
+        if (batch.isEmpty()) return 0;
+
+        Map<String, List<String>> byProject = batch.stream().collect(Collectors.groupingBy(
+                Task::getProjectId, Collectors.mapping(Task::getId, Collectors.toList())));
+        Map<String, String> owners = owners(byProject.keySet());
+
+        var ops = mongo.bulkOps(BulkOperations.BulkMode.UNORDERED, Task.class);
+        byProject.forEach((projectId, ids) -> ops.updateMulti(
+                // Still unset: never overwrite an owner written meanwhile
+                Query.query(Criteria.where("_id").in(ids).and("ownerId").exists(false)),
+                // Null for orphans (deleted project)
+                new Update().set("ownerId", owners.get(projectId))));
+        ops.execute();
+
+        // The calendar feed's ETag comes from project versions, and these tasks now show up in it
+        if (!owners.isEmpty()) {
+            var bumps = mongo.bulkOps(BulkOperations.BulkMode.UNORDERED, Project.class);
+            owners.keySet().forEach(id -> bumps.updateOne(Query.query(Criteria.where("_id").is(id)), new Update().inc("version", 1)));
+            bumps.execute();
+        }
+        return batch.size();
+    }
+
+    private Map<String, String> owners(Set<String> projectIds) {
+        var query = Query.query(Criteria.where("_id").in(projectIds));
+        query.fields().include("ownerId");
+        return mongo.find(query, Project.class).stream()
+                .collect(Collectors.toMap(Project::getId, Project::getOwnerId));
+    }
+}
@@ -0,0 +1,6 @@
+package dev.taskraum.backend.tasks;
+
+import dev.taskraum.backend.common.enums.TaskStatus;
+
+public record TaskPlacement(String taskId, TaskStatus status, String rank, Integer order) {
+}
@@ -0,0 +1,106 @@
+package dev.taskraum.backend.tasks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lexicographic rank keys for ordering tasks inside a column.
+ * Keys are lower-case base-36 strings compared with plain {@link String} order.
+ * A key never ends in '0', so there is always room for another key between two neighbours.
+ * <p>
+ * The time-based keys ({@link #next()}, {@link #at(long)}) are ordered and unique within one JVM only: the
+ * sequence that splits a millisecond lives in this process. Across instances keys follow the wall clocks, so
+ * clock skew can order them out of creation time, and two instances can hand out the same key in the same
+ * millisecond. Two tasks with equal keys have no key between them; a move between exactly that pair fails with
+ * INVALID_MOVE until a reorder of the column gives them fresh keys.
+ */
+final class TaskRank {
+    private static final String DIGITS = "0123456789abcdefghijklmnopqrstuvwxyz";
+    private static final int BASE = DIGITS.length();
+    private static final int TIME_WIDTH = 9;
+    // Keys per millisecond: two suffix digits, the last one never '0'
+    private static final int PER_MILLI = BASE * (BASE - 1);
+    // Last position handed out, millis * PER_MILLI + sequence; the sequence restarts every millisecond
+    private static final AtomicLong LAST = new AtomicLong();
+    // Keys from between() grow with repeated moves into the same gap; longer ones get the column rebalanced
+    static final int MAX_LENGTH = 24;
+
+    private TaskRank() {}
+
+    /** Key that sorts after every key issued earlier, so appending needs no lookup. */
+    static String next() {
+        return at(System.currentTimeMillis());
+    }
+
+    /** {@code n} consecutive keys that sort after every key issued earlier, for inserting a batch in order. */
+    static List<String> next(int n) {
+        long first = reserve(System.currentTimeMillis(), n);
+        List<String> keys = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) keys.add(key(first + i));
+        return keys;
+    }
+
+    /** Time-based key for {@code millis}, or the one right after the last key handed out if that is later. */
+    static String at(long millis) {
+        return key(reserve(millis, 1));
+    }
+
+    // First of n positions at or after millis and after everything reserved before.
+    // A millisecond that runs out of sequence numbers carries into the next one, so keys never wrap.
+    private static long reserve(long millis, int n) {
+        long end = LAST.accumulateAndGet(millis * PER_MILLI, (last, floor) -> Math.max(last + n, floor + n - 1));
+        return end - n + 1;
+    }
+
+    // Fixed-width millis plus a sequence suffix to split same-millisecond keys
+    private static String key(long position) {
+        int seq = (int) (position % PER_MILLI);
+        String time = Long.toString(position / PER_MILLI, BASE);
+        return "0".repeat(Math.max(0, TIME_WIDTH - time.length())) + time
+                + DIGITS.charAt(seq / (BASE - 1))
+                + DIGITS.charAt(1 + seq % (BASE - 1));
+    }
+
+    /**
+     * Shortest key strictly between {@code lo} and {@code hi}.
+     * A null {@code lo} means "top of the column", a null {@code hi} means "bottom of the column".
+     */
+    static String between(String lo, String hi) {
+        String a = lo == null ? "" : lo;
+        if (hi != null && a.compareTo(hi) >= 0) {
+            throw new IllegalArgumentException("INVALID_MOVE");
+        }
+
+        StringBuilder key = new StringBuilder();
+        boolean bounded = hi != null;
+        for (int i = 0; ; i++) {
+            int da = i < a.length() ? digit(a.charAt(i)) : 0;
+            if (bounded && i >= hi.length()) throw new IllegalArgumentException("INVALID_RANK");
+            int db = bounded ? digit(hi.charAt(i)) : BASE;
+
+            if (da == db) {
+                key.append(DIGITS.charAt(da));
+                continue;
+            }
+            int mid = (da + db) / 2;
+            if (mid > da) {
+                return key.append(DIGITS.charAt(mid)).toString();
+            }
+            // Adjacent digits: keep lo's digit, anything after it is already below hi
+            key.append(DIGITS.charAt(da));
+            bounded = false;
+        }
+    }
+
+    /** Whether {@code key} is long enough for TaskRankRebalancer to rewrite its column. */
+    static boolean tooLong(String key) {
+        return key.length() > MAX_LENGTH;
+    }
+
+    private static int digit(char c) {
+        int d = DIGITS.indexOf(c);
+        if (d < 0) throw new IllegalArgumentException("INVALID_RANK");
+        return d;
+    }
+}
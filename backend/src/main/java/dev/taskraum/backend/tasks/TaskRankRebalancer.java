@@ -0,0 +1,90 @@
+package dev.taskraum.backend.tasks;
+
+import dev.taskraum.backend.common.enums.TaskStatus;
+import dev.taskraum.backend.projects.Project;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Background job that rewrites the ranks of a column once a move hands out a key longer than
+ * {@link TaskRank#MAX_LENGTH}, or when a column still holds tasks without a rank (created before ranks existed).
+ * Such tasks carry {@code rankRebalance}; a run reads them through its sparse index, so it never scans the ranks.
+ */
+@Component
+public class TaskRankRebalancer {
+
+    private record Column(String projectId, TaskStatus status) {}
+
+    private final MongoTemplate mongo;
+    private final int batchSize;
+    private volatile boolean legacyMarked;
+
+    public TaskRankRebalancer(
+            MongoTemplate mongo,
+            @Value("${taskraum.rank.batch-size:100}") int batchSize
+    ) {
+        this.mongo = mongo;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(initialDelayString = "${taskraum.rank.rebalance-initial-delay:PT30S}",
+            fixedDelayString = "${taskraum.rank.rebalance-delay:PT5M}")
+    public void rebalance() {
+        if (!legacyMarked) {
+            markUnranked();
+            legacyMarked = true;
+        }
+
+        var query = Query.query(Criteria.where("rankRebalance").is(true)).limit(batchSize);
+        query.fields().include("projectId").include("status");
+
+        Set<Column> columns = new LinkedHashSet<>();
+        for (Task t : mongo.find(query, Task.class)) {
+            columns.add(new Column(t.getProjectId(), t.getStatus()));
+        }
+        columns.forEach(c -> rebalanceColumn(c.projectId(), c.status()));
+    }
+
+    // Every write path sets a rank, so tasks without one can only predate ranks: one pass per start is enough
+    void markUnranked() {
+        mongo.updateMulti(Query.query(Criteria.where("rank").is(null).and("rankRebalance").exists(false)),
+                new Update().set("rankRebalance", true), Task.class);
+    }
+
+    void rebalanceColumn(String projectId, TaskStatus status) {
+        // Unranked (legacy) tasks sort first and keep their old integer order
+        var query = new Query(Criteria.where("projectId").is(projectId).and("status").is(status))
+                .with(Sort.by("rank", "order", "createdAt"));
+        query.fields().include("rank");
+
+        List<Task> column = mongo.find(query, Task.class);
+        if (column.isEmpty()) return;
+
+        // Consecutive fresh keys; they still sort below anything TaskRank.next() hands out later
+        List<String> ranks = TaskRank.next(column.size());
+        var ops = mongo.bulkOps(BulkOperations.BulkMode.UNORDERED, Task.class);
+        for (int i = 0; i < column.size(); i++) {
+            Task t = column.get(i);
+            // Skip tasks moved while we were reading; their new rank already wins
+            var filter = Query.query(Criteria.where("_id").is(t.getId())
+                    .and("status").is(status)
+                    .and("rank").is(t.getRank()));
+            // Moved tasks keep their own marker, so a long key written meanwhile is picked up by the next run
+            ops.updateOne(filter, new Update().set("rank", ranks.get(i)).unset("rankRebalance"));
+        }
+        ops.execute();
+        // Ranks are part of the board response
+        mongo.updateFirst(Query.query(Criteria.where("_id").is(projectId)), new Update().inc("version", 1), Project.class);
+    }
+}
@@ -1,12 +1,30 @@
 package dev.taskraum.backend.tasks;
 
+import dev.taskraum.backend.common.enums.TaskPriority;
 import dev.taskraum.backend.common.enums.TaskStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Range;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
-public interface TaskRepository extends MongoRepository<Task, String> {
-    List<Task> findByProjectIdAndStatusOrderByOrderAsc(String projectId, TaskStatus status);
-    Task findTopByProjectIdAndStatusOrderByOrderDesc(String projectId, TaskStatus status);
+public interface TaskRepository extends MongoRepository<Task, String>, TaskRepositoryCustom {
+    List<Task> findByProjectIdAndStatusOrderByRankAsc(String projectId, TaskStatus status);
+    // Whole board in one pass over proj_status_rank_idx; card fields only (no description)
+    @Query(fields = "{'status':1,'rank':1,'order':1,'title':1,'priority':1,'dueDate':1,'assigneeId':1}")
+    List<Task> findCardsByProjectIdAndStatusInOrderByStatusAscRankAsc(String projectId, Collection<TaskStatus> statuses);
+    // Reorder guard: a card of one of the columns that is not among the listed ids
+    boolean existsByProjectIdAndStatusInAndIdNotIn(String projectId, Collection<TaskStatus> statuses, Collection<String> ids);
     void deleteByProjectId(String projectId);
+
+    // Owner-wide views across all projects: owner_status_due_idx and owner_priority_status_due_idx
+    List<Task> findByOwnerIdAndStatusInAndDueDateBeforeOrderByDueDateAsc(
+            String ownerId, Collection<TaskStatus> statuses, LocalDate before, Limit limit);
+    List<Task> findByOwnerIdAndStatusInAndDueDateBetweenOrderByDueDateAsc(
+            String ownerId, Collection<TaskStatus> statuses, Range<LocalDate> due, Limit limit);
+    List<Task> findByOwnerIdAndPriorityAndStatusInOrderByDueDateAsc(
+            String ownerId, TaskPriority priority, Collection<TaskStatus> statuses, Limit limit);
 }
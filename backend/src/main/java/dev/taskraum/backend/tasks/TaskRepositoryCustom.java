@@ -0,0 +1,18 @@
+package dev.taskraum.backend.tasks;
+
+import dev.taskraum.backend.common.enums.TaskStatus;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface TaskRepositoryCustom {
+    // Tasks from the given set that belong to the project, by id; only id, status and dueDate are loaded
+    Map<String, Task> findInProject(String projectId, Collection<String> ids);
+
+    // One unordered bulkWrite; returns taskId -> error message for the items that failed or matched no task
+    Map<String, String> applyPlacements(String projectId, List<TaskPlacement> placements);
+
+    // Up to `limit` tasks assigned to the user after the cursor, in AssignedCursor.ORDER
+    List<Task> findAssigned(String assigneeId, Collection<TaskStatus> statuses, AssignedCursor after, int limit);
+}
@@ -0,0 +1,173 @@
+package dev.taskraum.backend.tasks;
+
+import dev.taskraum.backend.common.enums.TaskPriority;
+import dev.taskraum.backend.common.enums.TaskStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+class TaskRepositoryImpl implements TaskRepositoryCustom {
+    private final MongoTemplate mongo;
+
+    @Override
+    public Map<String, Task> findInProject(String projectId, Collection<String> ids) {
+        return mongo.find(inProjectQuery(projectId, ids), Task.class).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+    }
+
+    @Override
+    public Map<String, String> applyPlacements(String projectId, List<TaskPlacement> placements) {
+        if (placements.isEmpty()) return Map.of();
+
+        var ops = mongo.bulkOps(BulkOperations.BulkMode.UNORDERED, Task.class);
+        for (TaskPlacement p : placements) {
+            ops.updateOne(placementQuery(projectId, p), placementUpdate(p));
+        }
+
+        Map<String, String> failed;
+        int matched;
+        try {
+            matched = ops.execute().getMatchedCount();
+            failed = new HashMap<>();
+        } catch (BulkOperationException ex) {
+            failed = failedPlacements(placements, ex);
+            matched = ex.getResult().getMatchedCount();
+        }
+        if (matched < placements.size() - failed.size()) {
+            markDeleted(placements, failed, findInProject(projectId, writtenIds(placements, failed)).keySet());
+        }
+        return failed;
+    }
+
+    @Override
+    public List<Task> findAssigned(String assigneeId, Collection<TaskStatus> statuses, AssignedCursor after, int limit) {
+        List<Task> found = new ArrayList<>();
+        for (Query q : assignedDatedQueries(assigneeId, statuses, after, limit)) {
+            found.addAll(mongo.find(q, Task.class));
+        }
+        // Undated tasks sort after all dated ones, one priority after the other: stop once the page is full
+        for (Query q : assignedUndatedQueries(assigneeId, statuses, after, limit)) {
+            if (found.size() >= limit) break;
+            found.addAll(mongo.find(q, Task.class));
+        }
+        return firstAssigned(found, limit);
+    }
+
+    // Shared with ReactiveTaskRepositoryImpl
+
+    /*
+     * "Assigned to me" reads assignee_status_due_idx with one query per priority: the enum is stored by name,
+     * so HIGH > MEDIUM > LOW is not an index order. Each query is a bounded scan already in (dueDate, _id)
+     * order (priority is pinned by equality), the few streams are merged in memory. The cost is a handful of
+     * index seeks of at most `limit` keys each, whatever the number of assignments.
+     */
+
+    static List<Query> assignedDatedQueries(String assigneeId, Collection<TaskStatus> statuses, AssignedCursor after, int limit) {
+        // A cursor among the undated tasks is past every dated one
+        if (after != null && after.dueDate() == null) return List.of();
+
+        List<Query> queries = new ArrayList<>();
+        for (TaskPriority priority : AssignedCursor.PRIORITIES) {
+            var criteria = assignedCriteria(assigneeId, statuses, priority);
+            if (after == null) {
+                criteria = criteria.and("dueDate").ne(null);
+            } else {
+                int order = Integer.compare(AssignedCursor.rank(priority), AssignedCursor.rank(after.priority()));
+                if (order < 0) {
+                    // Higher priority: its share of the cursor's day was already served
+                    criteria = criteria.and("dueDate").gt(after.dueDate());
+                } else if (order > 0) {
+                    criteria = criteria.and("dueDate").gte(after.dueDate());
+                } else {
+                    criteria = criteria.orOperator(
+                            Criteria.where("dueDate").gt(after.dueDate()),
+                            Criteria.where("dueDate").is(after.dueDate()).and("_id").gt(after.id()));
+                }
+            }
+            queries.add(assignedQuery(criteria, limit));
+        }
+        return queries;
+    }
+
+    static List<Query> assignedUndatedQueries(String assigneeId, Collection<TaskStatus> statuses, AssignedCursor after, int limit) {
+        boolean inUndated = after != null && after.dueDate() == null;
+        List<Query> queries = new ArrayList<>();
+        for (TaskPriority priority : AssignedCursor.PRIORITIES) {
+            int order = inUndated ? Integer.compare(AssignedCursor.rank(priority), AssignedCursor.rank(after.priority())) : 1;
+            if (order < 0) continue;
+            var criteria = assignedCriteria(assigneeId, statuses, priority).and("dueDate").is(null);
+            if (order == 0) criteria = criteria.and("_id").gt(after.id());
+            queries.add(assignedQuery(criteria, limit));
+        }
+        return queries;
+    }
+
+    static List<Task> firstAssigned(List<Task> found, int limit) {
+        return found.stream().sorted(AssignedCursor.ORDER).limit(limit).toList();
+    }
+
+    private static Criteria assignedCriteria(String assigneeId, Collection<TaskStatus> statuses, TaskPriority priority) {
+        return Criteria.where("assigneeId").is(assigneeId).and("status").in(statuses).and("priority").is(priority);
+    }
+
+    private static Query assignedQuery(Criteria criteria, int limit) {
+        // Same key order as the index, so several statuses are merged from the index instead of sorted
+        return Query.query(criteria).with(Sort.by("dueDate", "priority", "_id")).limit(limit);
+    }
+
+
+    static Query inProjectQuery(String projectId, Collection<String> ids) {
+        var query = Query.query(Criteria.where("projectId").is(projectId).and("_id").in(ids));
+        // What the project's task counters need to follow a status change
+        query.fields().include("_id").include("status").include("dueDate");
+        return query;
+    }
+
+    static Query placementQuery(String projectId, TaskPlacement p) {
+        // projectId in the filter keeps the write scoped to the owned project
+        return Query.query(Criteria.where("_id").is(p.taskId()).and("projectId").is(projectId));
+    }
+
+    static Update placementUpdate(TaskPlacement p) {
+        return new Update()
+                .set("status", p.status())
+                .set("rank", p.rank())
+                .set("order", p.order())
+                .unset("rankRebalance")
+                .currentDate("updatedAt");
+    }
+
+    // Placements without a write error; the bulk result only has a total matched count, not one per update
+    static List<String> writtenIds(List<TaskPlacement> placements, Map<String, String> failed) {
+        return placements.stream().map(TaskPlacement::taskId).filter(id -> !failed.containsKey(id)).toList();
+    }
+
+    // Tasks deleted after they were read: their updateOne matched nothing and wrote nothing
+    static Map<String, String> markDeleted(List<TaskPlacement> placements, Map<String, String> failed, Set<String> found) {
+        for (String id : writtenIds(placements, failed)) {
+            if (!found.contains(id)) failed.put(id, "TASK_NOT_FOUND");
+        }
+        return failed;
+    }
+
+    static Map<String, String> failedPlacements(List<TaskPlacement> placements, BulkOperationException ex) {
+        Map<String, String> failed = new HashMap<>();
+        ex.getErrors().forEach(e -> failed.put(placements.get(e.getIndex()).taskId(), e.getMessage()));
+        return failed;
+    }
+}
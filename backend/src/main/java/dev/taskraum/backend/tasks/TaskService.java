@@ -1,50 +1,110 @@
 package dev.taskraum.backend.tasks;
 
+import dev.taskraum.backend.common.CursorPage;
 import dev.taskraum.backend.common.enums.ProjectStatus;
 import dev.taskraum.backend.common.enums.TaskPriority;
 import dev.taskraum.backend.common.enums.TaskStatus;
-import dev.taskraum.backend.projects.Project;
+import dev.taskraum.backend.events.ProjectEvent;
+import dev.taskraum.backend.events.ProjectEventHub;
+import dev.taskraum.backend.projects.ProjectAccessCache;
 import dev.taskraum.backend.projects.ProjectRepository;
+import dev.taskraum.backend.projects.TaskCounters;
+import dev.taskraum.backend.tasks.dto.BoardResponse;
+import dev.taskraum.backend.tasks.dto.MoveTaskDto;
+import dev.taskraum.backend.tasks.dto.ReorderTasksDto;
+import dev.taskraum.backend.tasks.dto.TaskCard;
+import dev.taskraum.backend.tasks.dto.TaskOrderDto;
+import dev.taskraum.backend.tasks.dto.TaskOrderResult;
 import dev.taskraum.backend.tasks.dto.TaskDto;
 import dev.taskraum.backend.tasks.dto.TaskResponse;
+import io.micrometer.core.annotation.Counted;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+@Timed(value = "taskraum.service", histogram = true)
+@Counted(value = "taskraum.service.failures", recordFailuresOnly = true)
 @Service
 @RequiredArgsConstructor
 public class TaskService {
     private final TaskRepository taskRepo;
     private final ProjectRepository projectRepo;
+    private final ProjectAccessCache projectAccess;
+    private final ProjectEventHub events;
 
 
     // --- Helpers --- //
 
-    private Project requireOwnedProject(String ownerId, String projectId) {
-        return projectRepo.findByIdAndOwnerId(projectId, ownerId)
+    private ProjectStatus requireOwnedProject(String ownerId, String projectId) {
+        return projectAccess.status(ownerId, projectId)
                 .orElseThrow(() -> new IllegalArgumentException("PROJECT_NOT_FOUND"));
     }
 
-    private void ensureNotArchived(Project project) {
-        if (project.getStatus() == ProjectStatus.ARCHIVED) {
+    // Tasks of a force-deleted project linger until ProjectDeletionWorker removes them
+    private boolean projectExists(String ownerId, String projectId) {
+        return ownerId != null && projectAccess.status(ownerId, projectId).isPresent();
+    }
+
+    static void ensureNotArchived(ProjectStatus status) {
+        if (status == ProjectStatus.ARCHIVED) {
             throw new IllegalStateException("PROJECT_ARCHIVED_READ_ONLY");
         }
     }
 
-    private int nextOrder(String projectId, TaskStatus status) {
-        Task last = taskRepo.findTopByProjectIdAndStatusOrderByOrderDesc(projectId, status);
-        return (last == null) ? 100 : last.getOrder() + 100;
+    private static String neighbourRank(Map<String, Task> neighbours, String id, Task moving, TaskStatus target) {
+        if (id == null) return null;
+        Task n = neighbours.get(id);
+        if (n == null) throw new IllegalArgumentException("TASK_NOT_FOUND");
+        if (n.getId().equals(moving.getId())
+                || !n.getProjectId().equals(moving.getProjectId())
+                || n.getStatus() != target) {
+            throw new IllegalArgumentException("INVALID_MOVE");
+        }
+        return n.getRank();
+    }
+
+    // Open work unless asked otherwise
+    static Set<TaskStatus> assignedStatuses(Set<TaskStatus> statuses) {
+        return statuses == null || statuses.isEmpty() ? EnumSet.of(TaskStatus.TODO, TaskStatus.IN_PROGRESS) : statuses;
+    }
+
+    static AssignedCursor decodeAssignedCursor(String cursor) {
+        return cursor == null || cursor.isBlank() ? null : AssignedCursor.decode(cursor);
     }
 
-    private TaskResponse toResponse(Task task) {
+    // The cursor comes from the last row read, so hidden rows never cost a page its position
+    static CursorPage<TaskResponse> toAssignedPage(List<Task> rows, int size, Predicate<Task> visible) {
+        boolean hasNext = rows.size() > size;
+        var items = hasNext ? rows.subList(0, size) : rows;
+        String next = hasNext ? AssignedCursor.after(items.getLast()).encode() : null;
+        return new CursorPage<>(items.stream().filter(visible).map(TaskService::toResponse).toList(), next);
+    }
+
+    public static TaskResponse toResponse(Task task) {
         return TaskResponse.builder()
                 .id(task.getId())
                 .projectId(task.getProjectId())
                 .title(task.getTitle())
                 .description(task.getDescription())
                 .status(task.getStatus())
+                .rank(task.getRank())
                 .order(task.getOrder())
                 .priority(task.getPriority())
                 .dueDate(task.getDueDate())
@@ -54,67 +114,273 @@ public class TaskService {
                 .build();
     }
 
-    // --- API --- //
+    static TaskCard toCard(Task task) {
+        return TaskCard.builder()
+                .id(task.getId())
+                .title(task.getTitle())
+                .status(task.getStatus())
+                .rank(task.getRank())
+                .order(task.getOrder())
+                .priority(task.getPriority())
+                .dueDate(task.getDueDate())
+                .assigneeId(task.getAssigneeId())
+                .build();
+    }
 
-    public List<TaskResponse> list(String ownerId, String projectId, TaskStatus status) {
-        requireOwnedProject(ownerId, projectId);
-        return taskRepo.findByProjectIdAndStatusOrderByOrderAsc(projectId, status)
-                .stream().map(this::toResponse).toList();
+    // --- Shared with ReactiveTaskService --- //
+
+    static Collection<TaskStatus> wantedColumns(Collection<TaskStatus> statuses) {
+        return (statuses == null || statuses.isEmpty())
+                ? EnumSet.allOf(TaskStatus.class)
+                : EnumSet.copyOf(statuses);
     }
 
-    @Transactional
-    public TaskResponse create(String ownerId, String projectId, TaskDto dto) {
-        var project =  requireOwnedProject(ownerId, projectId);
-        ensureNotArchived(project);
+    static BoardResponse toBoard(String projectId, Collection<TaskStatus> wanted, List<Task> cards) {
+        // Requested columns are always present, even when empty
+        Map<TaskStatus, List<TaskCard>> columns = new EnumMap<>(TaskStatus.class);
+        wanted.forEach(s -> columns.put(s, new ArrayList<>()));
+        cards.forEach(t -> columns.get(t.getStatus()).add(toCard(t)));
+
+        return BoardResponse.builder()
+                .projectId(projectId)
+                .columns(columns)
+                .build();
+    }
 
+    static Task newTask(String ownerId, String projectId, TaskDto dto) {
         TaskStatus status = dto.getStatus() != null ? dto.getStatus() : TaskStatus.TODO;
-        int order =  dto.getOrder() != null ? dto.getOrder() : nextOrder(projectId, status);
 
         if (dto.getTitle() != null) dto.setTitle(dto.getTitle().trim());
         if (dto.getDescription() != null) dto.setDescription(dto.getDescription().trim());
 
-        Task task = Task.builder()
-                .projectId(project.getId())
+        return Task.builder()
+                .projectId(projectId)
+                .ownerId(ownerId)
                 .title(dto.getTitle())
                 .description(dto.getDescription())
                 .status(status)
-                .order(order)
+                .rank(TaskRank.next())
+                .order(dto.getOrder())
                 .priority(dto.getPriority() != null ? dto.getPriority() : TaskPriority.MEDIUM)
                 .dueDate(dto.getDueDate())
                 .assigneeId(dto.getAssigneeId())
                 .build();
-
-        return toResponse(taskRepo.save(task));
     }
 
-    @Transactional
-    public TaskResponse update(String ownerId, String taskId, TaskDto dto) {
-        Task task = taskRepo.findById(taskId)
-                .orElseThrow(() -> new IllegalArgumentException("TASK_NOT_FOUND"));
-
-        var project = projectRepo.findByIdAndOwnerId(task.getProjectId(), ownerId)
-                .orElseThrow(() -> new IllegalArgumentException("PROJECT_NOT_FOUND"));
-        ensureNotArchived(project);
-
+    static void applyUpdate(Task task, TaskDto dto) {
         TaskStatus currentStatus = task.getStatus();
         TaskStatus newStatus = dto.getStatus() !=  null ? dto.getStatus() : currentStatus;
 
         if (dto.getStatus() != null) task.setStatus(newStatus);
 
-        // Order logic: if not provided and column changes, append to end of target column
-        if (dto.getOrder() != null) {
-            task.setOrder(dto.getOrder());
-        } else if (newStatus != currentStatus) {
-            task.setOrder(nextOrder(task.getProjectId(), newStatus));
+        // Column change appends to end of target column; exact placement goes through move()
+        if (newStatus != currentStatus) {
+            task.setRank(TaskRank.next());
+            task.setRankRebalance(null);
         }
+        if (dto.getOrder() != null) task.setOrder(dto.getOrder());
 
         if (dto.getTitle() != null) task.setTitle(dto.getTitle().trim());
         if (dto.getDescription() != null) task.setDescription(dto.getDescription().trim());
         if (dto.getPriority() != null) task.setPriority(dto.getPriority());
         if (dto.getDueDate() != null) task.setDueDate(dto.getDueDate());
         if (dto.getAssigneeId() != null) task.setAssigneeId(dto.getAssigneeId());
+    }
+
+    static List<String> neighbourIds(MoveTaskDto dto) {
+        return Stream.of(dto.getAfterId(), dto.getBeforeId()).filter(Objects::nonNull).toList();
+    }
+
+    // Sets status and rank of the moved task from its (already loaded) neighbours
+    static void applyMove(Task task, MoveTaskDto dto, Map<String, Task> neighbours) {
+        TaskStatus target = dto.getStatus() != null ? dto.getStatus() : task.getStatus();
+
+        String lo = neighbourRank(neighbours, dto.getAfterId(), task, target);
+        String hi = neighbourRank(neighbours, dto.getBeforeId(), task, target);
 
-        return toResponse(taskRepo.save(task));
+        String rank;
+        if (hi == null) {
+            rank = TaskRank.next();
+            if (lo != null && rank.compareTo(lo) <= 0) rank = TaskRank.between(lo, null);
+        } else {
+            rank = TaskRank.between(lo, hi);
+        }
+
+        task.setStatus(target);
+        task.setRank(rank);
+        // Saved with the task, so queuing the column for TaskRankRebalancer costs no extra write
+        task.setRankRebalance(TaskRank.tooLong(rank) ? Boolean.TRUE : null);
+    }
+
+    record ReorderPlan(List<TaskPlacement> placements, Map<String, String> ranks) {}
+
+    static ReorderPlan planReorder(List<TaskOrderDto> items, Set<String> existing) {
+        // First occurrence of each id wins; later ones are reported as duplicates
+        Set<String> seen = new HashSet<>();
+        List<TaskOrderDto> accepted = items.stream()
+                .filter(i -> existing.contains(i.getTaskId()) && seen.add(i.getTaskId()))
+                .toList();
+
+        // Each listed column is complete (see reorderedColumns), so it gets fresh keys in the requested order
+        Map<String, String> ranks = new HashMap<>();
+        accepted.stream()
+                .collect(Collectors.groupingBy(TaskOrderDto::getStatus))
+                .values()
+                .forEach(column -> {
+                    List<TaskOrderDto> sorted = column.stream()
+                            .sorted(Comparator.comparing(TaskOrderDto::getOrder)).toList();
+                    List<String> keys = TaskRank.next(sorted.size());
+                    for (int i = 0; i < sorted.size(); i++) {
+                        ranks.put(sorted.get(i).getTaskId(), keys.get(i));
+                    }
+                });
+
+        List<TaskPlacement> placements = accepted.stream()
+                .map(i -> new TaskPlacement(i.getTaskId(), i.getStatus(), ranks.get(i.getTaskId()), i.getOrder()))
+                .toList();
+        return new ReorderPlan(placements, ranks);
+    }
+
+    static Set<TaskStatus> reorderedColumns(List<TaskOrderDto> items) {
+        return items.stream().map(TaskOrderDto::getStatus).collect(Collectors.toSet());
+    }
+
+    static Set<String> reorderedIds(List<TaskOrderDto> items) {
+        return items.stream().map(TaskOrderDto::getTaskId).collect(Collectors.toSet());
+    }
+
+    // Counter deltas of the placements that were written; a placement changes the status, never the due date
+    static TaskCounters placementCounters(List<TaskPlacement> placements, Map<String, Task> before, Map<String, String> failed) {
+        var counters = TaskCounters.none();
+        for (TaskPlacement p : placements) {
+            Task t = before.get(p.taskId());
+            if (t == null || failed.containsKey(p.taskId())) continue;
+            counters.change(t.getStatus(), t.getDueDate(), p.status(), t.getDueDate());
+        }
+        return counters;
+    }
+
+    static List<TaskOrderResult> reorderOutcomes(List<TaskOrderDto> items, Set<String> existing,
+                                                 Map<String, String> ranks, Map<String, String> failed) {
+        Set<String> reported = new HashSet<>();
+        return items.stream().map(i -> {
+            var result = TaskOrderResult.builder().taskId(i.getTaskId());
+            if (!existing.contains(i.getTaskId())) {
+                return result.outcome(TaskOrderResult.Outcome.NOT_FOUND).build();
+            }
+            if (!reported.add(i.getTaskId())) {
+                return result.outcome(TaskOrderResult.Outcome.DUPLICATE).build();
+            }
+            if (failed.containsKey(i.getTaskId())) {
+                return result.outcome(TaskOrderResult.Outcome.FAILED).message(failed.get(i.getTaskId())).build();
+            }
+            return result.outcome(TaskOrderResult.Outcome.UPDATED).rank(ranks.get(i.getTaskId())).build();
+        }).toList();
+    }
+
+    // --- API --- //
+
+    public TaskResponse get(String ownerId, String taskId) {
+        Task task = taskRepo.findById(taskId)
+                .orElseThrow(() -> new IllegalArgumentException("TASK_NOT_FOUND"));
+
+        requireOwnedProject(ownerId, task.getProjectId());
+        return toResponse(task);
+    }
+
+    public List<TaskResponse> list(String ownerId, String projectId, TaskStatus status) {
+        requireOwnedProject(ownerId, projectId);
+        return taskRepo.findByProjectIdAndStatusOrderByRankAsc(projectId, status)
+                .stream().map(TaskService::toResponse).toList();
+    }
+
+    // Tasks assigned to the user in any project, by due date then priority; one keyset page
+    public CursorPage<TaskResponse> assigned(String userId, Set<TaskStatus> statuses, String cursor, int size) {
+        // One extra row tells whether another page exists
+        var rows = taskRepo.findAssigned(userId, assignedStatuses(statuses), decodeAssignedCursor(cursor), size + 1);
+        return toAssignedPage(rows, size, t -> projectExists(t.getOwnerId(), t.getProjectId()));
+    }
+
+    // Board ETag source: one indexed lookup, no tasks read
+    public long boardVersion(String ownerId, String projectId) {
+        return projectRepo.findVersion(projectId, ownerId)
+                .orElseThrow(() -> new IllegalArgumentException("PROJECT_NOT_FOUND"));
+    }
+
+    public BoardResponse board(String ownerId, String projectId, Collection<TaskStatus> statuses) {
+        requireOwnedProject(ownerId, projectId);
+
+        Collection<TaskStatus> wanted = wantedColumns(statuses);
+        return toBoard(projectId, wanted, taskRepo.findCardsByProjectIdAndStatusInOrderByStatusAscRankAsc(projectId, wanted));
+    }
+
+    @Transactional
+    public TaskResponse create(String ownerId, String projectId, TaskDto dto) {
+        ensureNotArchived(requireOwnedProject(ownerId, projectId));
+
+        var saved = taskRepo.save(newTask(ownerId, projectId, dto));
+        long version = projectRepo.incrementVersion(projectId, TaskCounters.added(saved.getStatus(), saved.getDueDate()));
+        events.publish(ProjectEvent.task(ProjectEvent.Type.TASK_CREATED, projectId, version, toCard(saved)));
+        return toResponse(saved);
+    }
+
+    @Transactional
+    public TaskResponse update(String ownerId, String taskId, TaskDto dto) {
+        Task task = taskRepo.findById(taskId)
+                .orElseThrow(() -> new IllegalArgumentException("TASK_NOT_FOUND"));
+
+        ensureNotArchived(requireOwnedProject(ownerId, task.getProjectId()));
+        TaskStatus oldStatus = task.getStatus();
+        LocalDate oldDue = task.getDueDate();
+        applyUpdate(task, dto);
+
+        var saved = taskRepo.save(task);
+        long version = projectRepo.incrementVersion(task.getProjectId(),
+                TaskCounters.changed(oldStatus, oldDue, saved.getStatus(), saved.getDueDate()));
+        events.publish(ProjectEvent.task(ProjectEvent.Type.TASK_UPDATED, task.getProjectId(), version, toCard(saved)));
+        return toResponse(saved);
+    }
+
+    @Transactional
+    public TaskResponse move(String ownerId, String taskId, MoveTaskDto dto) {
+        Task task = taskRepo.findById(taskId)
+                .orElseThrow(() -> new IllegalArgumentException("TASK_NOT_FOUND"));
+
+        ensureNotArchived(requireOwnedProject(ownerId, task.getProjectId()));
+
+        // Both neighbours in one read; only the moved task is written
+        List<String> ids = neighbourIds(dto);
+        Map<String, Task> neighbours = ids.isEmpty() ? Map.of()
+                : taskRepo.findAllById(ids).stream().collect(Collectors.toMap(Task::getId, t -> t));
+        TaskStatus oldStatus = task.getStatus();
+        applyMove(task, dto, neighbours);
+
+        var saved = taskRepo.save(task);
+        long version = projectRepo.incrementVersion(task.getProjectId(),
+                TaskCounters.changed(oldStatus, saved.getDueDate(), saved.getStatus(), saved.getDueDate()));
+        events.publish(ProjectEvent.task(ProjectEvent.Type.TASK_UPDATED, task.getProjectId(), version, toCard(saved)));
+        return toResponse(saved);
+    }
+
+    public List<TaskOrderResult> reorder(String ownerId, String projectId, ReorderTasksDto dto) {
+        ensureNotArchived(requireOwnedProject(ownerId, projectId));
+
+        List<TaskOrderDto> items = dto.getItems();
+        Set<String> ids = reorderedIds(items);
+        // A listed column must list all of its cards: a partial list has no positions for the others
+        if (taskRepo.existsByProjectIdAndStatusInAndIdNotIn(projectId, reorderedColumns(items), ids)) {
+            throw new IllegalArgumentException("INCOMPLETE_COLUMN");
+        }
+        Map<String, Task> existing = taskRepo.findInProject(projectId, ids);
+
+        var plan = planReorder(items, existing.keySet());
+        Map<String, String> failed = taskRepo.applyPlacements(projectId, plan.placements());
+        if (!plan.placements().isEmpty()) {
+            long version = projectRepo.incrementVersion(projectId, placementCounters(plan.placements(), existing, failed));
+            events.publish(ProjectEvent.project(ProjectEvent.Type.BOARD_CHANGED, projectId, version));
+        }
+
+        return reorderOutcomes(items, existing.keySet(), plan.ranks(), failed);
     }
 
     @Transactional
@@ -122,9 +388,11 @@ public class TaskService {
         Task task = taskRepo.findById(taskId)
                 .orElseThrow(() -> new IllegalArgumentException("TASK_NOT_FOUND"));
 
-        projectRepo.findByIdAndOwnerId(task.getProjectId(), ownerId)
-                .orElseThrow(() -> new IllegalArgumentException("PROJECT_NOT_FOUND"));
+        requireOwnedProject(ownerId, task.getProjectId());
 
         taskRepo.delete(task);
+        long version = projectRepo.incrementVersion(task.getProjectId(),
+                TaskCounters.removed(task.getStatus(), task.getDueDate()));
+        events.publish(ProjectEvent.taskDeleted(task.getProjectId(), version, taskId));
     }
 }
@@ -0,0 +1,15 @@
+package dev.taskraum.backend.tasks.dto;
+
+import dev.taskraum.backend.common.enums.TaskStatus;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+import java.util.Map;
+
+@Value
+@Builder
+public class BoardResponse {
+    String projectId;
+    Map<TaskStatus, List<TaskCard>> columns;
+}
@@ -0,0 +1,15 @@
+package dev.taskraum.backend.tasks.dto;
+
+import dev.taskraum.backend.common.enums.TaskStatus;
+import lombok.Data;
+
+@Data
+public class MoveTaskDto {
+    // Target column; null keeps the current one
+    private TaskStatus status;
+
+    // Neighbours in the target column: the card that ends up above (afterId) and below (beforeId).
+    // Both null appends to the end of the column.
+    private String afterId;
+    private String beforeId;
+}
@@ -0,0 +1,15 @@
+package dev.taskraum.backend.tasks.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class ReorderTasksDto {
+    // Full new order of every column mentioned; a column with cards left out is rejected (INCOMPLETE_COLUMN)
+    @NotEmpty @Size(max = 1000)
+    private List<@Valid TaskOrderDto> items;
+}
@@ -0,0 +1,22 @@
+package dev.taskraum.backend.tasks.dto;
+
+import dev.taskraum.backend.common.enums.TaskPriority;
+import dev.taskraum.backend.common.enums.TaskStatus;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDate;
+
+// What a board card shows; the full task comes from GET /api/tasks/{id}
+@Value
+@Builder
+public class TaskCard {
+    String id;
+    String title;
+    TaskStatus status;
+    String rank;
+    Integer order;
+    TaskPriority priority;
+    LocalDate dueDate;
+    String assigneeId;
+}
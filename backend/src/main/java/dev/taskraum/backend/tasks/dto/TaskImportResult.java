@@ -0,0 +1,17 @@
+package dev.taskraum.backend.tasks.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+@Builder
+public class TaskImportResult {
+    public record RowError(long row, String message) {}
+
+    int imported;
+    int failed;
+    // First errors only (see TaskImportService.MAX_REPORTED_ERRORS)
+    List<RowError> errors;
+}
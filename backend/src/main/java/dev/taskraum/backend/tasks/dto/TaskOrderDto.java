@@ -0,0 +1,18 @@
+package dev.taskraum.backend.tasks.dto;
+
+import dev.taskraum.backend.common.enums.TaskStatus;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+@Data
+public class TaskOrderDto {
+    @NotBlank
+    private String taskId;
+
+    @NotNull
+    private TaskStatus status;
+
+    @NotNull
+    private Integer order;
+}
@@ -0,0 +1,15 @@
+package dev.taskraum.backend.tasks.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class TaskOrderResult {
+    public enum Outcome { UPDATED, NOT_FOUND, DUPLICATE, FAILED }
+
+    String taskId;
+    Outcome outcome;
+    String rank;
+    String message;
+}
@@ -16,6 +16,7 @@ public class TaskResponse {
     String title;
     String description;
     TaskStatus status;
+    String rank;
     Integer order;
     TaskPriority priority;
     LocalDate dueDate;
@@ -19,4 +19,6 @@ public class User {
     private String name;
     private String surname;
     @Builder.Default private List<String> roles = List.of("USER");
+    // SHA-256 (hex) of the calendar feed token; the token itself is only shown once
+    @Indexed(unique = true, sparse = true) private String calendarFeedHash;
 }
@@ -1,9 +1,17 @@
 package dev.taskraum.backend.users;
 
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.Update;
 
 import java.util.Optional;
 
 public interface UserRepository extends MongoRepository<User, String> {
     Optional<User> findByEmail(String email);
+    Optional<User> findByCalendarFeedHash(String calendarFeedHash);
+
+    // Replaces the hash only if it is still the one that was verified; returns the number of users updated
+    @Query("{'_id': ?0, 'passwordHash': ?1}")
+    @Update("{'$set': {'passwordHash': ?2}}")
+    long replacePasswordHash(String id, String expectedHash, String newHash);
 }
@@ -1,8 +1,12 @@
 package dev.taskraum.backend.users;
 
+import dev.taskraum.backend.security.HashingBusyException;
 import dev.taskraum.backend.users.dto.ChangePasswordDto;
 import dev.taskraum.backend.users.dto.UpdateProfileDto;
+import io.micrometer.core.annotation.Counted;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -11,10 +15,14 @@ import org.springframework.web.server.ResponseStatusException;
 import static org.springframework.http.HttpStatus.CONFLICT;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 
+@Timed(value = "taskraum.service", histogram = true)
+@Counted(value = "taskraum.service.failures", recordFailuresOnly = true)
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class UserService {
     private final UserRepository repo;
+    // BoundedPasswordEncoder: hashes on its own pool, throws HashingBusyException (429) when saturated
     private final PasswordEncoder passwordEncoder;
 
     public UserDto register(String email, String name, String surname, String rawPassword) {
@@ -38,9 +46,23 @@ public class UserService {
         if (!passwordEncoder.matches(rawPassword, user.getPasswordHash())) {
             throw new BadCredentialsException("Invalid password");
         }
+        if (passwordEncoder.upgradeEncoding(user.getPasswordHash())) {
+            rehash(user, rawPassword);
+        }
         return UserDto.from(user);
     }
 
+    // The only moment the raw password is at hand: bring an outdated hash to the current algorithm and cost
+    private void rehash(User user, String rawPassword) {
+        try {
+            // A password change since the read wins
+            repo.replacePasswordHash(user.getId(), user.getPasswordHash(), passwordEncoder.encode(rawPassword));
+        } catch (HashingBusyException ex) {
+            // Best effort: the login itself succeeded, the next one tries again
+            log.debug("Rehash of user {} skipped, hashing pool busy", user.getId());
+        }
+    }
+
     public UserDto findDto(String id) {
         return repo.findById(id).map(UserDto::from)
                 .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "User not found"));
@@ -1,9 +1,12 @@
 package dev.taskraum.backend.web;
 
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 
+// Servlet stack only; the "reactive" profile rewrites SPA routes in ReactiveWebConfig
+@Profile("!reactive")
 @Controller
 public class SpaController {
 
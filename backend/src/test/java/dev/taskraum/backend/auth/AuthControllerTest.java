@@ -1,5 +1,6 @@
 package dev.taskraum.backend.auth;
 
+import dev.taskraum.backend.security.AccessTokenCache;
 import dev.taskraum.backend.security.JwtUtil;
 import dev.taskraum.backend.users.UserDto;
 import dev.taskraum.backend.users.UserService;
@@ -27,6 +28,7 @@ class AuthControllerTest {
     @MockitoBean
     UserService users;
     @MockitoBean JwtUtil jwt;
+    @MockitoBean AccessTokenCache tokens;
 
     @Test
     void registerOk() throws Exception {
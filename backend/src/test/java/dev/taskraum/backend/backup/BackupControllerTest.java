@@ -0,0 +1,72 @@
+package dev.taskraum.backend.backup;
+
+import dev.taskraum.backend.security.UserPrincipal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(BackupController.class)
+@ActiveProfiles("test")
+@AutoConfigureMockMvc(addFilters = false)
+class BackupControllerTest {
+
+    @Autowired MockMvc mvc;
+    @MockitoBean BackupService service;
+
+    @BeforeEach
+    void setAuth() {
+        var auth = new UsernamePasswordAuthenticationToken(
+                new UserPrincipal("u1", "user@example.com"), null,
+                List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        SecurityContextHolder.getContext().setAuthentication(auth);
+    }
+    @AfterEach void clear() { SecurityContextHolder.clearContext(); }
+
+    @Test
+    void export_streamIsNotBoundByTheContainerDefaultTimeout() throws Exception {
+        doAnswer(inv -> {
+            OutputStream out = inv.getArgument(1);
+            out.write("{\"type\":\"project\"}\n".getBytes(StandardCharsets.UTF_8));
+            out.flush();
+            Thread.sleep(200); // a slow cursor between the two writes
+            out.write("{\"type\":\"task\"}\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(service).export(eq("u1"), any());
+
+        var started = mvc.perform(get("/api/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        // Tomcat would end the request after 30s; exports of large accounts take longer
+        assertThat(started.getRequest().getAsyncContext().getTimeout())
+                .isEqualTo(Duration.ofMinutes(30).toMillis());
+
+        mvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(BackupController.NDJSON))
+                .andExpect(content().string("{\"type\":\"project\"}\n{\"type\":\"task\"}\n"));
+    }
+}
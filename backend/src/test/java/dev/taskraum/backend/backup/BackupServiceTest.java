@@ -0,0 +1,111 @@
+package dev.taskraum.backend.backup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import dev.taskraum.backend.common.enums.ProjectStatus;
+import dev.taskraum.backend.common.enums.TaskPriority;
+import dev.taskraum.backend.common.enums.TaskStatus;
+import dev.taskraum.backend.projects.Project;
+import dev.taskraum.backend.tasks.Task;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataMongoTest
+class BackupServiceTest {
+
+    @Autowired private MongoTemplate mongo;
+    private BackupService service;
+
+    @BeforeEach
+    void setUp() {
+        mongo.dropCollection(Project.class);
+        mongo.dropCollection(Task.class);
+        var mapper = new ObjectMapper().findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        service = new BackupService(mongo, mapper, 2); // tiny batches to exercise flushing
+    }
+
+    private Project project(String id, String owner) {
+        return Project.builder().id(id).ownerId(owner).title("P-" + id).status(ProjectStatus.ACTIVE).build();
+    }
+
+    private Task task(String id, String projectId) {
+        return Task.builder().id(id).projectId(projectId).ownerId("u1").title("T-" + id)
+                .status(TaskStatus.TODO).rank("0b").priority(TaskPriority.LOW).build();
+    }
+
+    @Test
+    void export_writesOneLinePerDocument_forOwnerOnly() throws Exception {
+        mongo.insertAll(List.of(project("p1", "u1"), project("p2", "u1"), project("p3", "u2")));
+        mongo.insertAll(List.of(task("t1", "p1"), task("t2", "p1"), task("t3", "p2"), task("t4", "p3")));
+
+        var out = new ByteArrayOutputStream();
+        service.export("u1", out);
+
+        var lines = out.toString(StandardCharsets.UTF_8).strip().split("\n");
+        assertThat(lines).hasSize(5);
+        assertThat(lines[0]).contains("\"project\"");
+        assertThat(lines[4]).contains("\"task\"");
+        assertThat(String.join("\n", lines)).doesNotContain("p3").doesNotContain("t4");
+    }
+
+    @Test
+    void import_roundTrip_reassignsOwnerAndIds() throws Exception {
+        mongo.insertAll(List.of(project("p1", "u1")));
+        mongo.insertAll(List.of(task("t1", "p1"), task("t2", "p1"), task("t3", "p1")));
+        var out = new ByteArrayOutputStream();
+        service.export("u1", out);
+
+        var orphan = "{\"task\":{\"projectId\":\"unknown\",\"title\":\"x\",\"status\":\"TODO\"}}\n";
+        var res = service.importStream("u9", new ByteArrayInputStream(
+                (out.toString(StandardCharsets.UTF_8) + orphan).getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(res.getProjects()).isEqualTo(1);
+        assertThat(res.getTasks()).isEqualTo(3);
+        assertThat(res.getSkipped()).isEqualTo(1);
+
+        var imported = mongo.findOne(Query.query(Criteria.where("ownerId").is("u9")), Project.class);
+        assertThat(imported).isNotNull();
+        assertThat(imported.getId()).isNotEqualTo("p1");
+        assertThat(mongo.count(Query.query(Criteria.where("projectId").is(imported.getId())), Task.class))
+                .isEqualTo(3);
+        assertThat(mongo.find(Query.query(Criteria.where("projectId").is(imported.getId())), Task.class))
+                .extracting(Task::getOwnerId).containsOnly("u9");
+    }
+
+    @Test
+    void import_rebuildsTaskCounters_fromImportedTasks() throws Exception {
+        var p = project("p1", "u1");
+        p.setTaskCounts(Map.of("TODO", 99L, "DONE", 5L));
+        p.setOpenDueCounts(Map.of("2020-01-01", 7L));
+        mongo.insert(p);
+        var due = task("t1", "p1");
+        due.setDueDate(LocalDate.of(2025, 3, 1));
+        mongo.insertAll(List.of(due, task("t2", "p1")));
+        var out = new ByteArrayOutputStream();
+        service.export("u1", out);
+
+        // A task line without status is skipped and must not be counted
+        var bad = "{\"task\":{\"projectId\":\"p1\",\"title\":\"x\"}}\n";
+        service.importStream("u9", new ByteArrayInputStream(
+                (out.toString(StandardCharsets.UTF_8) + bad).getBytes(StandardCharsets.UTF_8)));
+
+        var imported = mongo.findOne(Query.query(Criteria.where("ownerId").is("u9")), Project.class);
+        assertThat(imported.getTaskCounts()).isEqualTo(Map.of("TODO", 2L));
+        assertThat(imported.getOpenDueCounts()).isEqualTo(Map.of("2025-03-01", 1L));
+    }
+}
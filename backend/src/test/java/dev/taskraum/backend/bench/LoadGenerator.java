@@ -0,0 +1,90 @@
+package dev.taskraum.backend.bench;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+/**
+ * Open-loop load at a fixed arrival rate: request i is due at {@code start + i / rate}, whatever
+ * happened to the ones before it, and runs on its own virtual thread. Latency is measured from the
+ * due time, not the actual send, so a stalled server shows up in the percentiles instead of
+ * silently lowering the offered load (no coordinated omission).
+ */
+final class LoadGenerator {
+
+    /** One endpoint of the mix; {@code request} builds a fresh request for every call. */
+    record Endpoint(String name, int weight, int expectedStatus, Function<ThreadLocalRandom, HttpRequest> request) {}
+
+    /** Latencies in nanoseconds, per endpoint. */
+    record Result(String endpoint, Histogram latencies, long errors) {}
+
+    private final HttpClient http;
+    private final List<Endpoint> mix;
+    private final int totalWeight;
+
+    LoadGenerator(HttpClient http, List<Endpoint> mix) {
+        this.http = http;
+        this.mix = List.copyOf(mix);
+        this.totalWeight = mix.stream().mapToInt(Endpoint::weight).sum();
+        if (totalWeight <= 0) throw new IllegalArgumentException("Empty workload mix");
+    }
+
+    /** Runs for {@code duration} at {@code ratePerSecond} and waits for the requests still in flight. */
+    List<Result> run(double ratePerSecond, Duration duration) {
+        Map<Endpoint, Recorder> recorders = new LinkedHashMap<>();
+        Map<Endpoint, LongAdder> errors = new LinkedHashMap<>();
+        for (Endpoint e : mix) {
+            recorders.put(e, new Recorder(3));
+            errors.put(e, new LongAdder());
+        }
+
+        long interval = (long) (1_000_000_000L / ratePerSecond);
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; ; i++) {
+                long due = start + i * interval;
+                if (due >= end) break;
+                long wait = due - System.nanoTime();
+                if (wait > 0) LockSupport.parkNanos(wait);
+
+                Endpoint e = pick(ThreadLocalRandom.current());
+                executor.execute(() -> {
+                    try {
+                        var res = http.send(e.request().apply(ThreadLocalRandom.current()),
+                                HttpResponse.BodyHandlers.discarding());
+                        if (res.statusCode() != e.expectedStatus()) errors.get(e).increment();
+                    } catch (Exception ex) {
+                        errors.get(e).increment();
+                    }
+                    recorders.get(e).recordValue(System.nanoTime() - due);
+                });
+            }
+        }
+
+        return mix.stream()
+                .map(e -> new Result(e.name(), recorders.get(e).getIntervalHistogram(), errors.get(e).sum()))
+                .toList();
+    }
+
+    private Endpoint pick(ThreadLocalRandom random) {
+        int r = random.nextInt(totalWeight);
+        for (Endpoint e : mix) {
+            r -= e.weight();
+            if (r < 0) return e;
+        }
+        throw new IllegalStateException();
+    }
+}
@@ -0,0 +1,354 @@
+package dev.taskraum.backend.bench;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import dev.taskraum.backend.BackendApplication;
+import dev.taskraum.backend.common.enums.ProjectStatus;
+import dev.taskraum.backend.common.enums.TaskPriority;
+import dev.taskraum.backend.common.enums.TaskStatus;
+import dev.taskraum.backend.projects.Project;
+import dev.taskraum.backend.tasks.Task;
+import dev.taskraum.backend.users.User;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.testcontainers.containers.MongoDBContainer;
+
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * End-to-end load test of the HTTP API: the app is started against a throwaway MongoDB container
+ * (or {@code -Dload.mongoUri}), a dataset is seeded straight into Mongo, and a mixed workload is
+ * driven at a fixed arrival rate by {@link LoadGenerator}. Run with {@code mvn -Pbench test -Dtest=LoadTest}.
+ * <p>
+ * Writes target/bench/load-test.json (per-endpoint p50/p95/p99/max plus the encoded histogram, for
+ * comparing builds) and one HdrHistogram percentile file per endpoint, target/bench/load-test-*.hgrm.
+ * <p>
+ * Knobs: -Dload.rate (200/s), -Dload.warmup (PT15S), -Dload.duration (PT60S), -Dload.users (50),
+ * -Dload.projects (5 per user), -Dload.tasks (200 per project), -Dload.profiles (servlet stack by default),
+ * -Dload.mix (login:2,projects:25,board:45,create:10,move:18), -Dload.hashCost (0: calibrated at startup).
+ * <p>
+ * {@link #apiLatencyStaysFlatDuringLoginStorm()} compares the API without and under a login storm
+ * ({@code -Dtest=LoadTest#apiLatencyStaysFlatDuringLoginStorm}); knobs: -Dload.apiMix (the mix above without
+ * logins), -Dload.loginRate (300/s), -Dload.maxSlowdown (1.5).
+ */
+@Tag("benchmark")
+class LoadTest {
+    private static final double RATE = Double.parseDouble(System.getProperty("load.rate", "200"));
+    private static final Duration WARMUP = Duration.parse(System.getProperty("load.warmup", "PT15S"));
+    private static final Duration DURATION = Duration.parse(System.getProperty("load.duration", "PT60S"));
+    private static final int USERS = Integer.getInteger("load.users", 50);
+    private static final int PROJECTS = Integer.getInteger("load.projects", 5);
+    private static final int TASKS = Integer.getInteger("load.tasks", 200);
+    private static final String PROFILES = System.getProperty("load.profiles", "");
+    private static final String MIX = System.getProperty("load.mix", "login:2,projects:25,board:45,create:10,move:18");
+    private static final String MONGO_URI = System.getProperty("load.mongoUri");
+    private static final int HASH_COST = Integer.getInteger("load.hashCost", 0);
+    private static final String API_MIX = System.getProperty("load.apiMix", "projects:25,board:45,create:10,move:18");
+    private static final double LOGIN_RATE = Double.parseDouble(System.getProperty("load.loginRate", "300"));
+    private static final Duration STORM_LEAD = Duration.ofSeconds(5);
+    private static final double MAX_SLOWDOWN = Double.parseDouble(System.getProperty("load.maxSlowdown", "1.5"));
+    private static final String PASSWORD = "load12345";
+
+    /** A seeded user with a logged-in session. */
+    private record Session(String email, String cookie, List<String> projectIds, List<String> taskIds) {}
+
+    record EndpointReport(String endpoint, long requests, long errors, double throughputPerSec,
+                          double p50Ms, double p95Ms, double p99Ms, double maxMs, double meanMs, String histogram) {}
+
+    record Report(Instant startedAt, String profiles, double ratePerSec, Duration warmup, Duration duration,
+                  int users, int projectsPerUser, int tasksPerProject, String mix, List<EndpointReport> endpoints) {}
+
+    record StormReport(Instant startedAt, String profiles, double apiRatePerSec, double loginRatePerSec,
+                       Duration duration, String apiMix, List<EndpointReport> baseline,
+                       List<EndpointReport> duringStorm, List<EndpointReport> logins) {}
+
+    @Test
+    void mixedWorkloadAtFixedRate() throws Exception {
+        try (var env = start()) {
+            var started = Instant.now();
+            var generator = new LoadGenerator(env.http(), workload(env.base(), env.sessions(), MIX));
+
+            generator.run(RATE, WARMUP);
+            var results = generator.run(RATE, DURATION);
+
+            var report = new Report(started, PROFILES.isBlank() ? "default" : PROFILES, RATE, WARMUP, DURATION,
+                    USERS, PROJECTS, TASKS, MIX, results.stream().map(LoadTest::toReport).toList());
+            write("load-test", report, results);
+
+            assertThat(report.endpoints()).allSatisfy(e -> assertThat(e.requests()).isPositive());
+        }
+    }
+
+    /**
+     * The API mix without logins at {@code load.rate}, first alone and then under a login storm of
+     * {@code load.loginRate}/s, far more than the password hashing pool gets through. Hashing runs on its own
+     * bounded pool and the overflow is turned away with 429, so the API percentiles should barely move; the
+     * test fails if an endpoint's p99 grows by more than {@code load.maxSlowdown} (plus 5 ms of noise).
+     * Writes target/bench/login-storm.json.
+     */
+    @Test
+    void apiLatencyStaysFlatDuringLoginStorm() throws Exception {
+        try (var env = start(); var background = Executors.newVirtualThreadPerTaskExecutor()) {
+            var started = Instant.now();
+            var api = new LoadGenerator(env.http(), workload(env.base(), env.sessions(), API_MIX));
+            var logins = new LoadGenerator(env.http(), List.of(new LoadGenerator.Endpoint("POST /auth/login", 1, 200,
+                    r -> loginRequest(env.base(), any(env.sessions(), r).email()))));
+
+            api.run(RATE, WARMUP);
+            var baseline = api.run(RATE, DURATION);
+
+            // The storm starts first so the hashing queue is already full when the measurement begins
+            var storm = background.submit(() -> logins.run(LOGIN_RATE, STORM_LEAD.plus(DURATION)));
+            Thread.sleep(STORM_LEAD.toMillis());
+            var underStorm = api.run(RATE, DURATION);
+            var loginResults = storm.get();
+
+            var report = new StormReport(started, PROFILES.isBlank() ? "default" : PROFILES, RATE, LOGIN_RATE,
+                    DURATION, API_MIX,
+                    baseline.stream().map(LoadTest::toReport).toList(),
+                    underStorm.stream().map(LoadTest::toReport).toList(),
+                    loginResults.stream().map(LoadTest::toReport).toList());
+            write("login-storm", report, List.of());
+
+            // Logins beyond the pool's capacity count as errors here (429s)
+            assertThat(report.logins()).allSatisfy(e -> assertThat(e.requests() - e.errors()).isPositive());
+            for (int i = 0; i < report.baseline().size(); i++) {
+                var before = report.baseline().get(i);
+                var during = report.duringStorm().get(i);
+                assertThat(during.p99Ms()).as(during.endpoint() + " p99 during the login storm")
+                        .isLessThanOrEqualTo(before.p99Ms() * MAX_SLOWDOWN + 5);
+            }
+        }
+    }
+
+    /** The app on a throwaway (or the given) MongoDB, with the seeded users logged in. */
+    private record Env(MongoDBContainer container, ConfigurableApplicationContext app, String base,
+                       HttpClient http, List<Session> sessions) implements AutoCloseable {
+        @Override
+        public void close() {
+            try {
+                app.close();
+            } finally {
+                if (container != null) container.stop();
+            }
+        }
+    }
+
+    private static Env start() throws Exception {
+        MongoDBContainer container = null;
+        String mongoUri = MONGO_URI;
+        if (mongoUri == null) {
+            container = new MongoDBContainer("mongo:7.0");
+            container.start();
+            mongoUri = container.getReplicaSetUrl("taskraum-load");
+        }
+        ConfigurableApplicationContext app = null;
+        try {
+            app = new SpringApplicationBuilder(BackendApplication.class)
+                    .profiles(PROFILES.isBlank() ? new String[0] : PROFILES.split(","))
+                    // Production-like hashing cost: the test resources pin the cheapest one
+                    .properties("server.port=0", "spring.data.mongodb.uri=" + mongoUri,
+                            "taskraum.password-hashing.cost=" + HASH_COST)
+                    .run();
+            int port = app.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            var base = "http://localhost:" + port;
+            var http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+            return new Env(container, app, base, http, login(http, base, seed(app)));
+        } catch (Exception | Error ex) {
+            if (app != null) app.close();
+            if (container != null) container.stop();
+            throw ex;
+        }
+    }
+
+    // --- Dataset --- //
+
+    /** Inserts users, projects and tasks directly; much faster than going through the API. */
+    private static List<Session> seed(ConfigurableApplicationContext app) {
+        var mongo = app.getBean(MongoTemplate.class);
+        // One hash for everyone: BCrypt per seeded user would dominate the setup
+        String hash = app.getBean(PasswordEncoder.class).encode(PASSWORD);
+        String run = UUID.randomUUID().toString().substring(0, 8);
+
+        var users = new ArrayList<User>(USERS);
+        for (int u = 0; u < USERS; u++) {
+            users.add(User.builder().email("load-" + run + "-" + u + "@example.com")
+                    .passwordHash(hash).name("Load").surname("User " + u).build());
+        }
+        mongo.insert(users, User.class);
+
+        TaskStatus[] statuses = TaskStatus.values();
+        TaskPriority[] priorities = TaskPriority.values();
+        var sessions = new ArrayList<Session>(USERS);
+        for (User user : users) {
+            var projects = new ArrayList<Project>(PROJECTS);
+            for (int p = 0; p < PROJECTS; p++) {
+                projects.add(Project.builder().ownerId(user.getId()).status(ProjectStatus.ACTIVE)
+                        .title("Load project " + p).description("Seeded for the load test").build());
+            }
+            mongo.insert(projects, Project.class);
+
+            var taskIds = new ArrayList<String>(PROJECTS * TASKS);
+            for (Project project : projects) {
+                var tasks = new ArrayList<Task>(TASKS);
+                for (int t = 0; t < TASKS; t++) {
+                    tasks.add(Task.builder().projectId(project.getId())
+                            .title("Task " + t).description("x".repeat(200))
+                            .status(statuses[t % statuses.length])
+                            .priority(priorities[t % priorities.length])
+                            // Valid rank keys in insertion order: fixed width, never ending in '0'
+                            .rank(String.format("%6s", Integer.toString(t, 36)).replace(' ', '0') + "1")
+                            .build());
+                }
+                mongo.insert(tasks, Task.class);
+                tasks.forEach(t -> taskIds.add(t.getId()));
+            }
+            sessions.add(new Session(user.getEmail(), null,
+                    projects.stream().map(Project::getId).toList(), taskIds));
+        }
+        return sessions;
+    }
+
+    private static List<Session> login(HttpClient http, String base, List<Session> seeded) throws Exception {
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var futures = new ArrayList<Future<Session>>();
+            for (Session s : seeded) {
+                futures.add(executor.submit(() -> new Session(s.email(), cookie(http, base, s.email()),
+                        s.projectIds(), s.taskIds())));
+            }
+            var sessions = new ArrayList<Session>(futures.size());
+            for (var f : futures) sessions.add(f.get());
+            return sessions;
+        }
+    }
+
+    private static String cookie(HttpClient http, String base, String email) throws Exception {
+        var res = http.send(loginRequest(base, email), HttpResponse.BodyHandlers.discarding());
+        assertThat(res.statusCode()).as("login " + email).isEqualTo(200);
+        return res.headers().allValues("Set-Cookie").stream()
+                .filter(c -> c.startsWith("access="))
+                .map(c -> c.substring(0, c.indexOf(';')))
+                .findFirst().orElseThrow();
+    }
+
+    // --- Workload --- //
+
+    private static List<LoadGenerator.Endpoint> workload(String base, List<Session> sessions, String mixSpec) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String part : mixSpec.split(",")) {
+            String[] kv = part.trim().split(":");
+            weights.put(kv[0], Integer.parseInt(kv[1]));
+        }
+        var mix = new ArrayList<LoadGenerator.Endpoint>();
+        weights.forEach((name, weight) -> {
+            if (weight <= 0) return;
+            mix.add(switch (name) {
+                case "login" -> new LoadGenerator.Endpoint("POST /auth/login", weight, 200,
+                        r -> loginRequest(base, any(sessions, r).email()));
+                case "projects" -> new LoadGenerator.Endpoint("GET /api/projects", weight, 200, r ->
+                        get(base + "/api/projects?size=20", any(sessions, r).cookie()));
+                case "board" -> new LoadGenerator.Endpoint("GET /api/projects/{id}/board", weight, 200, r -> {
+                    var s = any(sessions, r);
+                    return get(base + "/api/projects/" + any(s.projectIds(), r) + "/board", s.cookie());
+                });
+                case "create" -> new LoadGenerator.Endpoint("POST /api/projects/{id}/tasks", weight, 201, r -> {
+                    var s = any(sessions, r);
+                    return post(base + "/api/projects/" + any(s.projectIds(), r) + "/tasks", s.cookie(),
+                            "{\"title\":\"Load task\",\"description\":\"" + "y".repeat(200) + "\"}");
+                });
+                case "move" -> new LoadGenerator.Endpoint("POST /api/tasks/{id}/move", weight, 200, r -> {
+                    var s = any(sessions, r);
+                    // Append to a random column: one neighbour-free write, like dropping at the bottom
+                    return post(base + "/api/tasks/" + any(s.taskIds(), r) + "/move", s.cookie(),
+                            "{\"status\":\"" + any(Arrays.asList(TaskStatus.values()), r) + "\"}");
+                });
+                default -> throw new IllegalArgumentException("Unknown endpoint in load.mix: " + name);
+            });
+        });
+        return mix;
+    }
+
+    private static <T> T any(List<T> items, ThreadLocalRandom random) {
+        return items.get(random.nextInt(items.size()));
+    }
+
+    private static HttpRequest loginRequest(String base, String email) {
+        return post(base + "/auth/login", null, "{\"email\":\"" + email + "\",\"password\":\"" + PASSWORD + "\"}");
+    }
+
+    private static HttpRequest get(String url, String cookie) {
+        return HttpRequest.newBuilder(URI.create(url)).header("Cookie", cookie)
+                .timeout(Duration.ofSeconds(30)).GET().build();
+    }
+
+    private static HttpRequest post(String url, String cookie, String json) {
+        var req = HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(30))
+                .POST(HttpRequest.BodyPublishers.ofString(json));
+        if (cookie != null) req.header("Cookie", cookie);
+        return req.build();
+    }
+
+    // --- Output --- //
+
+    private static EndpointReport toReport(LoadGenerator.Result r) {
+        Histogram h = r.latencies();
+        var encoded = ByteBuffer.allocate(h.getNeededByteBufferCapacity());
+        int length = h.encodeIntoCompressedByteBuffer(encoded);
+        return new EndpointReport(r.endpoint(), h.getTotalCount(), r.errors(),
+                h.getTotalCount() / (DURATION.toMillis() / 1000.0),
+                ms(h.getValueAtPercentile(50)), ms(h.getValueAtPercentile(95)), ms(h.getValueAtPercentile(99)),
+                ms(h.getMaxValue()), h.getMean() / 1e6,
+                Base64.getEncoder().encodeToString(Arrays.copyOf(encoded.array(), length)));
+    }
+
+    private static double ms(long nanos) {
+        return nanos / 1e6;
+    }
+
+    private static void write(String name, Object report, List<LoadGenerator.Result> results) throws Exception {
+        var dir = Path.of("target", "bench");
+        Files.createDirectories(dir);
+        var json = new ObjectMapper().findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS)
+                .writerWithDefaultPrettyPrinter()
+                .writeValueAsString(report);
+        Files.writeString(dir.resolve(name + ".json"), json + "\n");
+        System.out.println(json);
+
+        for (var r : results) {
+            String file = name + "-" + r.endpoint().replaceAll("[^A-Za-z0-9]+", "-").replaceAll("-$", "") + ".hgrm";
+            try (var out = new PrintStream(Files.newOutputStream(dir.resolve(file)))) {
+                r.latencies().outputPercentileDistribution(out, 1e6); // in milliseconds
+            }
+        }
+    }
+}
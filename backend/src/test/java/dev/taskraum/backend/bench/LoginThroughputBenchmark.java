@@ -0,0 +1,169 @@
+package dev.taskraum.backend.bench;
+
+import dev.taskraum.backend.BackendApplication;
+import dev.taskraum.backend.users.User;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Login throughput per password hashing setting: the app is started once per setting against the local Mongo,
+ * one user registers (so its hash is made with that setting) and closed-loop clients log in as fast as the
+ * server lets them. Reports successful logins per second, latency of the successful ones, and how many were
+ * turned away with 429 by the hashing pool. Not part of the normal build; run with {@code mvn -Pbench test}.
+ * Writes target/bench/login-throughput.json.
+ * Knobs: -Dbench.hashSettings (bcrypt:10,bcrypt:11,bcrypt:12,argon2:2,argon2:4,bcrypt:0; cost 0 = calibrated),
+ * -Dbench.concurrency (16), -Dbench.warmup (PT5S), -Dbench.duration (PT20S).
+ */
+@Tag("benchmark")
+class LoginThroughputBenchmark {
+    private static final String SETTINGS = System.getProperty("bench.hashSettings",
+            "bcrypt:10,bcrypt:11,bcrypt:12,argon2:2,argon2:4,bcrypt:0");
+    private static final int CONCURRENCY = Integer.getInteger("bench.concurrency", 16);
+    private static final Duration WARMUP = Duration.parse(System.getProperty("bench.warmup", "PT5S"));
+    private static final Duration DURATION = Duration.parse(System.getProperty("bench.duration", "PT20S"));
+    private static final String PASSWORD = "bench12345";
+
+    record Result(String algorithm, int cost, String storedParameters, long logins, long rejected, long errors,
+                  double loginsPerSec, double p50Ms, double p99Ms, double maxMs) {
+        String json() {
+            return String.format(java.util.Locale.ROOT,
+                    "{\"algorithm\":\"%s\",\"cost\":%d,\"storedParameters\":\"%s\",\"logins\":%d,\"rejected\":%d,"
+                            + "\"errors\":%d,\"loginsPerSec\":%.1f,\"p50Ms\":%.2f,\"p99Ms\":%.2f,\"maxMs\":%.2f}",
+                    algorithm, cost, storedParameters, logins, rejected, errors, loginsPerSec, p50Ms, p99Ms, maxMs);
+        }
+    }
+
+    @Test
+    void loginThroughputPerHashSetting() throws Exception {
+        var results = new ArrayList<Result>();
+        for (String setting : SETTINGS.split(",")) {
+            String[] parts = setting.trim().split(":");
+            results.add(run(parts[0], Integer.parseInt(parts[1])));
+        }
+
+        results.forEach(r -> System.out.println(r.json()));
+        var out = Path.of("target", "bench", "login-throughput.json");
+        Files.createDirectories(out.getParent());
+        Files.writeString(out, "[" + String.join(",", results.stream().map(Result::json).toList()) + "]\n");
+
+        assertThat(results).allSatisfy(r -> assertThat(r.logins()).isPositive());
+    }
+
+    private Result run(String algorithm, int cost) throws Exception {
+        try (var app = new SpringApplicationBuilder(BackendApplication.class)
+                .properties(
+                        "server.port=0",
+                        "taskraum.password-hashing.algorithm=" + algorithm,
+                        "taskraum.password-hashing.cost=" + cost,
+                        "spring.data.mongodb.uri=mongodb://localhost:27017/taskraum-bench")
+                .run()) {
+            int port = app.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            var http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+            var base = "http://localhost:" + port;
+
+            String email = register(http, base);
+            String stored = app.getBean(MongoTemplate.class)
+                    .findOne(Query.query(Criteria.where("email").is(email)), User.class)
+                    .getPasswordHash();
+            var login = HttpRequest.newBuilder(URI.create(base + "/auth/login"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            "{\"email\":\"" + email + "\",\"password\":\"" + PASSWORD + "\"}"))
+                    .build();
+
+            load(http, login, WARMUP);
+            var measured = load(http, login, DURATION);
+            long[] all = measured.latencies.stream().flatMapToLong(Arrays::stream).toArray();
+            Arrays.sort(all);
+            return new Result(algorithm, cost, parameters(stored), all.length, measured.rejected.sum(),
+                    measured.errors.sum(), all.length / (DURATION.toMillis() / 1000.0),
+                    percentile(all, 0.50), percentile(all, 0.99), all.length == 0 ? 0 : all[all.length - 1] / 1e6);
+        }
+    }
+
+    private static String register(HttpClient http, String base) throws Exception {
+        String email = "bench-" + UUID.randomUUID() + "@example.com";
+        var req = HttpRequest.newBuilder(URI.create(base + "/auth/register"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"email\":\"" + email + "\",\"name\":\"Bench\",\"surname\":\"Mark\",\"password\":\"" + PASSWORD + "\"}"))
+                .build();
+        var res = http.send(req, HttpResponse.BodyHandlers.discarding());
+        assertThat(res.statusCode()).as("register").isEqualTo(200);
+        return email;
+    }
+
+    // The stored hash without salt and digest, e.g. {bcrypt}$2a$12 or {argon2}$argon2id$v=19$m=16384,t=4,p=1
+    private static String parameters(String hash) {
+        String[] parts = hash.split("\\$");
+        int keep = parts.length - (hash.startsWith("{argon2}") ? 2 : 1);
+        return String.join("$", Arrays.copyOf(parts, keep));
+    }
+
+    private record Load(List<long[]> latencies, LongAdder rejected, LongAdder errors) {}
+
+    // Closed loop: CONCURRENCY clients, each logging in again as soon as the previous attempt returns
+    private static Load load(HttpClient http, HttpRequest request, Duration duration) throws InterruptedException {
+        long end = System.nanoTime() + duration.toNanos();
+        var latencies = new ArrayList<long[]>();
+        var rejected = new LongAdder();
+        var errors = new LongAdder();
+        var threads = new ArrayList<Thread>();
+        for (int c = 0; c < CONCURRENCY; c++) {
+            long[][] slot = {new long[1024]};
+            int[] n = {0};
+            latencies.add(null);
+            int index = c;
+            threads.add(Thread.ofVirtual().start(() -> {
+                while (System.nanoTime() < end) {
+                    long start = System.nanoTime();
+                    try {
+                        var res = http.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (res.statusCode() == 429) {
+                            rejected.increment();
+                            continue;
+                        }
+                        if (res.statusCode() != 200) {
+                            errors.increment();
+                            continue;
+                        }
+                    } catch (Exception ex) {
+                        errors.increment();
+                        continue;
+                    }
+                    if (n[0] == slot[0].length) slot[0] = Arrays.copyOf(slot[0], n[0] * 2);
+                    slot[0][n[0]++] = System.nanoTime() - start;
+                }
+                synchronized (latencies) {
+                    latencies.set(index, Arrays.copyOf(slot[0], n[0]));
+                }
+            }));
+        }
+        for (Thread t : threads) t.join();
+        return new Load(latencies, rejected, errors);
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) return 0;
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1)] / 1e6;
+    }
+}
@@ -0,0 +1,211 @@
+package dev.taskraum.backend.bench;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.taskraum.backend.BackendApplication;
+import dev.taskraum.backend.common.enums.ProjectStatus;
+import dev.taskraum.backend.common.enums.TaskStatus;
+import dev.taskraum.backend.projects.Project;
+import dev.taskraum.backend.tasks.Task;
+import dev.taskraum.backend.users.User;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.testcontainers.containers.MongoDBContainer;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * GET /api/search on one account with many tasks (500k by default), against GET board on the same
+ * account as the latency budget. Queries cover a rare, a medium and a very common term, a two-word
+ * query and a second page. Requests are sequential, so the numbers are per-request latency, not throughput.
+ * Run with {@code mvn -Pbench test -Dtest=SearchBenchmark}; uses a MongoDB container unless -Dsearch.mongoUri
+ * is given. Writes target/bench/search.json.
+ * Knobs: -Dsearch.tasks (500000), -Dsearch.projects (1000), -Dsearch.requests (200), -Dsearch.budgetMs
+ * (default: the measured board p99).
+ */
+@Tag("benchmark")
+class SearchBenchmark {
+    private static final int TASKS = Integer.getInteger("search.tasks", 500_000);
+    private static final int PROJECTS = Integer.getInteger("search.projects", 1000);
+    private static final int REQUESTS = Integer.getInteger("search.requests", 200);
+    private static final String BUDGET_MS = System.getProperty("search.budgetMs");
+    private static final String MONGO_URI = System.getProperty("search.mongoUri");
+    private static final int BATCH = 10_000;
+
+    // Planted terms with known document frequencies; everything else is filler vocabulary
+    private static final Map<String, Integer> PLANTED = Map.of("zephyr", 20, "migration", 5_000, "update", 100_000);
+
+    record Latency(String name, long requests, long errors, double p50Ms, double p95Ms, double p99Ms, double maxMs,
+                   Boolean withinBudget) {}
+
+    @Test
+    void searchWithinBoardBudget() throws Exception {
+        MongoDBContainer container = null;
+        String mongoUri = MONGO_URI;
+        if (mongoUri == null) {
+            container = new MongoDBContainer("mongo:7.0");
+            container.start();
+            mongoUri = container.getReplicaSetUrl("taskraum-search");
+        }
+        try (var app = new SpringApplicationBuilder(BackendApplication.class)
+                .properties("server.port=0", "spring.data.mongodb.uri=" + mongoUri)
+                .run()) {
+            int port = app.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            var base = "http://localhost:" + port;
+            var http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+
+            var mongo = app.getBean(MongoTemplate.class);
+            String email = "search-" + UUID.randomUUID() + "@example.com";
+            var user = mongo.insert(User.builder().email(email).name("Search").surname("Bench")
+                    .passwordHash(app.getBean(PasswordEncoder.class).encode("search12345")).build());
+            List<String> projectIds = seed(mongo, user.getId());
+            String cookie = login(http, base, email);
+
+            var board = measure("board", http, base + "/api/projects/" + projectIds.getFirst() + "/board", cookie);
+            double budget = BUDGET_MS != null ? Double.parseDouble(BUDGET_MS) : board.p99Ms();
+
+            var results = new ArrayList<Latency>();
+            results.add(board);
+            for (var q : List.of("zephyr", "migration", "update", "migration zephyr")) {
+                results.add(withBudget(measure("search " + q, http, searchUrl(base, q, null), cookie), budget));
+            }
+            String cursor = firstCursor(http, searchUrl(base, "update", null), cookie);
+            results.add(withBudget(measure("search update (page 2)", http, searchUrl(base, "update", cursor), cookie), budget));
+
+            var json = new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(Map.of(
+                    "tasks", TASKS, "projects", PROJECTS, "budgetMs", budget, "results", results));
+            System.out.println(json);
+            var out = Path.of("target", "bench", "search.json");
+            Files.createDirectories(out.getParent());
+            Files.writeString(out, json + "\n");
+
+            assertThat(results).allSatisfy(r -> assertThat(r.errors()).isZero());
+        } finally {
+            if (container != null) container.stop();
+        }
+    }
+
+    private static List<String> seed(MongoTemplate mongo, String ownerId) {
+        var projects = new ArrayList<Project>(PROJECTS);
+        for (int p = 0; p < PROJECTS; p++) {
+            projects.add(Project.builder().ownerId(ownerId).status(ProjectStatus.ACTIVE)
+                    .title("Project " + p).description("Benchmark project " + p).build());
+        }
+        mongo.insert(projects, Project.class);
+
+        var random = new Random(42);
+        var filler = vocabulary(random, 5_000);
+        // Task indexes carrying each planted term, spread evenly over the dataset
+        Map<Integer, List<String>> planted = new LinkedHashMap<>();
+        PLANTED.forEach((term, count) -> {
+            for (int i = 0; i < count; i++) planted.computeIfAbsent((int) ((long) i * TASKS / count), k -> new ArrayList<>()).add(term);
+        });
+
+        TaskStatus[] statuses = TaskStatus.values();
+        var batch = new ArrayList<Task>(BATCH);
+        for (int t = 0; t < TASKS; t++) {
+            var extra = planted.getOrDefault(t, List.of());
+            batch.add(Task.builder()
+                    .projectId(projects.get(t % PROJECTS).getId())
+                    .title(words(random, filler, 4) + (extra.isEmpty() ? "" : " " + extra.getFirst()))
+                    .description(words(random, filler, 30) + " " + String.join(" ", extra))
+                    .status(statuses[t % statuses.length])
+                    .rank(String.format("%6s", Integer.toString(t / PROJECTS, 36)).replace(' ', '0') + "1")
+                    .build());
+            if (batch.size() == BATCH) {
+                mongo.insert(batch, Task.class);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) mongo.insert(batch, Task.class);
+        return projects.stream().map(Project::getId).toList();
+    }
+
+    // Pronounceable pseudo-words, so the stemmer sees ordinary tokens
+    private static List<String> vocabulary(Random random, int size) {
+        String[] syllables = {"ka", "lo", "mi", "ter", "vas", "den", "ro", "sil", "pan", "qu", "es", "tor", "bi", "nal"};
+        var words = new ArrayList<String>(size);
+        for (int i = 0; i < size; i++) {
+            var w = new StringBuilder();
+            for (int s = 0; s < 2 + random.nextInt(3); s++) w.append(syllables[random.nextInt(syllables.length)]);
+            words.add(w.toString());
+        }
+        return words;
+    }
+
+    // Skewed towards the front of the vocabulary, like real text
+    private static String words(Random random, List<String> vocabulary, int n) {
+        var out = new StringBuilder();
+        for (int i = 0; i < n; i++) {
+            if (i > 0) out.append(' ');
+            double u = random.nextDouble();
+            out.append(vocabulary.get((int) (u * u * vocabulary.size())));
+        }
+        return out.toString();
+    }
+
+    private static String login(HttpClient http, String base, String email) throws Exception {
+        var res = http.send(HttpRequest.newBuilder(URI.create(base + "/auth/login"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(
+                                "{\"email\":\"" + email + "\",\"password\":\"search12345\"}")).build(),
+                HttpResponse.BodyHandlers.discarding());
+        assertThat(res.statusCode()).isEqualTo(200);
+        return res.headers().allValues("Set-Cookie").stream()
+                .filter(c -> c.startsWith("access="))
+                .map(c -> c.substring(0, c.indexOf(';')))
+                .findFirst().orElseThrow();
+    }
+
+    private static String searchUrl(String base, String q, String cursor) {
+        return base + "/api/search?q=" + URLEncoder.encode(q, StandardCharsets.UTF_8)
+                + (cursor != null ? "&cursor=" + cursor : "");
+    }
+
+    private static String firstCursor(HttpClient http, String url, String cookie) throws Exception {
+        var body = http.send(HttpRequest.newBuilder(URI.create(url)).header("Cookie", cookie).GET().build(),
+                HttpResponse.BodyHandlers.ofString()).body();
+        return new ObjectMapper().readTree(body).path("nextCursor").asText();
+    }
+
+    private static Latency measure(String name, HttpClient http, String url, String cookie) throws Exception {
+        var request = HttpRequest.newBuilder(URI.create(url)).header("Cookie", cookie).GET().build();
+        for (int i = 0; i < REQUESTS / 4; i++) http.send(request, HttpResponse.BodyHandlers.discarding()); // warm-up
+
+        var histogram = new Histogram(3);
+        long errors = 0;
+        for (int i = 0; i < REQUESTS; i++) {
+            long start = System.nanoTime();
+            var res = http.send(request, HttpResponse.BodyHandlers.discarding());
+            histogram.recordValue(System.nanoTime() - start);
+            if (res.statusCode() != 200) errors++;
+        }
+        return new Latency(name, histogram.getTotalCount(), errors,
+                histogram.getValueAtPercentile(50) / 1e6, histogram.getValueAtPercentile(95) / 1e6,
+                histogram.getValueAtPercentile(99) / 1e6, histogram.getMaxValue() / 1e6, null);
+    }
+
+    private static Latency withBudget(Latency l, double budgetMs) {
+        return new Latency(l.name(), l.requests(), l.errors(), l.p50Ms(), l.p95Ms(), l.p99Ms(), l.maxMs(),
+                l.p99Ms() <= budgetMs);
+    }
+}
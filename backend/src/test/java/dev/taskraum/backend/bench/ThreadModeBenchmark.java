@@ -0,0 +1,156 @@
+package dev.taskraum.backend.bench;
+
+import dev.taskraum.backend.BackendApplication;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Platform vs virtual request threads under high concurrency: the app is started once per mode against the
+ * local Mongo and closed-loop clients hammer the board endpoint (JWT cookie auth + Mongo read per request).
+ * Not part of the normal build; run with {@code mvn -Pbench test}. Writes target/bench/thread-modes.json.
+ * Knobs: -Dbench.concurrency (1000), -Dbench.warmup (PT10S), -Dbench.duration (PT30S), -Dbench.tasks (200).
+ */
+@Tag("benchmark")
+class ThreadModeBenchmark {
+    private static final int CONCURRENCY = Integer.getInteger("bench.concurrency", 1000);
+    private static final Duration WARMUP = Duration.parse(System.getProperty("bench.warmup", "PT10S"));
+    private static final Duration DURATION = Duration.parse(System.getProperty("bench.duration", "PT30S"));
+    private static final int TASKS = Integer.getInteger("bench.tasks", 200);
+
+    record Result(String mode, long requests, long errors, double throughput, double p50Ms, double p99Ms, double maxMs) {
+        String json() {
+            return String.format(java.util.Locale.ROOT,
+                    "{\"mode\":\"%s\",\"requests\":%d,\"errors\":%d,\"throughputPerSec\":%.1f,\"p50Ms\":%.2f,\"p99Ms\":%.2f,\"maxMs\":%.2f}",
+                    mode, requests, errors, throughput, p50Ms, p99Ms, maxMs);
+        }
+    }
+
+    @Test
+    void platformVsVirtualThreads() throws Exception {
+        var results = List.of(run(false), run(true));
+
+        results.forEach(r -> System.out.println(r.json()));
+        var out = Path.of("target", "bench", "thread-modes.json");
+        Files.createDirectories(out.getParent());
+        Files.writeString(out, "[" + String.join(",", results.stream().map(Result::json).toList()) + "]\n");
+
+        assertThat(results).allSatisfy(r -> assertThat(r.requests()).isPositive());
+    }
+
+    private Result run(boolean virtual) throws Exception {
+        try (var app = new SpringApplicationBuilder(BackendApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtual,
+                        "spring.data.mongodb.uri=mongodb://localhost:27017/taskraum-bench")
+                .run()) {
+            int port = app.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            var http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+            var base = "http://localhost:" + port;
+
+            String cookie = login(http, base);
+            String projectId = seed(http, base, cookie);
+            var board = HttpRequest.newBuilder(URI.create(base + "/api/projects/" + projectId + "/board"))
+                    .header("Cookie", cookie).GET().build();
+
+            load(http, board, WARMUP);
+            return measure(virtual ? "virtual" : "platform", http, board);
+        }
+    }
+
+    private static String login(HttpClient http, String base) throws Exception {
+        String email = "bench-" + UUID.randomUUID() + "@example.com";
+        post(http, base + "/auth/register", null,
+                "{\"email\":\"" + email + "\",\"name\":\"Bench\",\"surname\":\"Mark\",\"password\":\"bench12345\"}");
+        var res = post(http, base + "/auth/login", null,
+                "{\"email\":\"" + email + "\",\"password\":\"bench12345\"}");
+        return res.headers().allValues("Set-Cookie").stream()
+                .filter(c -> c.startsWith("access="))
+                .map(c -> c.substring(0, c.indexOf(';')))
+                .findFirst().orElseThrow();
+    }
+
+    private static String seed(HttpClient http, String base, String cookie) throws Exception {
+        var project = post(http, base + "/api/projects", cookie, "{\"title\":\"Bench\",\"description\":\"Load\"}").body();
+        String id = project.replaceAll(".*\"id\":\"([^\"]+)\".*", "$1");
+        for (int i = 0; i < TASKS; i++) {
+            post(http, base + "/api/projects/" + id + "/tasks", cookie,
+                    "{\"title\":\"Task " + i + "\",\"description\":\"" + "x".repeat(200) + "\"}");
+        }
+        return id;
+    }
+
+    private static HttpResponse<String> post(HttpClient http, String url, String cookie, String json) throws Exception {
+        var req = HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json));
+        if (cookie != null) req.header("Cookie", cookie);
+        var res = http.send(req.build(), HttpResponse.BodyHandlers.ofString());
+        assertThat(res.statusCode()).as(url).isBetween(200, 299);
+        return res;
+    }
+
+    private Result measure(String mode, HttpClient http, HttpRequest request) throws Exception {
+        var perClient = load(http, request, DURATION);
+        long[] all = perClient.latencies.stream().flatMapToLong(Arrays::stream).toArray();
+        Arrays.sort(all);
+        return new Result(mode, all.length, perClient.errors.sum(), all.length / (DURATION.toMillis() / 1000.0),
+                percentile(all, 0.50), percentile(all, 0.99), all.length == 0 ? 0 : all[all.length - 1] / 1e6);
+    }
+
+    private record Load(List<long[]> latencies, LongAdder errors) {}
+
+    // Closed loop: CONCURRENCY clients, each sending the next request as soon as the previous one returns
+    private static Load load(HttpClient http, HttpRequest request, Duration duration) throws InterruptedException {
+        long end = System.nanoTime() + duration.toNanos();
+        var latencies = new ArrayList<long[]>();
+        var errors = new LongAdder();
+        var threads = new ArrayList<Thread>();
+        for (int c = 0; c < CONCURRENCY; c++) {
+            long[][] slot = {new long[1024]};
+            int[] n = {0};
+            latencies.add(null);
+            int index = c;
+            threads.add(Thread.ofVirtual().start(() -> {
+                while (System.nanoTime() < end) {
+                    long start = System.nanoTime();
+                    try {
+                        var res = http.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (res.statusCode() != 200) errors.increment();
+                    } catch (Exception ex) {
+                        errors.increment();
+                        continue;
+                    }
+                    if (n[0] == slot[0].length) slot[0] = Arrays.copyOf(slot[0], n[0] * 2);
+                    slot[0][n[0]++] = System.nanoTime() - start;
+                }
+                synchronized (latencies) {
+                    latencies.set(index, Arrays.copyOf(slot[0], n[0]));
+                }
+            }));
+        }
+        for (Thread t : threads) t.join();
+        return new Load(latencies, errors);
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) return 0;
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1)] / 1e6;
+    }
+}
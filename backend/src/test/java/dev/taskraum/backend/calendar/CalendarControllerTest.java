@@ -0,0 +1,142 @@
+package dev.taskraum.backend.calendar;
+
+import dev.taskraum.backend.security.UserPrincipal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(CalendarController.class)
+@ActiveProfiles("test")
+@AutoConfigureMockMvc(addFilters = false)
+class CalendarControllerTest {
+
+    @Autowired MockMvc mvc;
+    @MockitoBean CalendarService service;
+
+    @BeforeEach
+    void setAuth() {
+        var auth = new UsernamePasswordAuthenticationToken(
+                new UserPrincipal("u1", "user@example.com"), null,
+                List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        SecurityContextHolder.getContext().setAuthentication(auth);
+    }
+    @AfterEach void clear() { SecurityContextHolder.clearContext(); }
+
+    @Test
+    void range_streamsTheServiceOutput() throws Exception {
+        var from = LocalDate.of(2025, 3, 1);
+        var to = LocalDate.of(2025, 3, 31);
+        doAnswer(inv -> {
+            inv.<OutputStream>getArgument(3).write("[{\"id\":\"t1\"}]".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(service).writeRange(eq("u1"), eq(from), eq(to), any());
+
+        var started = mvc.perform(get("/api/calendar").param("from", "2025-03-01").param("to", "2025-03-31"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value("t1"));
+    }
+
+    @Test
+    void range_rejectsInvalidRangeBeforeStreaming() throws Exception {
+        var from = LocalDate.of(2025, 3, 31);
+        var to = LocalDate.of(2025, 3, 1);
+        doThrow(new IllegalArgumentException("INVALID_RANGE")).when(service).checkRange(from, to);
+
+        mvc.perform(get("/api/calendar").param("from", "2025-03-31").param("to", "2025-03-01"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("INVALID_RANGE"));
+        verify(service, never()).writeRange(any(), any(), any(), any());
+    }
+
+    @Test
+    void feed_servesIcsWithStrongETag_and304WhenUnchanged() throws Exception {
+        var feed = new CalendarService.Feed("u1", LocalDate.of(2025, 3, 10), "\"abc-2025-03-10\"", Map.of());
+        when(service.feed(eq("tok"), any())).thenReturn(Optional.of(feed));
+        doAnswer(inv -> {
+            inv.<OutputStream>getArgument(1).write("BEGIN:VCALENDAR\r\nEND:VCALENDAR\r\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(service).writeFeed(eq(feed), any());
+
+        var started = mvc.perform(get("/api/calendar/feed/tok.ics"))
+                .andExpect(request().asyncStarted())
+                .andExpect(header().string("ETag", "\"abc-2025-03-10\""))
+                .andReturn();
+        mvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/calendar"))
+                .andExpect(content().string("BEGIN:VCALENDAR\r\nEND:VCALENDAR\r\n"));
+
+        mvc.perform(get("/api/calendar/feed/tok.ics").header("If-None-Match", "\"abc-2025-03-10\""))
+                .andExpect(status().isNotModified());
+        verify(service, times(1)).writeFeed(eq(feed), any());
+    }
+
+    @Test
+    void range_streamIsNotBoundByTheContainerDefaultTimeout() throws Exception {
+        var from = LocalDate.of(2025, 1, 1);
+        var to = LocalDate.of(2025, 12, 31);
+        doAnswer(inv -> {
+            OutputStream out = inv.getArgument(3);
+            out.write("[{\"id\":\"t1\"}".getBytes(StandardCharsets.UTF_8));
+            out.flush();
+            Thread.sleep(200); // next cursor batch
+            out.write(",{\"id\":\"t2\"}]".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(service).writeRange(eq("u1"), eq(from), eq(to), any());
+
+        var started = mvc.perform(get("/api/calendar").param("from", "2025-01-01").param("to", "2025-12-31"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertThat(started.getRequest().getAsyncContext().getTimeout())
+                .isEqualTo(Duration.ofMinutes(30).toMillis());
+
+        mvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[1].id").value("t2"));
+    }
+
+    @Test
+    void feed_unknownToken_is404() throws Exception {
+        when(service.feed(eq("nope"), any())).thenReturn(Optional.empty());
+
+        mvc.perform(get("/api/calendar/feed/nope.ics"))
+                .andExpect(status().isNotFound());
+    }
+}
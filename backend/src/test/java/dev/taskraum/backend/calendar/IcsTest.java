@@ -0,0 +1,49 @@
+package dev.taskraum.backend.calendar;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IcsTest {
+
+    private static String line(String content) throws Exception {
+        var out = new StringWriter();
+        Ics.line(out, content);
+        return out.toString();
+    }
+
+    @Test
+    void text_escapesSpecialCharacters() {
+        assertThat(Ics.text("a,b;c\\d\r\ne")).isEqualTo("a\\,b\\;c\\\\d\\ne");
+        assertThat(Ics.text(null)).isEmpty();
+    }
+
+    @Test
+    void line_foldsAt75Octets_withoutSplittingUtf8() throws Exception {
+        String content = "SUMMARY:" + "ü".repeat(60);
+
+        String folded = line(content);
+
+        assertThat(folded).endsWith("\r\n");
+        for (String physical : folded.split("\r\n")) {
+            assertThat(physical.getBytes(StandardCharsets.UTF_8).length).isLessThanOrEqualTo(75);
+        }
+        assertThat(folded.replace("\r\n ", "").replace("\r\n", "")).isEqualTo(content);
+    }
+
+    @Test
+    void shortLine_isNotFolded() throws Exception {
+        assertThat(line("BEGIN:VEVENT")).isEqualTo("BEGIN:VEVENT\r\n");
+    }
+
+    @Test
+    void dates_useBasicFormat() {
+        assertThat(Ics.date(LocalDate.of(2025, 3, 9))).isEqualTo("20250309");
+        assertThat(Ics.utc(Instant.parse("2025-03-09T08:07:06Z"))).isEqualTo("20250309T080706Z");
+    }
+}
@@ -0,0 +1,91 @@
+package dev.taskraum.backend.calendar;
+
+import dev.taskraum.backend.security.ReactiveTestSecurity;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// Same contract as CalendarControllerTest, against the WebFlux controller
+@WebFluxTest(ReactiveCalendarController.class)
+@ActiveProfiles({"test", "reactive"})
+@Import(ReactiveTestSecurity.class)
+class ReactiveCalendarControllerTest {
+
+    @Autowired private WebTestClient client;
+    @MockitoBean CalendarService service;
+
+    @Test
+    void range_streamsTheServiceOutput() throws Exception {
+        var from = LocalDate.of(2025, 3, 1);
+        var to = LocalDate.of(2025, 3, 31);
+        doAnswer(inv -> {
+            inv.<OutputStream>getArgument(3).write("[{\"id\":\"t1\"}]".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(service).writeRange(eq("u1"), eq(from), eq(to), any());
+
+        client.get().uri("/api/calendar?from=2025-03-01&to=2025-03-31").exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_JSON)
+                .expectBody().jsonPath("$[0].id").isEqualTo("t1");
+    }
+
+    @Test
+    void range_rejectsInvalidRangeBeforeStreaming() throws Exception {
+        var from = LocalDate.of(2025, 3, 31);
+        var to = LocalDate.of(2025, 3, 1);
+        doThrow(new IllegalArgumentException("INVALID_RANGE")).when(service).checkRange(from, to);
+
+        client.get().uri("/api/calendar?from=2025-03-31&to=2025-03-01").exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.message").isEqualTo("INVALID_RANGE");
+        verify(service, never()).writeRange(any(), any(), any(), any());
+    }
+
+    @Test
+    void feed_servesIcsWithStrongETag_and304WhenUnchanged() throws Exception {
+        var feed = new CalendarService.Feed("u1", LocalDate.of(2025, 3, 10), "\"abc-2025-03-10\"", Map.of());
+        when(service.feed(eq("tok"), any())).thenReturn(Optional.of(feed));
+        doAnswer(inv -> {
+            inv.<OutputStream>getArgument(1).write("BEGIN:VCALENDAR\r\nEND:VCALENDAR\r\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(service).writeFeed(eq(feed), any());
+
+        client.get().uri("/api/calendar/feed/tok.ics").exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("ETag", "\"abc-2025-03-10\"")
+                .expectHeader().contentTypeCompatibleWith("text/calendar")
+                .expectBody(String.class).isEqualTo("BEGIN:VCALENDAR\r\nEND:VCALENDAR\r\n");
+
+        client.get().uri("/api/calendar/feed/tok.ics").header("If-None-Match", "\"abc-2025-03-10\"").exchange()
+                .expectStatus().isNotModified();
+        verify(service, times(1)).writeFeed(eq(feed), any());
+    }
+
+    @Test
+    void feed_unknownToken_is404() {
+        when(service.feed(eq("nope"), any())).thenReturn(Optional.empty());
+
+        client.get().uri("/api/calendar/feed/nope.ics").exchange()
+                .expectStatus().isNotFound();
+    }
+}
@@ -1,11 +1,15 @@
 package dev.taskraum.backend.common;
 
+import dev.taskraum.backend.security.HashingBusyException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.Duration;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -63,4 +67,13 @@ class GlobalExceptionHandlerTest {
         Assertions.assertNotNull(res.getBody());
         assertThat(res.getBody().error()).isEqualTo("Conflict");
     }
-}
\ No newline at end of file
+
+    @Test
+    void handleHashingBusy_tooManyRequestsWithRetryAfter() {
+        var res = handler.handleHashingBusy(new HashingBusyException(Duration.ofSeconds(2)));
+        assertThat(res.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(res.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+        Assertions.assertNotNull(res.getBody());
+        assertThat(res.getBody().error()).isEqualTo("TooManyRequests");
+    }
+}
@@ -0,0 +1,99 @@
+package dev.taskraum.backend.config;
+
+import dev.taskraum.backend.projects.Project;
+import dev.taskraum.backend.tasks.Task;
+import dev.taskraum.backend.users.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexField;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.data.mongodb.core.query.TextQuery;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Production runs without auto-index-creation: the indexes come from MongoIndexes alone
+@DataMongoTest(properties = "spring.data.mongodb.auto-index-creation=false")
+class MongoIndexesTest {
+
+    @Autowired MongoTemplate mongo;
+    MongoIndexes indexes;
+
+    @BeforeEach
+    void setUp() {
+        mongo.getCollectionNames().forEach(mongo::dropCollection);
+        indexes = new MongoIndexes(mongo);
+    }
+
+    private List<String> indexNames(Class<?> type) {
+        return mongo.indexOps(type).getIndexInfo().stream().map(IndexInfo::getName).toList();
+    }
+
+    private static boolean isTextIndex(IndexInfo index) {
+        return index.getIndexFields().stream().anyMatch(IndexField::isText);
+    }
+
+    @Test
+    void createsProjectListIndexes() {
+        indexes.ensureAll();
+
+        assertThat(indexNames(Project.class)).contains(
+                "owner_status_updated_idx", "owner_status_created_idx", "owner_status_title_idx");
+    }
+
+    @Test
+    void createsTextIndexes_soTextQueriesRun() {
+        indexes.ensureAll();
+        mongo.insert(Task.builder().projectId("p1").title("Quarterly report").build());
+
+        assertThat(mongo.indexOps(Project.class).getIndexInfo()).anyMatch(MongoIndexesTest::isTextIndex);
+        assertThat(mongo.indexOps(Task.class).getIndexInfo()).anyMatch(MongoIndexesTest::isTextIndex);
+        assertThat(mongo.find(TextQuery.queryText(TextCriteria.forDefaultLanguage().matching("report")), Task.class))
+                .extracting(Task::getTitle).containsExactly("Quarterly report");
+    }
+
+    @Test
+    void createsOwnerIndexes() {
+        indexes.ensureAll();
+
+        assertThat(indexNames(Task.class)).contains(
+                "owner_due_idx", "owner_status_due_idx", "owner_priority_status_due_idx");
+    }
+
+    @Test
+    void createsUniqueSparseFeedHashIndex() {
+        indexes.ensureAll();
+
+        assertThat(mongo.indexOps(User.class).getIndexInfo())
+                .filteredOn(i -> i.isIndexForFields(List.of("calendarFeedHash")))
+                .singleElement()
+                .satisfies(i -> assertThat(i.isUnique()).isTrue())
+                .satisfies(i -> assertThat(i.isSparse()).isTrue());
+    }
+
+    @Test
+    void createsAssigneeIndex_usedByTheAssignedView() {
+        indexes.ensureAll();
+
+        assertThat(mongo.indexOps(Task.class).getIndexInfo())
+                .filteredOn(i -> i.getName().equals("assignee_status_due_idx"))
+                .singleElement()
+                .satisfies(i -> assertThat(i.getIndexFields()).extracting(IndexField::getKey)
+                        .containsExactly("assigneeId", "status", "dueDate", "priority", "_id"));
+    }
+
+    @Test
+    void isIdempotent() {
+        indexes.ensureAll();
+        int count = indexNames(Project.class).size();
+
+        indexes.ensureAll();
+
+        assertThat(indexNames(Project.class)).hasSize(count);
+    }
+}
@@ -0,0 +1,65 @@
+package dev.taskraum.backend.dashboard;
+
+import dev.taskraum.backend.common.enums.ProjectStatus;
+import dev.taskraum.backend.common.enums.TaskPriority;
+import dev.taskraum.backend.common.enums.TaskStatus;
+import dev.taskraum.backend.projects.ProjectAccessCache;
+import dev.taskraum.backend.tasks.Task;
+import dev.taskraum.backend.tasks.TaskRepository;
+import dev.taskraum.backend.tasks.dto.TaskResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Range;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DashboardServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 3, 10);
+
+    TaskRepository taskRepo;
+    ProjectAccessCache projectAccess;
+    DashboardService service;
+
+    @BeforeEach
+    void setUp() {
+        taskRepo = mock(TaskRepository.class);
+        projectAccess = mock(ProjectAccessCache.class);
+        service = new DashboardService(taskRepo, projectAccess);
+        when(projectAccess.status("u1", "p1")).thenReturn(Optional.of(ProjectStatus.ACTIVE));
+        when(projectAccess.status("u1", "gone")).thenReturn(Optional.empty());
+    }
+
+    private Task task(String id, String projectId, LocalDate due) {
+        return Task.builder().id(id).projectId(projectId).ownerId("u1").title("T-" + id)
+                .status(TaskStatus.TODO).priority(TaskPriority.HIGH).dueDate(due).build();
+    }
+
+    @Test
+    void dashboard_runsOneOwnerQueryPerView_andDropsTasksOfDeletedProjects() {
+        when(taskRepo.findByOwnerIdAndStatusInAndDueDateBeforeOrderByDueDateAsc(
+                "u1", EnumSet.of(TaskStatus.TODO, TaskStatus.IN_PROGRESS), TODAY, Limit.of(5)))
+                .thenReturn(List.of(task("old", "p1", TODAY.minusDays(3)), task("orphan", "gone", TODAY.minusDays(1))));
+        when(taskRepo.findByOwnerIdAndStatusInAndDueDateBetweenOrderByDueDateAsc(
+                "u1", EnumSet.of(TaskStatus.TODO, TaskStatus.IN_PROGRESS), Range.closed(TODAY, TODAY.plusDays(6)), Limit.of(5)))
+                .thenReturn(List.of(task("soon", "p1", TODAY.plusDays(2))));
+        when(taskRepo.findByOwnerIdAndPriorityAndStatusInOrderByDueDateAsc(
+                "u1", TaskPriority.HIGH, EnumSet.of(TaskStatus.TODO, TaskStatus.IN_PROGRESS), Limit.of(5)))
+                .thenReturn(List.of(task("hot", "p1", null)));
+
+        var res = service.dashboard("u1", TODAY, 5);
+
+        assertThat(res.getToday()).isEqualTo(TODAY);
+        assertThat(res.getOverdue()).extracting(TaskResponse::getId).containsExactly("old");
+        assertThat(res.getDueThisWeek()).extracting(TaskResponse::getId).containsExactly("soon");
+        assertThat(res.getHighPriority()).extracting(TaskResponse::getId).containsExactly("hot");
+    }
+}
@@ -0,0 +1,106 @@
+package dev.taskraum.backend.events;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProjectEventHubTest {
+
+    // Collects sender tasks instead of running them, so the queues can be inspected
+    static class ManualExecutor extends AbstractExecutorService {
+        final List<Runnable> tasks = new ArrayList<>();
+        @Override public void execute(Runnable command) { tasks.add(command); }
+        @Override public void shutdown() {}
+        @Override public List<Runnable> shutdownNow() { return List.of(); }
+        @Override public boolean isShutdown() { return false; }
+        @Override public boolean isTerminated() { return false; }
+        @Override public boolean awaitTermination(long timeout, TimeUnit unit) { return true; }
+
+        void runAll() {
+            var pending = new ArrayList<>(tasks);
+            tasks.clear();
+            pending.forEach(Runnable::run);
+        }
+    }
+
+    ManualExecutor senders;
+    ProjectEventHub hub;
+
+    @BeforeEach
+    void setUp() {
+        senders = new ManualExecutor();
+        hub = new ProjectEventHub(senders, 3, Duration.ofMinutes(1));
+    }
+
+    private static ProjectEvent changed(String projectId, long version) {
+        return ProjectEvent.project(ProjectEvent.Type.BOARD_CHANGED, projectId, version);
+    }
+
+    @Test
+    void publish_reachesOnlySubscribersOfTheProject() {
+        hub.subscribe("p1", ProjectEvent.project(ProjectEvent.Type.CONNECTED, "p1", 1L));
+        hub.subscribe("p2", ProjectEvent.project(ProjectEvent.Type.CONNECTED, "p2", 1L));
+
+        hub.publish(changed("p1", 2));
+
+        assertThat(hub.subscribers("p1").getFirst().pending()).hasSize(2).last().isEqualTo(changed("p1", 2));
+        assertThat(hub.subscribers("p2").getFirst().pending()).hasSize(1);
+        // One sender per subscriber, however many events are queued
+        assertThat(senders.tasks).hasSize(2);
+    }
+
+    @Test
+    void slowSubscriber_losesBacklog_andGetsResync() {
+        hub.subscribe("p1", ProjectEvent.project(ProjectEvent.Type.CONNECTED, "p1", 1L));
+
+        for (int v = 2; v <= 6; v++) hub.publish(changed("p1", v));
+
+        var pending = hub.subscribers("p1").getFirst().pending();
+        assertThat(pending).hasSizeLessThanOrEqualTo(3);
+        assertThat(pending).contains(ProjectEvent.project(ProjectEvent.Type.RESYNC, "p1", null));
+        assertThat(pending).last().isEqualTo(changed("p1", 6));
+    }
+
+    @Test
+    void sender_drainsQueue() {
+        hub.subscribe("p1", ProjectEvent.project(ProjectEvent.Type.CONNECTED, "p1", 1L));
+        hub.publish(changed("p1", 2));
+
+        senders.runAll();
+
+        assertThat(hub.subscribers("p1").getFirst().pending()).isEmpty();
+    }
+
+    @Test
+    void close_removesAllSubscribersOfTheProject() {
+        hub.subscribe("p1", ProjectEvent.project(ProjectEvent.Type.CONNECTED, "p1", 1L));
+        hub.subscribe("p1", ProjectEvent.project(ProjectEvent.Type.CONNECTED, "p1", 1L));
+        assertThat(hub.subscriberCount()).isEqualTo(2);
+
+        hub.close(ProjectEvent.project(ProjectEvent.Type.PROJECT_DELETED, "p1", null));
+
+        assertThat(hub.subscriberCount()).isZero();
+        hub.publish(changed("p1", 2)); // no-op
+    }
+
+    @Test
+    void metrics_reportOpenFeeds() {
+        var registry = new SimpleMeterRegistry();
+        hub.bindTo(registry);
+
+        hub.subscribe("p1", ProjectEvent.project(ProjectEvent.Type.CONNECTED, "p1", 1L));
+        hub.subscribe("p1", ProjectEvent.project(ProjectEvent.Type.CONNECTED, "p1", 1L));
+        hub.subscribe("p2", ProjectEvent.project(ProjectEvent.Type.CONNECTED, "p2", 1L));
+
+        assertThat(registry.get("taskraum.events.subscribers").gauge().value()).isEqualTo(3);
+        assertThat(registry.get("taskraum.events.projects").gauge().value()).isEqualTo(2);
+    }
+}
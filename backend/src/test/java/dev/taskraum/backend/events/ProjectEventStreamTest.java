@@ -0,0 +1,69 @@
+package dev.taskraum.backend.events;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProjectEventStreamTest {
+
+    ExecutorService senders;
+    ProjectEventHub hub;
+    ProjectEventStream stream;
+
+    @BeforeEach
+    void setUp() {
+        senders = Executors.newVirtualThreadPerTaskExecutor();
+        hub = new ProjectEventHub(senders, 8, Duration.ofMinutes(1));
+        stream = new ProjectEventStream(hub);
+    }
+
+    @AfterEach
+    void tearDown() {
+        senders.shutdownNow();
+    }
+
+    private static ProjectEvent changed(long version) {
+        return ProjectEvent.project(ProjectEvent.Type.BOARD_CHANGED, "p1", version);
+    }
+
+    @Test
+    void emitsOnlyWhatWasRequested_andUnsubscribesOnCancel() {
+        var connected = ProjectEvent.project(ProjectEvent.Type.CONNECTED, "p1", 1L);
+
+        StepVerifier.create(stream.subscribe("p1", connected), 1)
+                .assertNext(sse -> {
+                    assertThat(sse.event()).isEqualTo("CONNECTED");
+                    assertThat(sse.data()).isEqualTo(connected);
+                })
+                .then(() -> {
+                    hub.publish(changed(2));
+                    hub.publish(changed(3));
+                })
+                // No demand: the events wait in the hub's queue
+                .expectNoEvent(Duration.ofMillis(100))
+                .thenRequest(2)
+                .assertNext(sse -> assertThat(sse.data()).isEqualTo(changed(2)))
+                .assertNext(sse -> assertThat(sse.data()).isEqualTo(changed(3)))
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+
+        assertThat(hub.subscriberCount()).isZero();
+    }
+
+    @Test
+    void close_completesTheStream() {
+        StepVerifier.create(stream.subscribe("p1", ProjectEvent.project(ProjectEvent.Type.CONNECTED, "p1", 1L)))
+                .expectNextCount(1)
+                .then(() -> hub.close(ProjectEvent.project(ProjectEvent.Type.PROJECT_DELETED, "p1", null)))
+                .assertNext(sse -> assertThat(sse.event()).isEqualTo("PROJECT_DELETED"))
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+    }
+}
@@ -0,0 +1,55 @@
+package dev.taskraum.backend.monitoring;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class PinnedThreadMonitorTest {
+
+    private final PinnedThreadMonitor monitor = new PinnedThreadMonitor(Duration.ofMillis(5));
+
+    @AfterEach
+    void tearDown() {
+        monitor.stop();
+    }
+
+    private static void sleepWhileHoldingMonitor(Object lock) {
+        synchronized (lock) {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private PinnedThreadMonitor.Site site() {
+        return monitor.report().stream()
+                .filter(s -> s.frame().contains("PinnedThreadMonitorTest.sleepWhileHoldingMonitor"))
+                .findFirst().orElse(null);
+    }
+
+    @Test
+    void reportsBlockingInsideSynchronized_byApplicationFrame() throws Exception {
+        // From JDK 24 on, blocking in synchronized no longer pins
+        assumeTrue(Runtime.version().feature() < 24);
+        monitor.start();
+
+        Object lock = new Object();
+        Thread.ofVirtual().start(() -> sleepWhileHoldingMonitor(lock)).join();
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (site() == null && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+        }
+
+        var site = site();
+        assertThat(site).isNotNull();
+        assertThat(site.count()).isEqualTo(1);
+        assertThat(site.max()).isGreaterThanOrEqualTo(Duration.ofMillis(40));
+    }
+}
@@ -0,0 +1,101 @@
+package dev.taskraum.backend.monitoring;
+
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlowQueryLogTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000_000L);
+    private double roll = 0.0;
+
+    private SlowQueryLog log(double sampleRate) {
+        return new SlowQueryLog(Duration.ofMillis(100), new String[]{"tasks"}, sampleRate, Duration.ofSeconds(10),
+                Duration.ofMinutes(10), (db, cmd) -> new BsonDocument(), Executors.newSingleThreadExecutor(),
+                now::get, () -> roll);
+    }
+
+    @Test
+    void shape_masksValues_keepsOperatorsSortAndProjection() {
+        var find = BsonDocument.parse("""
+                {"find":"tasks","filter":{"projectId":"p1","status":{"$in":["TODO","DONE"]},
+                 "$or":[{"assigneeId":"u1"},{"dueDate":{"$lt":{"$date":"2025-01-01T00:00:00Z"}}}]},
+                 "sort":{"rank":1},"projection":{"title":1},"$db":"taskraum"}""");
+
+        assertThat(SlowQueryLog.shape(find)).isEqualTo(
+                "filter={\"projectId\": \"?\", \"status\": {\"$in\": \"?\"}, "
+                        + "\"$or\": [{\"assigneeId\": \"?\"}, {\"dueDate\": {\"$lt\": \"?\"}}]}"
+                        + " sort={\"rank\": 1} projection={\"title\": 1}");
+    }
+
+    @Test
+    void shape_ofBulkUpdate_usesFirstStatement() {
+        var update = BsonDocument.parse("""
+                {"update":"tasks","updates":[{"q":{"_id":"t1","projectId":"p1"},"u":{"$set":{"rank":"a"}}},
+                                             {"q":{"_id":"t2","projectId":"p1"},"u":{"$set":{"rank":"b"}}}]}""");
+
+        var copy = SlowQueryLog.copy(update);
+
+        assertThat(copy.getArray("updates")).hasSize(1);
+        assertThat(SlowQueryLog.shape(copy)).isEqualTo("filter={\"_id\": \"?\", \"projectId\": \"?\"}");
+    }
+
+    @Test
+    void explainCommand_dropsDriverFields() {
+        var cmd = BsonDocument.parse("{\"find\":\"tasks\",\"filter\":{},\"$db\":\"x\",\"lsid\":{\"id\":1}}");
+
+        var explain = SlowQueryLog.explainCommand(cmd);
+
+        assertThat(explain.getDocument("explain").keySet()).containsExactly("find", "filter");
+        assertThat(explain.getString("verbosity").getValue()).isEqualTo("executionStats");
+    }
+
+    @Test
+    void summarize_classicPlan() {
+        var explain = BsonDocument.parse("""
+                {"queryPlanner":{"winningPlan":{"stage":"FETCH",
+                   "inputStage":{"stage":"IXSCAN","indexName":"proj_status_rank_idx"}}},
+                 "executionStats":{"nReturned":40,"totalKeysExamined":40,"totalDocsExamined":40}}""");
+
+        var plan = SlowQueryLog.summarize(explain);
+
+        assertThat(plan.stages()).isEqualTo("FETCH <- IXSCAN(proj_status_rank_idx)");
+        assertThat(plan.keysExamined()).isEqualTo(40);
+        assertThat(plan.docsExamined()).isEqualTo(40);
+        assertThat(plan.returned()).isEqualTo(40);
+    }
+
+    @Test
+    void summarize_sbeCollectionScan() {
+        var explain = BsonDocument.parse("""
+                {"queryPlanner":{"winningPlan":{"queryPlan":{"stage":"COLLSCAN"},"slotBasedPlan":{}}},
+                 "executionStats":{"nReturned":1,"totalKeysExamined":0,"totalDocsExamined":50000}}""");
+
+        var plan = SlowQueryLog.summarize(explain);
+
+        assertThat(plan.stages()).isEqualTo("COLLSCAN");
+        assertThat(plan.docsExamined()).isEqualTo(50_000);
+    }
+
+    @Test
+    void explains_areSampledAndRateLimited() {
+        var log = log(0.5);
+
+        roll = 0.9; // not sampled
+        assertThat(log.tryAcquireExplain()).isFalse();
+
+        roll = 0.1;
+        assertThat(log.tryAcquireExplain()).isTrue();
+
+        // Within the interval nothing else is explained, and never two at once
+        now.addAndGet(Duration.ofSeconds(5).toNanos());
+        assertThat(log.tryAcquireExplain()).isFalse();
+        now.addAndGet(Duration.ofSeconds(6).toNanos());
+        assertThat(log.tryAcquireExplain()).isFalse();
+    }
+}
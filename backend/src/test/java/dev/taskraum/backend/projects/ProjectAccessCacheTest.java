@@ -0,0 +1,72 @@
+package dev.taskraum.backend.projects;
+
+import dev.taskraum.backend.common.enums.ProjectStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class ProjectAccessCacheTest {
+
+    ProjectRepository projectRepo;
+    ProjectAccessCache cache;
+
+    @BeforeEach
+    void setUp() {
+        projectRepo = mock(ProjectRepository.class);
+        cache = new ProjectAccessCache(projectRepo, true, 100, Duration.ofMinutes(1));
+    }
+
+    private Project project(ProjectStatus status) {
+        return Project.builder().id("p1").ownerId("u1").status(status).build();
+    }
+
+    @Test
+    void status_isLoadedOnce_thenServedFromCache() {
+        when(projectRepo.findByIdAndOwnerId("p1", "u1")).thenReturn(Optional.of(project(ProjectStatus.ACTIVE)));
+
+        assertThat(cache.status("u1", "p1")).contains(ProjectStatus.ACTIVE);
+        assertThat(cache.status("u1", "p1")).contains(ProjectStatus.ACTIVE);
+
+        verify(projectRepo, times(1)).findByIdAndOwnerId("p1", "u1");
+        assertThat(cache.stats().hitCount()).isEqualTo(1);
+        assertThat(cache.stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    void notOwned_isNotCached() {
+        when(projectRepo.findByIdAndOwnerId("p1", "u2")).thenReturn(Optional.empty());
+
+        assertThat(cache.status("u2", "p1")).isEmpty();
+        assertThat(cache.status("u2", "p1")).isEmpty();
+
+        verify(projectRepo, times(2)).findByIdAndOwnerId("p1", "u2");
+    }
+
+    @Test
+    void invalidate_forcesReload() {
+        when(projectRepo.findByIdAndOwnerId("p1", "u1"))
+                .thenReturn(Optional.of(project(ProjectStatus.ACTIVE)))
+                .thenReturn(Optional.of(project(ProjectStatus.ARCHIVED)));
+
+        assertThat(cache.status("u1", "p1")).contains(ProjectStatus.ACTIVE);
+        cache.invalidate("u1", "p1");
+        assertThat(cache.status("u1", "p1")).contains(ProjectStatus.ARCHIVED);
+    }
+
+    @Test
+    void disabled_alwaysHitsRepository() {
+        var passThrough = new ProjectAccessCache(projectRepo, false, 0, Duration.ZERO);
+        when(projectRepo.findByIdAndOwnerId("p1", "u1")).thenReturn(Optional.of(project(ProjectStatus.PAUSED)));
+
+        passThrough.status("u1", "p1");
+        passThrough.status("u1", "p1");
+
+        verify(projectRepo, times(2)).findByIdAndOwnerId("p1", "u1");
+        assertThat(passThrough.stats().requestCount()).isZero();
+    }
+}
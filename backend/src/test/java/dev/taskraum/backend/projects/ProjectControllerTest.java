@@ -1,6 +1,11 @@
 package dev.taskraum.backend.projects;
 
+import dev.taskraum.backend.common.CursorPage;
+import dev.taskraum.backend.common.enums.JobStatus;
 import dev.taskraum.backend.common.enums.ProjectStatus;
+import dev.taskraum.backend.events.ProjectEvent;
+import dev.taskraum.backend.events.ProjectEventHub;
+import dev.taskraum.backend.jobs.dto.JobResponse;
 import dev.taskraum.backend.projects.dto.CreateProjectDto;
 import dev.taskraum.backend.projects.dto.ProjectResponse;
 import dev.taskraum.backend.projects.dto.UpdateProjectDto;
@@ -25,6 +30,7 @@ import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.Instant;
 import java.util.List;
@@ -32,10 +38,12 @@ import java.util.List;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -47,6 +55,7 @@ class ProjectControllerTest {
 
     @Autowired MockMvc mvc;
     @MockitoBean ProjectService service;
+    @MockitoBean ProjectEventHub events;
 
     @BeforeEach
     void setAuth() {
@@ -117,6 +126,22 @@ class ProjectControllerTest {
         verify(service).get("u1","p1");
     }
 
+    @Test
+    void get_returnsVersionAndDayAsETag_and304WhenUnchanged() throws Exception {
+        String etag = "\"4-" + ProjectService.today() + "\"";
+        when(service.version("u1", "p1")).thenReturn(4L);
+        when(service.get("u1", "p1")).thenReturn(ProjectResponse.builder().id("p1").version(4).build());
+
+        mvc.perform(get("/api/projects/p1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", etag));
+
+        mvc.perform(get("/api/projects/p1").header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        verify(service, times(1)).get("u1", "p1");
+    }
+
     @Test
     void list_usesDefaultDESCWhenNoDirection() throws Exception {
         var auth = new UsernamePasswordAuthenticationToken(
@@ -182,6 +207,44 @@ class ProjectControllerTest {
         assertThat(order.getDirection()).isEqualTo(Sort.Direction.ASC);
     }
 
+    @Test
+    void events_subscribesAfterOwnershipCheck() throws Exception {
+        when(service.version("u1", "p1")).thenReturn(3L);
+        when(events.subscribe(eq("p1"), any())).thenReturn(new SseEmitter());
+
+        mvc.perform(get("/api/projects/p1/events"))
+                .andExpect(status().isOk());
+        verify(events).subscribe("p1", ProjectEvent.project(ProjectEvent.Type.CONNECTED, "p1", 3L));
+
+        when(service.version("u1", "p2")).thenThrow(new IllegalArgumentException("PROJECT_NOT_FOUND"));
+        mvc.perform(get("/api/projects/p2/events"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void list_rejectsSortFieldsOutsideWhitelist() throws Exception {
+        mvc.perform(get("/api/projects").param("sort", "description, ASC"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void list_withCursor_usesKeysetMode() throws Exception {
+        var pr = ProjectResponse.builder().id("p1").ownerId("u1").title("T").status(ProjectStatus.ACTIVE).build();
+        when(service.listAfter(eq("u1"), eq(ProjectStatus.ACTIVE), any(ProjectSort.class), eq(""), eq(100)))
+                .thenReturn(new CursorPage<>(List.of(pr), "next"));
+
+        mvc.perform(get("/api/projects")
+                        .param("cursor", "")
+                        .param("size", "500")
+                        .param("sort", "title, asc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value("p1"))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+
+        verify(service).listAfter("u1", ProjectStatus.ACTIVE,
+                new ProjectSort(ProjectSort.Field.TITLE, Sort.Direction.ASC), "", 100);
+    }
+
     @Test
     @WithMockUser
     void update_forwardsDto() throws Exception {
@@ -221,15 +284,22 @@ class ProjectControllerTest {
 
     @Test
     @WithMockUser
-    void delete_withForce_callsServiceAndReturns204() throws Exception {
+    void delete_withForce_returns202WithJob() throws Exception {
         var auth = new UsernamePasswordAuthenticationToken(
                 new UserPrincipal("u1", "user@example.com"),
                 null,
                 List.of(new SimpleGrantedAuthority("ROLE_USER"))
         );
+        when(service.hardDelete("u1", "p1"))
+                .thenReturn(JobResponse.builder().id("j1").status(JobStatus.PENDING).targetId("p1").build());
+
         mvc.perform(delete("/api/projects/p1")
                         .param("force", "true")
                         .with(authentication(auth)))
-                .andExpect(status().isNoContent());
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/api/jobs/j1"))
+                .andExpect(jsonPath("$.id").value("j1"))
+                .andExpect(jsonPath("$.status").value("PENDING"));
+        verify(service).hardDelete("u1", "p1");
     }
 }
\ No newline at end of file
@@ -0,0 +1,116 @@
+package dev.taskraum.backend.projects;
+
+import dev.taskraum.backend.common.enums.JobStatus;
+import dev.taskraum.backend.common.enums.JobType;
+import dev.taskraum.backend.common.enums.TaskPriority;
+import dev.taskraum.backend.common.enums.TaskStatus;
+import dev.taskraum.backend.jobs.Job;
+import dev.taskraum.backend.tasks.Task;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.spy;
+
+@DataMongoTest
+class ProjectDeletionWorkerTest {
+
+    @Autowired private MongoTemplate mongo;
+    private ProjectDeletionWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        mongo.dropCollection(Job.class);
+        mongo.dropCollection(Task.class);
+        worker = new ProjectDeletionWorker(mongo, 2, Duration.ZERO, Duration.ofMinutes(1), Duration.ofSeconds(30)); // tiny batches
+    }
+
+    private Task task(String id, String projectId) {
+        return Task.builder().id(id).projectId(projectId).title("T-" + id)
+                .status(TaskStatus.TODO).rank("0b").priority(TaskPriority.LOW).build();
+    }
+
+    private Job job(String id, JobStatus status, Instant lockedUntil) {
+        return mongo.insert(Job.builder().id(id).ownerId("u1").type(JobType.PROJECT_DELETE)
+                .status(status).targetId("p1").lockedUntil(lockedUntil).build());
+    }
+
+    private long tasksIn(String projectId) {
+        return mongo.count(Query.query(Criteria.where("projectId").is(projectId)), Task.class);
+    }
+
+    @Test
+    void poll_deletesTasksInBatches_andFinishesJob() {
+        mongo.insertAll(IntStream.range(0, 5).mapToObj(i -> task("t" + i, "p1")).toList());
+        mongo.insert(task("other", "p2"));
+        job("j1", JobStatus.PENDING, null);
+
+        worker.poll();
+
+        assertThat(tasksIn("p1")).isZero();
+        assertThat(tasksIn("p2")).isEqualTo(1);
+        var done = mongo.findById("j1", Job.class);
+        assertThat(done.getStatus()).isEqualTo(JobStatus.DONE);
+        assertThat(done.getProcessed()).isEqualTo(5);
+        assertThat(done.getLockedUntil()).isNull();
+    }
+
+    @Test
+    void claim_skipsLeasedJobs_andResumesExpiredOnes() {
+        job("leased", JobStatus.RUNNING, Instant.now().plusSeconds(60));
+        job("stale", JobStatus.RUNNING, Instant.now().minusSeconds(60));
+
+        var claimed = worker.claim();
+
+        assertThat(claimed.getId()).isEqualTo("stale");
+        assertThat(claimed.getAttempts()).isEqualTo(1);
+        assertThat(claimed.getLockedUntil()).isAfter(Instant.now());
+        assertThat(worker.claim()).isNull();
+    }
+
+    @Test
+    void failedAttempt_isNotClaimedAgainBeforeTheBackoff() {
+        var failing = spy(mongo);
+        doThrow(new IllegalStateException("primary stepped down")).when(failing).remove(any(Query.class), eq(Task.class));
+        var flaky = new ProjectDeletionWorker(failing, 2, Duration.ZERO, Duration.ofMinutes(1), Duration.ofSeconds(30));
+        mongo.insert(task("t1", "p1"));
+        job("j1", JobStatus.PENDING, null);
+
+        flaky.poll();
+
+        var retried = mongo.findById("j1", Job.class);
+        assertThat(retried.getStatus()).isEqualTo(JobStatus.RUNNING);
+        assertThat(retried.getAttempts()).isEqualTo(1);
+        assertThat(retried.getError()).isEqualTo("primary stepped down");
+        assertThat(retried.getLockedUntil()).isAfter(Instant.now().plusSeconds(20));
+        assertThat(worker.claim()).isNull();
+    }
+
+    @Test
+    void retryBackoff_doublesPerAttempt() {
+        assertThat(ProjectDeletionWorker.retryBackoff(Duration.ofSeconds(30), 1)).isEqualTo(Duration.ofSeconds(30));
+        assertThat(ProjectDeletionWorker.retryBackoff(Duration.ofSeconds(30), 3)).isEqualTo(Duration.ofMinutes(2));
+    }
+
+    @Test
+    void claim_ignoresFinishedJobs() {
+        mongo.insertAll(List.of(
+                Job.builder().id("d").type(JobType.PROJECT_DELETE).status(JobStatus.DONE).targetId("p1").build(),
+                Job.builder().id("f").type(JobType.PROJECT_DELETE).status(JobStatus.FAILED).targetId("p1").build()));
+
+        assertThat(worker.claim()).isNull();
+    }
+}
@@ -1,12 +1,18 @@
 package dev.taskraum.backend.projects;
 
 import dev.taskraum.backend.common.enums.ProjectStatus;
+import dev.taskraum.backend.common.enums.TaskStatus;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
 import org.springframework.data.domain.PageRequest;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DataMongoTest
@@ -33,4 +39,64 @@ class ProjectRepositoryTest {
         assertThat(found).isPresent();
         assertThat(repo.findByIdAndOwnerId(p1.getId(), "uX")).isEmpty();
     }
-}
\ No newline at end of file
+
+    @Test
+    void findPage_walksAllProjectsOnceInSortOrder() {
+        // Duplicate titles and a missing title exercise the _id tie-breaker and null handling
+        for (String title : new String[]{"b", "a", "b", null, "c", "a"}) {
+            repo.save(Project.builder().ownerId("u1").title(title).status(ProjectStatus.ACTIVE).build());
+        }
+        repo.save(Project.builder().ownerId("u2").title("a").status(ProjectStatus.ACTIVE).build());
+
+        for (String spec : new String[]{"title, ASC", "title, DESC", "createdAt, DESC"}) {
+            var sort = ProjectSort.parse(spec);
+            List<String> seen = new ArrayList<>();
+            ProjectCursor after = null;
+            while (true) {
+                var page = repo.findPage("u1", ProjectStatus.ACTIVE, sort, after, 2);
+                if (page.isEmpty()) break;
+                page.forEach(p -> seen.add(p.getId()));
+                after = ProjectCursor.after(sort, page.getLast());
+            }
+
+            var expected = repo.findByOwnerIdAndStatus("u1", ProjectStatus.ACTIVE, PageRequest.of(0, 100, sort.toSort()))
+                    .map(Project::getId).getContent();
+            assertThat(seen).as(spec).hasSize(6).containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    void version_isBumpedInPlace_andOnlyVisibleToOwner() {
+        var p = repo.save(Project.builder().ownerId("u1").title("A").description("d").status(ProjectStatus.ACTIVE).build());
+        assertThat(repo.findVersion(p.getId(), "u1")).contains(0L);
+        assertThat(repo.findVersion(p.getId(), "u2")).isEmpty();
+
+        repo.incrementVersion(p.getId());
+        repo.incrementVersion(p.getId());
+
+        // A stale copy must not roll the counter back
+        p.setTitle("B");
+        var updated = repo.updateDetails(p).orElseThrow();
+        assertThat(updated.getTitle()).isEqualTo("B");
+        assertThat(updated.getVersion()).isEqualTo(3L);
+        assertThat(repo.findVersion(p.getId(), "u1")).contains(3L);
+
+        p.setOwnerId("u2");
+        assertThat(repo.updateDetails(p)).isEmpty();
+    }
+
+    @Test
+    void incrementVersion_appliesCounterDeltasInTheSameUpdate() {
+        var p = repo.save(Project.builder().ownerId("u1").title("A").status(ProjectStatus.ACTIVE).build());
+        var due = LocalDate.of(2025, 3, 1);
+
+        repo.incrementVersion(p.getId(), TaskCounters.added(TaskStatus.TODO, due));
+        repo.incrementVersion(p.getId(), TaskCounters.added(TaskStatus.TODO, null));
+        long version = repo.incrementVersion(p.getId(), TaskCounters.changed(TaskStatus.TODO, due, TaskStatus.DONE, due));
+
+        var stored = repo.findById(p.getId()).orElseThrow();
+        assertThat(version).isEqualTo(3L);
+        assertThat(stored.getTaskCounts()).isEqualTo(Map.of("TODO", 1L, "DONE", 1L));
+        assertThat(stored.getOpenDueCounts()).isEqualTo(Map.of("2025-03-01", 0L));
+    }
+}
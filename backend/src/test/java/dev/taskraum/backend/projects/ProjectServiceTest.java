@@ -1,10 +1,16 @@
 package dev.taskraum.backend.projects;
 
+import dev.taskraum.backend.common.enums.JobStatus;
+import dev.taskraum.backend.common.enums.JobType;
 import dev.taskraum.backend.common.enums.ProjectStatus;
+import dev.taskraum.backend.common.enums.TaskStatus;
+import dev.taskraum.backend.events.ProjectEvent;
+import dev.taskraum.backend.events.ProjectEventHub;
+import dev.taskraum.backend.jobs.JobService;
+import dev.taskraum.backend.jobs.dto.JobResponse;
 import dev.taskraum.backend.projects.dto.CreateProjectDto;
 import dev.taskraum.backend.projects.dto.ProjectResponse;
 import dev.taskraum.backend.projects.dto.UpdateProjectDto;
-import dev.taskraum.backend.tasks.TaskRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -14,7 +20,9 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -26,13 +34,15 @@ import static org.mockito.Mockito.*;
 class ProjectServiceTest {
 
     @Mock private ProjectRepository projectRepo;
-    @Mock private TaskRepository taskRepo;
+    @Mock private JobService jobs;
+    @Mock private ProjectAccessCache projectAccess;
+    @Mock private ProjectEventHub events;
     private ProjectService service;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        service = new ProjectService(projectRepo,  taskRepo);
+        service = new ProjectService(projectRepo, jobs, projectAccess, events);
     }
 
     @Test
@@ -55,6 +65,65 @@ class ProjectServiceTest {
         verify(projectRepo).findByOwnerIdAndStatus(eq("u1"), eq(ProjectStatus.ACTIVE), any());
     }
 
+    @Test
+    void listAfter_returnsNextCursorOnlyWhenMoreRowsExist() {
+        var sort = ProjectSort.parse("title, ASC");
+        var a = Project.builder().id("p1").ownerId("u1").title("A").build();
+        var b = Project.builder().id("p2").ownerId("u1").title("B").build();
+        var c = Project.builder().id("p3").ownerId("u1").title("C").build();
+        when(projectRepo.findPage("u1", ProjectStatus.ACTIVE, sort, null, 3)).thenReturn(List.of(a, b, c));
+
+        var first = service.listAfter("u1", ProjectStatus.ACTIVE, sort, null, 2);
+
+        assertThat(first.getItems()).extracting(ProjectResponse::getId).containsExactly("p1", "p2");
+        var cursor = ProjectCursor.decode(first.getNextCursor(), sort);
+        assertThat(cursor.id()).isEqualTo("p2");
+        assertThat(cursor.value()).isEqualTo("B");
+
+        when(projectRepo.findPage("u1", ProjectStatus.ACTIVE, sort, cursor, 3)).thenReturn(List.of(c));
+        var second = service.listAfter("u1", ProjectStatus.ACTIVE, sort, first.getNextCursor(), 2);
+
+        assertThat(second.getItems()).extracting(ProjectResponse::getId).containsExactly("p3");
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    @Test
+    void listAfter_rejectsCursorIssuedForAnotherSort() {
+        var byTitle = ProjectSort.parse("title");
+        var cursor = ProjectCursor.after(byTitle, Project.builder().id("p1").title("A").build()).encode();
+
+        assertThatThrownBy(() -> service.listAfter("u1", ProjectStatus.ACTIVE, ProjectSort.parse("createdAt"), cursor, 2))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("INVALID_CURSOR");
+        assertThatThrownBy(() -> service.listAfter("u1", ProjectStatus.ACTIVE, byTitle, "not-a-cursor!", 2))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("INVALID_CURSOR");
+    }
+
+    @Test
+    void toResponse_derivesOverdueAndPercentFromCounters() {
+        var p = Project.builder().id("p1").ownerId("u1").title("T")
+                .taskCounts(Map.of("TODO", 2L, "IN_PROGRESS", 1L, "DONE", 5L))
+                .openDueCounts(Map.of("2025-03-01", 1L, "2025-03-09", 1L, "2025-03-10", 1L, "2025-02-01", 0L))
+                .build();
+
+        var res = ProjectService.toResponse(p, LocalDate.of(2025, 3, 10));
+
+        assertThat(res.getTaskCounts()).containsExactly(
+                Map.entry(TaskStatus.TODO, 2L), Map.entry(TaskStatus.IN_PROGRESS, 1L), Map.entry(TaskStatus.DONE, 5L));
+        assertThat(res.getOverdueCount()).isEqualTo(2); // due today is not overdue yet
+        assertThat(res.getPercentComplete()).isEqualTo(62);
+    }
+
+    @Test
+    void toResponse_withoutCounters_isAllZero() {
+        var res = ProjectService.toResponse(Project.builder().id("p1").build(), LocalDate.of(2025, 3, 10));
+
+        assertThat(res.getTaskCounts()).containsOnlyKeys(TaskStatus.values()).allSatisfy((s, n) -> assertThat(n).isZero());
+        assertThat(res.getOverdueCount()).isZero();
+        assertThat(res.getPercentComplete()).isZero();
+    }
+
     @Test
     void create_setsActiveAndSaves() {
         var dto = new CreateProjectDto(); dto.setTitle("New"); dto.setDescription("Desc");
@@ -94,13 +163,14 @@ class ProjectServiceTest {
                 .build();
 
         when(projectRepo.findByIdAndOwnerId("p1", "u1")).thenReturn(Optional.of(p));
-        when(projectRepo.save(any(Project.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(projectRepo.updateDetails(any(Project.class))).thenAnswer(inv -> Optional.of(inv.getArgument(0)));
 
         var dto = new UpdateProjectDto(); dto.setTitle("New_Title"); dto.setDescription("new_desc");
         var res = service.update("u1", "p1", dto);
 
         assertThat(res.getTitle()).isEqualTo("New_Title");
         assertThat(res.getDescription()).isEqualTo("new_desc");
+        verify(projectRepo, never()).save(any());
     }
 
     @Test
@@ -128,13 +198,15 @@ class ProjectServiceTest {
                 .status(ProjectStatus.ARCHIVED)
                 .build();
         when(projectRepo.findByIdAndOwnerId("p1", "u1")).thenReturn(Optional.of(archived));
-        when(projectRepo.save(any(Project.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(projectRepo.updateDetails(any(Project.class))).thenAnswer(inv -> Optional.of(inv.getArgument(0)));
 
         var dto = new UpdateProjectDto(); dto.setStatus(ProjectStatus.ACTIVE); dto.setTitle("After");
         var res = service.update("u1", "p1", dto);
 
         assertThat(res.getStatus()).isEqualTo(ProjectStatus.ACTIVE);
         assertThat(res.getTitle()).isEqualTo("After");
+        verify(projectAccess).invalidate("u1", "p1");
+        verify(events).publish(ProjectEvent.project(ProjectEvent.Type.PROJECT_UPDATED, "p1", 0L));
     }
 
     @Test
@@ -144,9 +216,27 @@ class ProjectServiceTest {
                 .ownerId("u1")
                 .build();
         when(projectRepo.findByIdAndOwnerId("p1", "u1")).thenReturn(Optional.of(p));
+        when(jobs.submit("u1", JobType.PROJECT_DELETE, "p1"))
+                .thenReturn(JobResponse.builder().id("j1").status(JobStatus.PENDING).build());
 
-        service.hardDelete("u1", "p1");
-        verify(projectRepo).delete(p);
+        var job = service.hardDelete("u1", "p1");
+
+        assertThat(job.getId()).isEqualTo("j1");
+        var order = inOrder(jobs, projectRepo);
+        order.verify(jobs).submit("u1", JobType.PROJECT_DELETE, "p1");
+        order.verify(projectRepo).delete(p);
+        verify(projectAccess).invalidate("u1", "p1");
+        verify(events).close(ProjectEvent.project(ProjectEvent.Type.PROJECT_DELETED, "p1", null));
+    }
+
+    @Test
+    void hardDelete_throwsIfNotOwned() {
+        when(projectRepo.findByIdAndOwnerId("p1", "u2")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.hardDelete("u2", "p1"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("PROJECT_NOT_FOUND");
+        verifyNoInteractions(jobs);
     }
 
 }
\ No newline at end of file
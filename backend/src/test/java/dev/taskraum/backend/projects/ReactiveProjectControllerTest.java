@@ -0,0 +1,176 @@
+package dev.taskraum.backend.projects;
+
+import dev.taskraum.backend.common.CursorPage;
+import dev.taskraum.backend.common.enums.JobStatus;
+import dev.taskraum.backend.common.enums.ProjectStatus;
+import dev.taskraum.backend.events.ProjectEvent;
+import dev.taskraum.backend.events.ProjectEventStream;
+import dev.taskraum.backend.jobs.dto.JobResponse;
+import dev.taskraum.backend.projects.dto.CreateProjectDto;
+import dev.taskraum.backend.projects.dto.ProjectResponse;
+import dev.taskraum.backend.projects.dto.UpdateProjectDto;
+import dev.taskraum.backend.security.ReactiveTestSecurity;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// Same contract as ProjectControllerTest, against the WebFlux controller
+@WebFluxTest(ReactiveProjectController.class)
+@ActiveProfiles({"test", "reactive"})
+@Import(ReactiveTestSecurity.class)
+class ReactiveProjectControllerTest {
+
+    @Autowired WebTestClient client;
+    @MockitoBean ReactiveProjectService service;
+    @MockitoBean ProjectEventStream events;
+
+    @Test
+    void list_returnsPageInServletFormat() {
+        var pr = ProjectResponse.builder().id("p1").ownerId("u1").title("T").status(ProjectStatus.ACTIVE).build();
+        when(service.list(eq("u1"), eq(ProjectStatus.ACTIVE), any(Pageable.class)))
+                .thenAnswer(inv -> Mono.just(new PageImpl<>(List.of(pr), inv.getArgument(2), 1)));
+
+        client.get().uri("/api/projects?sort=updatedAt, asc").exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content[0].id").isEqualTo("p1")
+                .jsonPath("$.page.totalElements").isEqualTo(1);
+
+        ArgumentCaptor<Pageable> captor = ArgumentCaptor.forClass(Pageable.class);
+        verify(service).list(eq("u1"), eq(ProjectStatus.ACTIVE), captor.capture());
+        Sort.Order o = captor.getValue().getSort().getOrderFor("updatedAt");
+        assertThat(o).isNotNull();
+        assertThat(o.getDirection()).isEqualTo(Sort.Direction.ASC);
+    }
+
+    @Test
+    void list_rejectsSortFieldsOutsideWhitelist() {
+        client.get().uri("/api/projects?sort=description, ASC").exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void list_withCursor_usesKeysetMode() {
+        var pr = ProjectResponse.builder().id("p1").ownerId("u1").title("T").status(ProjectStatus.ACTIVE).build();
+        when(service.listAfter(eq("u1"), eq(ProjectStatus.ACTIVE), any(ProjectSort.class), eq(""), eq(100)))
+                .thenReturn(Mono.just(new CursorPage<>(List.of(pr), "next")));
+
+        client.get().uri("/api/projects?cursor=&size=500&sort=title, asc").exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.items[0].id").isEqualTo("p1")
+                .jsonPath("$.nextCursor").isEqualTo("next");
+
+        verify(service).listAfter("u1", ProjectStatus.ACTIVE,
+                new ProjectSort(ProjectSort.Field.TITLE, Sort.Direction.ASC), "", 100);
+    }
+
+    @Test
+    void create_validateAndReturns201() {
+        var pr = ProjectResponse.builder().id("p2").ownerId("u1").title("New Project").status(ProjectStatus.ACTIVE).build();
+        when(service.create(eq("u1"), any(CreateProjectDto.class))).thenReturn(Mono.just(pr));
+
+        client.post().uri("/api/projects")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"title\":\"New project\",\"description\":\"desc\"}")
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody().jsonPath("$.title").isEqualTo("New Project");
+    }
+
+    @Test
+    void get_returnsVersionAndDayAsETag_and304WhenUnchanged() {
+        String etag = "\"4-" + ProjectService.today() + "\"";
+        when(service.version("u1", "p1")).thenReturn(Mono.just(4L));
+        when(service.get("u1", "p1")).thenReturn(Mono.just(ProjectResponse.builder().id("p1").version(4).build()));
+
+        client.get().uri("/api/projects/p1").exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("ETag", etag)
+                .expectBody().jsonPath("$.id").isEqualTo("p1");
+
+        client.get().uri("/api/projects/p1").header("If-None-Match", etag).exchange()
+                .expectStatus().isNotModified();
+    }
+
+    @Test
+    void get_unknownProject_returns404ApiError() {
+        when(service.version("u1", "p9")).thenReturn(Mono.error(new IllegalArgumentException("PROJECT_NOT_FOUND")));
+
+        client.get().uri("/api/projects/p9").exchange()
+                .expectStatus().isNotFound()
+                .expectBody().jsonPath("$.message").isEqualTo("Project not found");
+        verify(service, never()).get(any(), any());
+    }
+
+    @Test
+    void events_subscribesAfterOwnershipCheck() {
+        var connected = ProjectEvent.project(ProjectEvent.Type.CONNECTED, "p1", 3L);
+        when(service.version("u1", "p1")).thenReturn(Mono.just(3L));
+        when(events.subscribe("p1", connected))
+                .thenReturn(Flux.just(ServerSentEvent.builder(connected).event("CONNECTED").build()));
+
+        client.get().uri("/api/projects/p1/events").accept(MediaType.TEXT_EVENT_STREAM).exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class).value(body -> assertThat(body).contains("event:CONNECTED"));
+        verify(events).subscribe("p1", connected);
+
+        when(service.version("u1", "p2")).thenReturn(Mono.error(new IllegalArgumentException("PROJECT_NOT_FOUND")));
+        client.get().uri("/api/projects/p2/events").exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void update_forwardsDto() {
+        var pr = ProjectResponse.builder().id("p1").ownerId("u1").title("New").status(ProjectStatus.ACTIVE).build();
+        when(service.update(eq("u1"), eq("p1"), any(UpdateProjectDto.class))).thenReturn(Mono.just(pr));
+
+        client.put().uri("/api/projects/p1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"title\":\"New\"}")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.title").isEqualTo("New");
+    }
+
+    @Test
+    void delete_withoutForce_returns409() {
+        client.delete().uri("/api/projects/p1").exchange()
+                .expectStatus().isEqualTo(409);
+        verify(service, never()).hardDelete(any(), any());
+    }
+
+    @Test
+    void delete_withForce_returns202WithJob() {
+        when(service.hardDelete("u1", "p1"))
+                .thenReturn(Mono.just(JobResponse.builder().id("j1").status(JobStatus.PENDING).targetId("p1").build()));
+
+        client.delete().uri("/api/projects/p1?force=true").exchange()
+                .expectStatus().isAccepted()
+                .expectHeader().valueEquals("Location", "/api/jobs/j1")
+                .expectBody()
+                .jsonPath("$.id").isEqualTo("j1")
+                .jsonPath("$.status").isEqualTo("PENDING");
+    }
+}
@@ -0,0 +1,87 @@
+package dev.taskraum.backend.projects;
+
+import dev.taskraum.backend.common.enums.TaskPriority;
+import dev.taskraum.backend.common.enums.TaskStatus;
+import dev.taskraum.backend.tasks.Task;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataMongoTest
+class TaskCounterReconcilerTest {
+
+    @Autowired private MongoTemplate mongo;
+    private TaskCounterReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        mongo.dropCollection(Project.class);
+        mongo.dropCollection(Task.class);
+        reconciler = new TaskCounterReconciler(mongo, 2); // several batches
+    }
+
+    private Task task(String id, String projectId, TaskStatus status, LocalDate due) {
+        return Task.builder().id(id).projectId(projectId).title("T-" + id)
+                .status(status).rank("0b").priority(TaskPriority.LOW).dueDate(due).build();
+    }
+
+    private Project project(String id, long version, Map<String, Long> counts) {
+        return Project.builder().id(id).ownerId("u1").title("P-" + id).version(version).taskCounts(counts).build();
+    }
+
+    @Test
+    void reconcile_rebuildsDriftedCounters_andLeavesCorrectOnes() {
+        mongo.insertAll(List.of(
+                project("p1", 3, Map.of("TODO", 5L)),
+                project("p2", 1, Map.of("TODO", 1L, "DONE", 0L)),
+                project("p3", 0, null)));
+        mongo.insertAll(List.of(
+                task("t1", "p1", TaskStatus.TODO, LocalDate.of(2025, 3, 1)),
+                task("t2", "p1", TaskStatus.DONE, LocalDate.of(2025, 3, 2)),
+                task("t3", "p1", TaskStatus.IN_PROGRESS, null),
+                task("t4", "p2", TaskStatus.TODO, null)));
+
+        reconciler.reconcile();
+
+        var p1 = mongo.findById("p1", Project.class);
+        assertThat(p1.getTaskCounts()).isEqualTo(Map.of("TODO", 1L, "DONE", 1L, "IN_PROGRESS", 1L));
+        assertThat(p1.getOpenDueCounts()).isEqualTo(Map.of("2025-03-01", 1L));
+        assertThat(p1.getVersion()).isEqualTo(3);
+
+        // Already right (zero entries aside): not rewritten
+        assertThat(mongo.findById("p2", Project.class).getTaskCounts()).containsEntry("DONE", 0L);
+        assertThat(mongo.findById("p3", Project.class).getTaskCounts()).isNull();
+    }
+
+    @Test
+    void reconcile_prunesDueDatesCountedDownToZero() {
+        var p = project("p1", 2, Map.of("TODO", 1L));
+        p.setOpenDueCounts(Map.of("2025-03-01", 1L, "2025-02-01", 0L, "2025-01-01", 0L));
+        mongo.insert(p);
+        mongo.insert(task("t1", "p1", TaskStatus.TODO, LocalDate.of(2025, 3, 1)));
+
+        reconciler.reconcile();
+
+        assertThat(mongo.findById("p1", Project.class).getOpenDueCounts()).isEqualTo(Map.of("2025-03-01", 1L));
+    }
+
+    @Test
+    void reconcile_skipsProjectsWhoseVersionMoved() {
+        mongo.insert(project("p1", 4, Map.of("TODO", 5L)));
+        mongo.insert(task("t1", "p1", TaskStatus.TODO, null));
+
+        // Read at version 3, a task write bumped it to 4 since
+        int rewritten = reconciler.reconcile(List.of(project("p1", 3, Map.of("TODO", 5L))));
+
+        assertThat(rewritten).isZero();
+        assertThat(mongo.findById("p1", Project.class).getTaskCounts()).isEqualTo(Map.of("TODO", 5L));
+    }
+}
@@ -0,0 +1,86 @@
+package dev.taskraum.backend.search;
+
+import dev.taskraum.backend.common.CursorPage;
+import dev.taskraum.backend.search.dto.SearchHit;
+import dev.taskraum.backend.security.UserPrincipal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(SearchController.class)
+@ActiveProfiles("test")
+@AutoConfigureMockMvc(addFilters = false)
+class SearchControllerTest {
+
+    @Autowired MockMvc mvc;
+    @MockitoBean SearchService service;
+
+    @BeforeEach
+    void setAuth() {
+        var auth = new UsernamePasswordAuthenticationToken(
+                new UserPrincipal("u1", "user@example.com"), null,
+                List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        SecurityContextHolder.getContext().setAuthentication(auth);
+    }
+    @AfterEach void clear() { SecurityContextHolder.clearContext(); }
+
+    @Test
+    void search_returnsRankedHitsWithHighlights() throws Exception {
+        var hit = SearchHit.builder().type(SearchHit.Type.TASK).id("t1").projectId("p1")
+                .title("Deploy backend").status("TODO").score(2.5)
+                .snippet("…before we deploy the backend")
+                .titleHighlights(List.of(new SearchHit.Highlight(0, 6)))
+                .snippetHighlights(List.of(new SearchHit.Highlight(15, 21)))
+                .build();
+        when(service.search("u1", "deploy", null, 20)).thenReturn(new CursorPage<>(List.of(hit), "next"));
+
+        mvc.perform(get("/api/search").param("q", "deploy"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].type").value("TASK"))
+                .andExpect(jsonPath("$.items[0].titleHighlights[0].start").value(0))
+                .andExpect(jsonPath("$.items[0].titleHighlights[0].end").value(6))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+    }
+
+    @Test
+    void search_clampsPageSize() throws Exception {
+        when(service.search("u1", "x", "c1", 50)).thenReturn(new CursorPage<>(List.of(), null));
+
+        mvc.perform(get("/api/search").param("q", "x").param("cursor", "c1").param("size", "1000"))
+                .andExpect(status().isOk());
+
+        verify(service).search("u1", "x", "c1", 50);
+    }
+
+    @Test
+    void search_invalidQuery_returns400() throws Exception {
+        when(service.search("u1", " ", null, 20)).thenThrow(new IllegalArgumentException("INVALID_QUERY"));
+
+        mvc.perform(get("/api/search").param("q", " "))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("INVALID_QUERY"));
+    }
+
+    @Test
+    void search_missingQuery_returns400() throws Exception {
+        mvc.perform(get("/api/search"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,63 @@
+package dev.taskraum.backend.search;
+
+import dev.taskraum.backend.search.dto.SearchHit;
+import dev.taskraum.backend.search.dto.SearchHit.Highlight;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SnippetsTest {
+
+    @Test
+    void terms_dropNegationsAndPunctuation() {
+        assertThat(Snippets.terms("  Deploy \"backend\" -staging deploy ")).containsExactly("deploy", "backend");
+    }
+
+    @Test
+    void highlights_matchWordPrefixes() {
+        var text = "Deployment of the backend; redeploy later";
+
+        assertThat(Snippets.highlights(text, List.of("deploy", "backend")))
+                .containsExactly(new Highlight(0, 10), new Highlight(18, 25));
+    }
+
+    @Test
+    void snippet_shortTextIsReturnedWhole() {
+        assertThat(Snippets.snippet("  Fix   the login\nform ", List.of("login"))).isEqualTo("Fix the login form");
+        assertThat(Snippets.snippet(null, List.of("x"))).isNull();
+    }
+
+    @Test
+    void snippet_longTextIsCutAroundFirstMatch() {
+        String text = "word ".repeat(100) + "needle " + "word ".repeat(100);
+
+        String snippet = Snippets.snippet(text, List.of("needle"));
+
+        assertThat(snippet).startsWith("…").endsWith("…").contains("needle");
+        assertThat(snippet.length()).isLessThanOrEqualTo(Snippets.LENGTH + 2);
+        assertThat(Snippets.highlights(snippet, List.of("needle"))).hasSize(1);
+    }
+
+    @Test
+    void cursor_roundTripsAndRejectsGarbage() {
+        var hit = SearchHit.builder().type(SearchHit.Type.TASK).id("64f0c0ffee0000000000beef").score(1.0833333333333333).build();
+
+        var cursor = SearchCursor.decode(SearchCursor.after(hit).encode());
+
+        assertThat(cursor).isEqualTo(new SearchCursor(1.0833333333333333, SearchHit.Type.TASK, "64f0c0ffee0000000000beef"));
+        assertThatThrownBy(() -> SearchCursor.decode("not-a-cursor"))
+                .isInstanceOf(IllegalArgumentException.class).hasMessage("INVALID_CURSOR");
+    }
+
+    @Test
+    void order_isScoreThenTypeThenId() {
+        var a = SearchHit.builder().type(SearchHit.Type.TASK).id("b").score(2).build();
+        var b = SearchHit.builder().type(SearchHit.Type.PROJECT).id("z").score(1).build();
+        var c = SearchHit.builder().type(SearchHit.Type.TASK).id("a").score(1).build();
+
+        assertThat(List.of(c, b, a).stream().sorted(SearchCursor.ORDER).toList()).containsExactly(a, b, c);
+    }
+}
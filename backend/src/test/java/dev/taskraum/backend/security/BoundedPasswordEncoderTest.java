@@ -0,0 +1,104 @@
+package dev.taskraum.backend.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private BoundedPasswordEncoder encoder;
+
+    // Hashes block until released, so the test controls how many are in flight
+    private final PasswordEncoder slow = new PasswordEncoder() {
+        @Override
+        public String encode(CharSequence raw) {
+            block();
+            return "H(" + raw + ")";
+        }
+
+        @Override
+        public boolean matches(CharSequence raw, String encoded) {
+            block();
+            return encoded.equals("H(" + raw + ")");
+        }
+
+        private void block() {
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    };
+
+    @AfterEach
+    void stop() {
+        release.countDown();
+        if (encoder != null) encoder.stop();
+    }
+
+    private double gauge(String name) {
+        return registry.get(name).gauge().value();
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) throw new AssertionError("condition not met within 5s");
+            Thread.sleep(5);
+        }
+    }
+
+    @Test
+    void hashesOnThePool_andRecordsLatency() {
+        release.countDown();
+        encoder = new BoundedPasswordEncoder(slow, 2, 4, Duration.ofSeconds(1), registry);
+
+        assertThat(encoder.encode("secret")).isEqualTo("H(secret)");
+        assertThat(encoder.matches("secret", "H(secret)")).isTrue();
+
+        assertThat(registry.get("taskraum.password.hash").tag("operation", "encode").timer().count()).isEqualTo(1);
+        assertThat(registry.get("taskraum.password.hash").tag("operation", "matches").timer().count()).isEqualTo(1);
+        assertThat(registry.get("taskraum.password.hash.wait").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void rejectsAtOnceWhenThreadsAndQueueAreFull() throws Exception {
+        encoder = new BoundedPasswordEncoder(slow, 1, 1, Duration.ofSeconds(3), registry);
+
+        var running = CompletableFuture.supplyAsync(() -> encoder.encode("a"));
+        waitUntil(() -> gauge("taskraum.password.hash.active") == 1);
+        var queued = CompletableFuture.supplyAsync(() -> encoder.matches("b", "H(b)"));
+        waitUntil(() -> gauge("taskraum.password.hash.queue") == 1);
+
+        assertThatThrownBy(() -> encoder.encode("c"))
+                .isInstanceOf(HashingBusyException.class)
+                .extracting(ex -> ((HashingBusyException) ex).getRetryAfter())
+                .isEqualTo(Duration.ofSeconds(3));
+        assertThat(registry.get("taskraum.password.hash.rejected").counter().count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.join()).isEqualTo("H(a)");
+        assertThat(queued.join()).isTrue();
+    }
+
+    @Test
+    void delegateFailuresReachTheCaller() {
+        release.countDown();
+        encoder = new BoundedPasswordEncoder(slow, 1, 1, Duration.ofSeconds(1), registry);
+
+        assertThatThrownBy(() -> encoder.matches("x", null)).isInstanceOf(NullPointerException.class);
+    }
+}
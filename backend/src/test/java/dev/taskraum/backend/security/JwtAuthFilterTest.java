@@ -16,6 +16,7 @@ import static org.junit.jupiter.api.Assertions.*;
 @ExtendWith(MockitoExtension.class)
 class JwtAuthFilterTest {
     JwtUtil jwt;
+    AccessTokenCache tokens;
     JwtAuthFilter jwtAuthFilter;
 
     @BeforeEach
@@ -25,7 +26,8 @@ class JwtAuthFilterTest {
                 "PXogpzVEHDFTbJhNm3hZAG2hLj/9HtzdQK8fHaOnpKgDgyhMBwLkkBg/V6G7u0fG"
         );
         jwt = new JwtUtil(secret, 5, 7);
-        jwtAuthFilter = new JwtAuthFilter(jwt);
+        tokens = new AccessTokenCache(100);
+        jwtAuthFilter = new JwtAuthFilter(jwt, tokens);
     }
 
 
@@ -58,4 +60,30 @@ class JwtAuthFilterTest {
         jwtAuthFilter.doFilterInternal(req, res, new MockFilterChain());
         assertNull(SecurityContextHolder.getContext().getAuthentication());
     }
-}
\ No newline at end of file
+
+    @Test
+    void repeatedAccessTokenIsServedFromCache() throws Exception {
+        var token = jwt.createAccessToken("uid1", "u@mail.com");
+        for (int i = 0; i < 3; i++) {
+            var req = new MockHttpServletRequest();
+            req.setCookies(new Cookie("access", token));
+            jwtAuthFilter.doFilterInternal(req, new MockHttpServletResponse(), new MockFilterChain());
+            var p = (UserPrincipal) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+            assertEquals("uid1", p.id());
+            SecurityContextHolder.clearContext();
+        }
+        assertEquals(1, tokens.stats().missCount());
+        assertEquals(2, tokens.stats().hitCount());
+    }
+
+    @Test
+    void refreshTokenInAccessCookieIsIgnoredAndNotCached() throws Exception {
+        var token = jwt.createRefreshToken("uid1");
+        var req = new MockHttpServletRequest();
+        req.setCookies(new Cookie("access", token));
+        jwtAuthFilter.doFilterInternal(req, new MockHttpServletResponse(), new MockFilterChain());
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        assertNull(tokens.get(token));
+    }
+}
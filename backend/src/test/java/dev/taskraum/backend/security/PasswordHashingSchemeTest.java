@@ -0,0 +1,57 @@
+package dev.taskraum.backend.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+import static dev.taskraum.backend.security.PasswordHashingScheme.highestCostWithin;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PasswordHashingSchemeTest {
+
+    private static final long MS = 1_000_000;
+
+    @Test
+    void calibration_picksHighestCostWithinTarget() {
+        // BCrypt doubles per step: 10 -> 20 ms, 11 -> 40, 12 -> 80, 13 -> 160
+        assertThat(highestCostWithin(Duration.ofMillis(100), 10, 16, 20 * MS, c -> Math.pow(2, c))).isEqualTo(12);
+        // Argon2 is linear in the passes: 2 -> 30 ms, 3 -> 45, ... 6 -> 90, 7 -> 105
+        assertThat(highestCostWithin(Duration.ofMillis(100), 2, 16, 30 * MS, c -> c)).isEqualTo(6);
+    }
+
+    @Test
+    void calibration_staysWithinBounds() {
+        // Slow machine: never weaker than the minimum
+        assertThat(highestCostWithin(Duration.ofMillis(100), 10, 16, 500 * MS, c -> Math.pow(2, c))).isEqualTo(10);
+        assertThat(highestCostWithin(Duration.ofSeconds(10), 10, 16, MS, c -> Math.pow(2, c))).isEqualTo(16);
+    }
+
+    @Test
+    void outdatedHashes_reportUpgrade_andCurrentOnesMatchWithout() {
+        var encoder = PasswordHashingScheme.create(PasswordHashingScheme.BCRYPT, 5, Duration.ZERO);
+        String legacy = new BCryptPasswordEncoder(4).encode("secret");
+        String weaker = "{bcrypt}" + legacy;
+        String argon2 = "{argon2}" + PasswordHashingScheme.argon2(2).encode("secret");
+        String current = encoder.encode("secret");
+
+        assertThat(current).startsWith("{bcrypt}$2a$05$");
+        assertThat(encoder.upgradeEncoding(current)).isFalse();
+        for (String stored : new String[] {legacy, weaker, argon2}) {
+            assertThat(encoder.matches("secret", stored)).as(stored).isTrue();
+            assertThat(encoder.upgradeEncoding(stored)).as(stored).isTrue();
+        }
+    }
+
+    @Test
+    void argon2_migratesBcryptHashes() {
+        var encoder = PasswordHashingScheme.create(PasswordHashingScheme.ARGON2, 2, Duration.ZERO);
+        String bcrypt = "{bcrypt}" + new BCryptPasswordEncoder(4).encode("secret");
+
+        assertThat(encoder.matches("secret", bcrypt)).isTrue();
+        assertThat(encoder.upgradeEncoding(bcrypt)).isTrue();
+        String current = encoder.encode("secret");
+        assertThat(current).startsWith("{argon2}$argon2id$");
+        assertThat(encoder.upgradeEncoding(current)).isFalse();
+    }
+}
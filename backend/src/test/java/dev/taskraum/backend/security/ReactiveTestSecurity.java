@@ -0,0 +1,34 @@
+package dev.taskraum.backend.security;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+
+import java.util.List;
+
+/**
+ * Reactive counterpart of {@code @AutoConfigureMockMvc(addFilters = false)} plus a fixed login:
+ * every request is permitted and runs as u1, like the servlet controller tests.
+ */
+@TestConfiguration
+public class ReactiveTestSecurity {
+
+    public static final UserPrincipal USER = new UserPrincipal("u1", "user@example.com");
+
+    @Bean
+    SecurityWebFilterChain testSecurityWebFilterChain(ServerHttpSecurity http) {
+        var auth = new UsernamePasswordAuthenticationToken(USER, null, List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        return http
+                .csrf(ServerHttpSecurity.CsrfSpec::disable)
+                .authorizeExchange(a -> a.anyExchange().permitAll())
+                .addFilterAt((exchange, chain) -> chain.filter(exchange)
+                        .contextWrite(ReactiveSecurityContextHolder.withAuthentication(auth)),
+                        SecurityWebFiltersOrder.AUTHENTICATION)
+                .build();
+    }
+}
@@ -0,0 +1,239 @@
+package dev.taskraum.backend.tasks;
+
+import dev.taskraum.backend.common.enums.TaskStatus;
+import dev.taskraum.backend.security.ReactiveTestSecurity;
+import dev.taskraum.backend.tasks.dto.BoardResponse;
+import dev.taskraum.backend.tasks.dto.MoveTaskDto;
+import dev.taskraum.backend.tasks.dto.ReorderTasksDto;
+import dev.taskraum.backend.tasks.dto.TaskCard;
+import dev.taskraum.backend.tasks.dto.TaskDto;
+import dev.taskraum.backend.tasks.dto.TaskImportResult;
+import dev.taskraum.backend.tasks.dto.TaskOrderResult;
+import dev.taskraum.backend.tasks.dto.TaskResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// Same contract as TaskControllerTest, against the WebFlux controller
+@WebFluxTest(ReactiveTaskController.class)
+@ActiveProfiles({"test", "reactive"})
+@Import(ReactiveTestSecurity.class)
+class ReactiveTaskControllerTest {
+
+    @Autowired private WebTestClient client;
+    @MockitoBean ReactiveTaskService service;
+
+    private TaskResponse resp(String id) {
+        return TaskResponse.builder()
+                .id(id).projectId("p1").title("T").status(TaskStatus.TODO)
+                .rank("0b").createdAt(Instant.now()).updatedAt(Instant.now()).build();
+    }
+
+    @Test
+    void list_ok_returnsArray() {
+        when(service.list("u1", "p1", TaskStatus.TODO)).thenReturn(Flux.just(resp("t1"), resp("t2")));
+
+        client.get().uri("/api/projects/{pid}/tasks?status=TODO", "p1").exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].id").isEqualTo("t1")
+                .jsonPath("$[1].id").isEqualTo("t2");
+    }
+
+    @Test
+    void list_missingStatus_returns400() {
+        client.get().uri("/api/projects/{pid}/tasks", "p1").exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void board_ok_returnsColumnsByStatus() {
+        when(service.boardVersion("u1", "p1")).thenReturn(Mono.just(3L));
+        when(service.board(eq("u1"), eq("p1"), eq(Set.of(TaskStatus.TODO, TaskStatus.DONE))))
+                .thenReturn(Mono.just(BoardResponse.builder()
+                        .projectId("p1")
+                        .columns(Map.of(TaskStatus.TODO, List.of(TaskCard.builder().id("t1").title("T").status(TaskStatus.TODO).build()),
+                                TaskStatus.DONE, List.of()))
+                        .build()));
+
+        client.get().uri("/api/projects/{pid}/board?status=TODO&status=DONE", "p1").exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("ETag", "\"3\"")
+                .expectBody()
+                .jsonPath("$.projectId").isEqualTo("p1")
+                .jsonPath("$.columns.TODO[0].id").isEqualTo("t1")
+                .jsonPath("$.columns.DONE").isEmpty()
+                .jsonPath("$.columns.TODO[0].description").doesNotExist();
+    }
+
+    @Test
+    void board_notModified_skipsLoadingTasks() {
+        when(service.boardVersion("u1", "p1")).thenReturn(Mono.just(12L));
+
+        client.get().uri("/api/projects/{pid}/board", "p1")
+                .header("If-None-Match", "\"12\"")
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectHeader().valueEquals("ETag", "\"12\"");
+
+        verify(service, never()).board(any(), any(), any());
+    }
+
+    @Test
+    void board_unknownProject_returns404ApiError() {
+        when(service.boardVersion("u1", "p9"))
+                .thenReturn(Mono.error(new IllegalArgumentException("PROJECT_NOT_FOUND")));
+
+        client.get().uri("/api/projects/{pid}/board", "p9").exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("NotFound")
+                .jsonPath("$.message").isEqualTo("Project not found")
+                .jsonPath("$.status").isEqualTo(404);
+    }
+
+    @Test
+    void get_ok_returnsDetail() {
+        when(service.get("u1", "t1")).thenReturn(Mono.just(resp("t1")));
+
+        client.get().uri("/api/tasks/{id}", "t1").exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo("t1")
+                .jsonPath("$.projectId").isEqualTo("p1");
+    }
+
+    @Test
+    void create_valid_returns201() {
+        when(service.create(eq("u1"), eq("p1"), any(TaskDto.class))).thenReturn(Mono.just(resp("t1")));
+
+        client.post().uri("/api/projects/{pid}/tasks", "p1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("""
+                        {"title":"New task","description":"d"}
+                        """)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody().jsonPath("$.id").isEqualTo("t1");
+    }
+
+    @Test
+    void create_invalidTitle_returns400() {
+        client.post().uri("/api/projects/{pid}/tasks", "p1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"title\":\"  \"}")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.error").isEqualTo("ValidationError");
+    }
+
+    @Test
+    void update_ok_returns200() {
+        when(service.update(eq("u1"), eq("t1"), any(TaskDto.class))).thenReturn(Mono.just(resp("t1")));
+
+        client.put().uri("/api/tasks/{id}", "t1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"title\":\"Renamed\"}")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.id").isEqualTo("t1");
+    }
+
+    @Test
+    void update_archivedProject_returns409() {
+        when(service.update(eq("u1"), eq("t1"), any(TaskDto.class)))
+                .thenReturn(Mono.error(new IllegalStateException("PROJECT_ARCHIVED_READ_ONLY")));
+
+        client.put().uri("/api/tasks/{id}", "t1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"title\":\"Renamed\"}")
+                .exchange()
+                .expectStatus().isEqualTo(409)
+                .expectBody().jsonPath("$.message").isEqualTo("PROJECT_ARCHIVED_READ_ONLY");
+    }
+
+    @Test
+    void move_ok_returns200() {
+        when(service.move(eq("u1"), eq("t1"), any(MoveTaskDto.class))).thenReturn(Mono.just(resp("t1")));
+
+        client.post().uri("/api/tasks/{id}/move", "t1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("""
+                        {"status":"DONE","afterId":"t2","beforeId":"t3"}
+                        """)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.rank").isEqualTo("0b");
+        verify(service).move(eq("u1"), eq("t1"), argThat(d ->
+                d.getStatus() == TaskStatus.DONE && "t2".equals(d.getAfterId()) && "t3".equals(d.getBeforeId())));
+    }
+
+    @Test
+    void reorder_ok_returnsPerItemResults() {
+        when(service.reorder(eq("u1"), eq("p1"), any(ReorderTasksDto.class)))
+                .thenReturn(Mono.just(List.of(
+                        TaskOrderResult.builder().taskId("t1").outcome(TaskOrderResult.Outcome.UPDATED).rank("0b").build(),
+                        TaskOrderResult.builder().taskId("t9").outcome(TaskOrderResult.Outcome.NOT_FOUND).build())));
+
+        client.patch().uri("/api/projects/{pid}/tasks/order", "p1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("""
+                        {"items":[{"taskId":"t1","status":"TODO","order":1},{"taskId":"t9","status":"TODO","order":2}]}
+                        """)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].outcome").isEqualTo("UPDATED")
+                .jsonPath("$[1].outcome").isEqualTo("NOT_FOUND");
+    }
+
+    @Test
+    void reorder_emptyItems_returns400() {
+        client.patch().uri("/api/projects/{pid}/tasks/order", "p1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"items\":[]}")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void import_csvBody_isPassedThrough() {
+        when(service.importTasks(eq("u1"), eq("p1"), eq(true), any()))
+                .thenReturn(Mono.just(TaskImportResult.builder().imported(2).failed(0).errors(List.of()).build()));
+
+        client.post().uri("/api/projects/{pid}/tasks/import", "p1")
+                .contentType(MediaType.parseMediaType("text/csv"))
+                .bodyValue("title\nA\nB\n")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.imported").isEqualTo(2);
+    }
+
+    @Test
+    void delete_noContent() {
+        when(service.delete("u1", "t1")).thenReturn(Mono.empty());
+
+        client.delete().uri("/api/tasks/{id}", "t1").exchange()
+                .expectStatus().isNoContent();
+        verify(service).delete("u1", "t1");
+    }
+}
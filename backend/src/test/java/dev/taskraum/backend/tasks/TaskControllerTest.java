@@ -3,7 +3,13 @@ package dev.taskraum.backend.tasks;
 
 import dev.taskraum.backend.common.enums.TaskStatus;
 import dev.taskraum.backend.security.UserPrincipal;
+import dev.taskraum.backend.tasks.dto.BoardResponse;
+import dev.taskraum.backend.tasks.dto.MoveTaskDto;
+import dev.taskraum.backend.tasks.dto.ReorderTasksDto;
+import dev.taskraum.backend.tasks.dto.TaskCard;
 import dev.taskraum.backend.tasks.dto.TaskDto;
+import dev.taskraum.backend.tasks.dto.TaskImportResult;
+import dev.taskraum.backend.tasks.dto.TaskOrderResult;
 import dev.taskraum.backend.tasks.dto.TaskResponse;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -21,13 +27,18 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -38,6 +49,7 @@ class TaskControllerTest {
 
     @Autowired private MockMvc mvc;
     @MockitoBean TaskService service;
+    @MockitoBean TaskImportService importService;
 
     @BeforeEach
     void setAuth() {
@@ -53,7 +65,7 @@ class TaskControllerTest {
     private TaskResponse resp(String id) {
         return TaskResponse.builder()
                 .id(id).projectId("p1").title("T").status(TaskStatus.TODO)
-                .order(100).createdAt(Instant.now()).updatedAt(Instant.now()).build();
+                .rank("0b").createdAt(Instant.now()).updatedAt(Instant.now()).build();
     }
 
     @Test
@@ -78,6 +90,52 @@ class TaskControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    void board_ok_returnsColumnsByStatus() throws Exception {
+        var auth = SecurityContextHolder.getContext().getAuthentication();
+        when(service.board(eq("u1"), eq("p1"), eq(Set.of(TaskStatus.TODO, TaskStatus.DONE))))
+                .thenReturn(BoardResponse.builder()
+                        .projectId("p1")
+                        .columns(Map.of(TaskStatus.TODO, List.of(TaskCard.builder().id("t1").title("T").status(TaskStatus.TODO).build()),
+                                TaskStatus.DONE, List.of()))
+                        .build());
+
+        mvc.perform(get("/api/projects/{pid}/board", "p1")
+                        .param("status", "TODO", "DONE")
+                        .with(authentication(auth)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.projectId").value("p1"))
+                .andExpect(jsonPath("$.columns.TODO[0].id").value("t1"))
+                .andExpect(jsonPath("$.columns.DONE").isEmpty())
+                .andExpect(jsonPath("$.columns.TODO[0].description").doesNotExist());
+    }
+
+    @Test
+    void board_notModified_skipsLoadingTasks() throws Exception {
+        var auth = SecurityContextHolder.getContext().getAuthentication();
+        when(service.boardVersion("u1", "p1")).thenReturn(12L);
+
+        mvc.perform(get("/api/projects/{pid}/board", "p1")
+                        .header("If-None-Match", "\"12\"")
+                        .with(authentication(auth)))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"12\""));
+
+        verify(service, never()).board(any(), any(), any());
+    }
+
+    @Test
+    void get_ok_returnsDetail() throws Exception {
+        var auth = SecurityContextHolder.getContext().getAuthentication();
+        when(service.get("u1", "t1")).thenReturn(resp("t1"));
+
+        mvc.perform(get("/api/tasks/{id}", "t1")
+                        .with(authentication(auth)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value("t1"))
+                .andExpect(jsonPath("$.projectId").value("p1"));
+    }
+
     @Test
     void create_valid_returns201() throws Exception {
         var auth = SecurityContextHolder.getContext().getAuthentication();
@@ -140,6 +198,71 @@ class TaskControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    void move_ok_returns200() throws Exception {
+        var auth = SecurityContextHolder.getContext().getAuthentication();
+        when(service.move(eq("u1"), eq("t1"), any(MoveTaskDto.class)))
+                .thenReturn(resp("t1"));
+
+        var body = """
+                {"status":"DONE","afterId":"t2","beforeId":"t3"}
+                """;
+
+        mvc.perform(post("/api/tasks/{id}/move", "t1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body)
+                .with(authentication(auth)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rank").value("0b"));
+        verify(service).move(eq("u1"), eq("t1"), argThat(d ->
+                d.getStatus() == TaskStatus.DONE && "t2".equals(d.getAfterId()) && "t3".equals(d.getBeforeId())));
+    }
+
+    @Test
+    void reorder_ok_returnsPerItemResults() throws Exception {
+        var auth = SecurityContextHolder.getContext().getAuthentication();
+        when(service.reorder(eq("u1"), eq("p1"), any(ReorderTasksDto.class)))
+                .thenReturn(List.of(
+                        TaskOrderResult.builder().taskId("t1").outcome(TaskOrderResult.Outcome.UPDATED).rank("0b").build(),
+                        TaskOrderResult.builder().taskId("t9").outcome(TaskOrderResult.Outcome.NOT_FOUND).build()));
+
+        var body = """
+                {"items":[{"taskId":"t1","status":"TODO","order":1},{"taskId":"t9","status":"TODO","order":2}]}
+                """;
+
+        mvc.perform(patch("/api/projects/{pid}/tasks/order", "p1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body)
+                .with(authentication(auth)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].outcome").value("UPDATED"))
+                .andExpect(jsonPath("$[1].outcome").value("NOT_FOUND"));
+    }
+
+    @Test
+    void reorder_emptyItems_returns400() throws Exception {
+        var auth = SecurityContextHolder.getContext().getAuthentication();
+        mvc.perform(patch("/api/projects/{pid}/tasks/order", "p1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"items\":[]}")
+                .with(authentication(auth)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void import_csvBody_isPassedThrough() throws Exception {
+        var auth = SecurityContextHolder.getContext().getAuthentication();
+        when(importService.importTasks(eq("u1"), eq("p1"), eq(true), any()))
+                .thenReturn(TaskImportResult.builder().imported(2).failed(0).errors(List.of()).build());
+
+        mvc.perform(post("/api/projects/{pid}/tasks/import", "p1")
+                .contentType("text/csv")
+                .content("title\nA\nB\n")
+                .with(authentication(auth)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2));
+    }
+
     @Test
     void delete_noContent()  throws Exception {
         var auth = SecurityContextHolder.getContext().getAuthentication();
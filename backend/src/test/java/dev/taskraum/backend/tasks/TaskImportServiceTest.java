@@ -0,0 +1,136 @@
+package dev.taskraum.backend.tasks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.taskraum.backend.common.enums.ProjectStatus;
+import dev.taskraum.backend.common.enums.TaskPriority;
+import dev.taskraum.backend.common.enums.TaskStatus;
+import dev.taskraum.backend.events.ProjectEventHub;
+import dev.taskraum.backend.projects.ProjectAccessCache;
+import dev.taskraum.backend.projects.ProjectRepository;
+import dev.taskraum.backend.projects.TaskCounters;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class TaskImportServiceTest {
+
+    MongoTemplate mongo;
+    ProjectAccessCache projectAccess;
+    ProjectRepository projectRepo;
+    ProjectEventHub events;
+    TaskImportService service;
+    List<Task> inserted;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        mongo = mock(MongoTemplate.class);
+        projectAccess = mock(ProjectAccessCache.class);
+        projectRepo = mock(ProjectRepository.class);
+        events = mock(ProjectEventHub.class);
+        when(projectAccess.status("u1", "p1")).thenReturn(Optional.of(ProjectStatus.ACTIVE));
+
+        inserted = new ArrayList<>();
+        when(mongo.insert(any(Collection.class), eq(Task.class))).thenAnswer(inv -> {
+            inserted.addAll(inv.getArgument(0));
+            return inv.getArgument(0);
+        });
+
+        service = new TaskImportService(mongo, projectAccess, projectRepo, events,
+                Validation.buildDefaultValidatorFactory().getValidator(), new ObjectMapper(), 2);
+    }
+
+    private static ByteArrayInputStream body(String s) {
+        return new ByteArrayInputStream(s.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void csv_mapsColumns_batchesInserts_andCollectsRowErrors() throws Exception {
+        var csv = """
+                Summary,State,Priority,Due Date
+                First,In progress,high,2025-03-01
+                ,To do,low,
+                Second,Backlog,low,
+                Third,done,,2025-03-02T10:00:00Z
+                Fourth,,,
+                """;
+
+        var res = service.importTasks("u1", "p1", true, body(csv));
+
+        assertThat(res.getImported()).isEqualTo(3);
+        assertThat(res.getFailed()).isEqualTo(2);
+        assertThat(res.getErrors()).extracting(e -> e.row()).containsExactly(2L, 3L);
+        assertThat(res.getErrors().get(0).message()).startsWith("title");
+
+        assertThat(inserted).extracting(Task::getTitle).containsExactly("First", "Third", "Fourth");
+        assertThat(inserted).extracting(Task::getOwnerId).containsOnly("u1");
+        ArgumentCaptor<TaskCounters> counters = ArgumentCaptor.forClass(TaskCounters.class);
+        verify(projectRepo).incrementVersion(eq("p1"), counters.capture());
+        assertThat(counters.getValue().deltas()).isEqualTo(Map.of(
+                "taskCounts.IN_PROGRESS", 1L, "taskCounts.DONE", 1L, "taskCounts.TODO", 1L,
+                "openDueCounts.2025-03-01", 1L));
+        assertThat(inserted.get(0).getStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
+        assertThat(inserted.get(0).getPriority()).isEqualTo(TaskPriority.HIGH);
+        assertThat(inserted.get(1).getDueDate()).isEqualTo(LocalDate.of(2025, 3, 2));
+        assertThat(inserted.get(2).getStatus()).isEqualTo(TaskStatus.TODO);
+        assertThat(inserted.get(2).getPriority()).isEqualTo(TaskPriority.MEDIUM);
+        assertThat(inserted.get(1).getRank()).isGreaterThan(inserted.get(0).getRank());
+
+        // batch size 2 -> one full batch + remainder
+        verify(mongo, times(2)).insert(any(Collection.class), eq(Task.class));
+    }
+
+    @Test
+    void json_arrayOfObjects_isImported() throws Exception {
+        var json = """
+                [{"title":"A","status":"DONE"},{"name":"B","assignee":"u7"}]
+                """;
+
+        var res = service.importTasks("u1", "p1", false, body(json));
+
+        assertThat(res.getImported()).isEqualTo(2);
+        assertThat(inserted).extracting(Task::getAssigneeId).containsExactly(null, "u7");
+    }
+
+    @Test
+    void largeImport_keepsFileOrder() throws Exception {
+        var large = new TaskImportService(mongo, projectAccess, projectRepo, events,
+                Validation.buildDefaultValidatorFactory().getValidator(), new ObjectMapper(), 2_000);
+        var ndjson = new StringBuilder();
+        for (int i = 0; i < 3_000; i++) ndjson.append("{\"title\":\"T").append(i).append("\"}\n");
+
+        var res = large.importTasks("u1", "p1", false, body(ndjson.toString()));
+
+        assertThat(res.getImported()).isEqualTo(3_000);
+        assertThat(inserted).extracting(Task::getTitle).startsWith("T0", "T1").endsWith("T2999");
+        assertThat(inserted).extracting(Task::getRank).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    void archivedProject_isRejected() {
+        when(projectAccess.status("u1", "p2")).thenReturn(Optional.of(ProjectStatus.ARCHIVED));
+
+        assertThatThrownBy(() -> service.importTasks("u1", "p2", true, body("title\nx\n")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("PROJECT_ARCHIVED_READ_ONLY");
+        verifyNoInteractions(mongo);
+    }
+}
@@ -0,0 +1,59 @@
+package dev.taskraum.backend.tasks;
+
+import dev.taskraum.backend.common.enums.TaskPriority;
+import dev.taskraum.backend.common.enums.TaskStatus;
+import dev.taskraum.backend.projects.Project;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataMongoTest
+class TaskOwnerBackfillTest {
+
+    @Autowired private MongoTemplate mongo;
+    private TaskOwnerBackfill backfill;
+
+    @BeforeEach
+    void setUp() {
+        mongo.dropCollection(Project.class);
+        mongo.dropCollection(Task.class);
+        backfill = new TaskOwnerBackfill(mongo, 2, Duration.ZERO); // tiny batches
+    }
+
+    private Task task(String id, String projectId, String ownerId) {
+        return Task.builder().id(id).projectId(projectId).ownerId(ownerId).title("T-" + id)
+                .status(TaskStatus.TODO).rank("0b").priority(TaskPriority.LOW).build();
+    }
+
+    @Test
+    void run_fillsOwnerFromProject_andParksOrphans() {
+        mongo.insert(Project.builder().id("p1").ownerId("u1").title("P1").build());
+        mongo.insert(Project.builder().id("p2").ownerId("u2").title("P2").build());
+        // Null fields are not written, so these look like tasks from before ownerId existed
+        mongo.insertAll(List.of(
+                task("t1", "p1", null), task("t2", "p1", null), task("t3", "p2", null),
+                task("t4", "deleted", null), task("t5", "p1", "u1")));
+
+        backfill.run();
+
+        assertThat(mongo.findById("t1", Task.class).getOwnerId()).isEqualTo("u1");
+        assertThat(mongo.findById("t2", Task.class).getOwnerId()).isEqualTo("u1");
+        assertThat(mongo.findById("t3", Task.class).getOwnerId()).isEqualTo("u2");
+        assertThat(mongo.count(Query.query(Criteria.where("_id").is("t4").and("ownerId").exists(true)), Task.class))
+                .isEqualTo(1);
+        assertThat(mongo.findById("t4", Task.class).getOwnerId()).isNull();
+        // Owner-wide views (calendar feed ETag) changed for both projects
+        assertThat(mongo.findById("p1", Project.class).getVersion()).isPositive();
+        assertThat(mongo.findById("p2", Project.class).getVersion()).isPositive();
+        assertThat(backfill.backfillBatch()).isZero();
+    }
+}
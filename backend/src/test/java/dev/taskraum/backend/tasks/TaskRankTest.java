@@ -0,0 +1,89 @@
+package dev.taskraum.backend.tasks;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TaskRankTest {
+
+    @Test
+    void next_isMonotonic() {
+        String a = TaskRank.next();
+        String b = TaskRank.next();
+        assertThat(b).isGreaterThan(a);
+    }
+
+    @Test
+    void sameMillisecond_keepsIncreasingPastTheSequenceRange() {
+        long millis = System.currentTimeMillis();
+        String prev = TaskRank.at(millis);
+        for (int i = 0; i < 5_000; i++) {
+            String key = TaskRank.at(millis);
+            assertThat(key).isGreaterThan(prev).doesNotEndWith("0");
+            prev = key;
+        }
+    }
+
+    @Test
+    void nextBatch_isConsecutive_andAfterEarlierKeys() {
+        String before = TaskRank.next();
+        List<String> keys = TaskRank.next(3_000);
+
+        assertThat(keys).hasSize(3_000).isSorted().doesNotHaveDuplicates();
+        assertThat(keys.get(0)).isGreaterThan(before);
+        assertThat(TaskRank.next()).isGreaterThan(keys.get(keys.size() - 1));
+    }
+
+    @Test
+    void between_handlesOpenEnds() {
+        assertThat(TaskRank.between(null, "0b")).isLessThan("0b");
+        assertThat(TaskRank.between("0b", null)).isGreaterThan("0b");
+        assertThat(TaskRank.between("0c", "0e")).isEqualTo("0d");
+    }
+
+    @Test
+    void between_adjacentKeys_extendsLowerKey() {
+        String mid = TaskRank.between("0b", "0c");
+        assertThat(mid).isGreaterThan("0b").isLessThan("0c").startsWith("0b");
+    }
+
+    @Test
+    void between_rejectsOutOfOrderNeighbours() {
+        assertThatThrownBy(() -> TaskRank.between("0e", "0c"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("INVALID_MOVE");
+    }
+
+    @Test
+    void tooLong_onlyAfterRepeatedInsertsIntoTheSameGap() {
+        String lo = TaskRank.next();
+        String hi = TaskRank.next();
+        assertThat(TaskRank.tooLong(lo)).isFalse();
+
+        String key = TaskRank.between(lo, hi);
+        while (!TaskRank.tooLong(key)) key = TaskRank.between(lo, key);
+        assertThat(key).hasSize(TaskRank.MAX_LENGTH + 1);
+    }
+
+    @Test
+    void randomInserts_keepStrictOrder() {
+        var rnd = new Random(42);
+        List<String> keys = new ArrayList<>(List.of(TaskRank.next()));
+        for (int i = 0; i < 5_000; i++) {
+            int at = rnd.nextInt(keys.size() + 1);
+            String lo = at == 0 ? null : keys.get(at - 1);
+            String hi = at == keys.size() ? null : keys.get(at);
+            String key = TaskRank.between(lo, hi);
+
+            if (lo != null) assertThat(key).isGreaterThan(lo);
+            if (hi != null) assertThat(key).isLessThan(hi);
+            assertThat(key).doesNotEndWith("0");
+            keys.add(at, key);
+        }
+    }
+}
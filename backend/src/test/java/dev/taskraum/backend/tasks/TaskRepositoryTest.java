@@ -6,9 +6,14 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.data.domain.Limit;
 
 import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -22,13 +27,13 @@ class TaskRepositoryTest {
         repo.deleteAll();
     }
 
-    private Task task(String id, String projectId, TaskStatus status, int order) {
+    private Task task(String id, String projectId, TaskStatus status, String rank) {
         return Task.builder()
                 .id(id)
                 .projectId(projectId)
                 .title("T-" + id)
                 .status(status)
-                .order(order)
+                .rank(rank)
                 .priority(TaskPriority.MEDIUM)
                 .createdAt(Instant.now())
                 .updatedAt(Instant.now())
@@ -36,29 +41,156 @@ class TaskRepositoryTest {
     }
 
     @Test
-    void findByProjectIdAndStatusOrderByOrderAsc_returnsOrderedTasks() {
+    void findByProjectIdAndStatusOrderByRankAsc_returnsOrderedTasks() {
         repo.saveAll(List.of(
-                task("t1","p1",TaskStatus.TODO, 300),
-                task("t2","p1",TaskStatus.TODO, 100),
-                task("t3","p1",TaskStatus.TODO, 200)
+                task("t1","p1",TaskStatus.TODO, "0k"),
+                task("t2","p1",TaskStatus.TODO, "0b"),
+                task("t3","p1",TaskStatus.TODO, "0bi")
                 ));
 
-        List<Task> result = repo.findByProjectIdAndStatusOrderByOrderAsc("p1", TaskStatus.TODO);
+        List<Task> result = repo.findByProjectIdAndStatusOrderByRankAsc("p1", TaskStatus.TODO);
 
         assertThat(result).extracting(Task::getId).containsExactly("t2", "t3", "t1");
     }
 
     @Test
-    void findTopByProjectIdAndStatusOrderByOrderDesc_returnsHighestOrder() {
+    void findCards_returnsRequestedColumnsGroupedAndOrdered_withoutDescription() {
+        var described = task("t1", "p3", TaskStatus.TODO, "0k");
+        described.setDescription("x".repeat(4000));
+        described.setAssigneeId("u9");
         repo.saveAll(List.of(
-                task("t1", "p2", TaskStatus.IN_PROGRESS, 100),
-                task("t2", "p2", TaskStatus.IN_PROGRESS, 500),
-                task("t3", "p2", TaskStatus.IN_PROGRESS, 300)
+                described,
+                task("t2", "p3", TaskStatus.DONE, "0b"),
+                task("t3", "p3", TaskStatus.TODO, "0b"),
+                task("t4", "p3", TaskStatus.IN_PROGRESS, "0b"),
+                task("t5", "other", TaskStatus.TODO, "0b")
         ));
 
-        Task last = repo.findTopByProjectIdAndStatusOrderByOrderDesc("p2", TaskStatus.IN_PROGRESS);
+        List<Task> result = repo.findCardsByProjectIdAndStatusInOrderByStatusAscRankAsc(
+                "p3", EnumSet.of(TaskStatus.TODO, TaskStatus.DONE));
 
-        assertThat(last.getId()).isEqualTo("t2");
-        assertThat(last.getOrder()).isEqualTo(500);
+        assertThat(result).extracting(Task::getId).containsExactly("t2", "t3", "t1");
+        var card = result.getLast();
+        assertThat(card.getTitle()).isEqualTo("T-t1");
+        assertThat(card.getAssigneeId()).isEqualTo("u9");
+        assertThat(card.getDescription()).isNull();
+        assertThat(card.getCreatedAt()).isNull();
+    }
+
+    @Test
+    void applyPlacements_updatesOnlyTasksOfTheProject() {
+        repo.saveAll(List.of(
+                task("t1", "p4", TaskStatus.TODO, "0k"),
+                task("t2", "p4", TaskStatus.TODO, "0b"),
+                task("t3", "foreign", TaskStatus.TODO, "0b")
+        ));
+
+        assertThat(repo.findInProject("p4", List.of("t1", "t2", "t3")))
+                .containsOnlyKeys("t1", "t2")
+                .allSatisfy((id, t) -> assertThat(t.getStatus()).isEqualTo(TaskStatus.TODO));
+
+        var failed = repo.applyPlacements("p4", List.of(
+                new TaskPlacement("t1", TaskStatus.DONE, "0c", 1),
+                new TaskPlacement("t3", TaskStatus.DONE, "0d", 2)));
+
+        // t3 is not in p4, so its update matched nothing
+        assertThat(failed).containsOnlyKeys("t3");
+        assertThat(repo.findById("t1")).get()
+                .extracting(Task::getStatus, Task::getRank, Task::getOrder)
+                .containsExactly(TaskStatus.DONE, "0c", 1);
+        assertThat(repo.findById("t3")).get().extracting(Task::getRank).isEqualTo("0b");
+    }
+
+    @Test
+    void applyPlacements_reportsTasksDeletedSinceTheyWereRead() {
+        repo.saveAll(List.of(
+                task("t1", "p4", TaskStatus.TODO, "0k"),
+                task("t2", "p4", TaskStatus.TODO, "0b")
+        ));
+        repo.deleteById("t2");
+
+        var failed = repo.applyPlacements("p4", List.of(
+                new TaskPlacement("t1", TaskStatus.TODO, "0c", 1),
+                new TaskPlacement("t2", TaskStatus.TODO, "0d", 2)));
+
+        assertThat(failed).containsOnly(Map.entry("t2", "TASK_NOT_FOUND"));
+        assertThat(repo.findById("t1")).get().extracting(Task::getRank).isEqualTo("0c");
+    }
+
+    @Test
+    void existsOutsideIds_findsUnlistedCardsOfTheColumns() {
+        repo.saveAll(List.of(
+                task("t1", "p4", TaskStatus.TODO, "0k"),
+                task("t2", "p4", TaskStatus.TODO, "0b"),
+                task("t3", "p4", TaskStatus.DONE, "0b")
+        ));
+
+        assertThat(repo.existsByProjectIdAndStatusInAndIdNotIn("p4", List.of(TaskStatus.TODO), List.of("t1", "t2"))).isFalse();
+        assertThat(repo.existsByProjectIdAndStatusInAndIdNotIn("p4", List.of(TaskStatus.TODO), List.of("t1"))).isTrue();
+        assertThat(repo.existsByProjectIdAndStatusInAndIdNotIn("p4", List.of(TaskStatus.TODO, TaskStatus.DONE), List.of("t1", "t2"))).isTrue();
+    }
+
+    private Task owned(String id, TaskStatus status, LocalDate due) {
+        var t = task(id, "p6", status, "0b");
+        t.setOwnerId("u1");
+        t.setDueDate(due);
+        return t;
+    }
+
+    @Test
+    void findOpenOwnedBefore_skipsDoneTasks_andStopsAtTheLimit() {
+        var today = LocalDate.of(2025, 3, 10);
+        repo.saveAll(List.of(
+                owned("done1", TaskStatus.DONE, today.minusDays(9)),
+                owned("done2", TaskStatus.DONE, today.minusDays(8)),
+                owned("doing", TaskStatus.IN_PROGRESS, today.minusDays(5)),
+                owned("todo", TaskStatus.TODO, today.minusDays(7)),
+                owned("later", TaskStatus.TODO, today.minusDays(1)),
+                owned("future", TaskStatus.TODO, today.plusDays(1))));
+
+        var overdue = repo.findByOwnerIdAndStatusInAndDueDateBeforeOrderByDueDateAsc(
+                "u1", EnumSet.of(TaskStatus.TODO, TaskStatus.IN_PROGRESS), today, Limit.of(2));
+
+        assertThat(overdue).extracting(Task::getId).containsExactly("todo", "doing");
+    }
+
+    private Task assigned(String id, TaskStatus status, TaskPriority priority, LocalDate due) {
+        var t = task(id, "p5", status, "0b");
+        t.setAssigneeId("u1");
+        t.setPriority(priority);
+        t.setDueDate(due);
+        return t;
+    }
+
+    @Test
+    void findAssigned_pagesByDueDateThenPriority_withUndatedLast() {
+        var mar1 = LocalDate.of(2025, 3, 1);
+        var mar2 = LocalDate.of(2025, 3, 2);
+        var other = assigned("x1", TaskStatus.TODO, TaskPriority.HIGH, mar1);
+        other.setAssigneeId("u2");
+        repo.saveAll(List.of(
+                assigned("a1", TaskStatus.TODO, TaskPriority.LOW, mar1),
+                assigned("a2", TaskStatus.IN_PROGRESS, TaskPriority.HIGH, mar1),
+                assigned("a3", TaskStatus.TODO, TaskPriority.HIGH, mar1),
+                assigned("a4", TaskStatus.TODO, null, mar1),
+                assigned("a5", TaskStatus.TODO, TaskPriority.MEDIUM, mar2),
+                assigned("a6", TaskStatus.TODO, TaskPriority.HIGH, null),
+                assigned("a7", TaskStatus.IN_PROGRESS, TaskPriority.LOW, null),
+                assigned("a8", TaskStatus.TODO, TaskPriority.HIGH, null),
+                assigned("d1", TaskStatus.DONE, TaskPriority.HIGH, mar1),
+                other));
+
+        // Every page size walks the same order without gaps or repeats
+        for (int limit = 1; limit <= 4; limit++) {
+            List<String> seen = new ArrayList<>();
+            AssignedCursor after = null;
+            while (true) {
+                var page = repo.findAssigned("u1", EnumSet.of(TaskStatus.TODO, TaskStatus.IN_PROGRESS), after, limit);
+                page.forEach(t -> seen.add(t.getId()));
+                if (page.size() < limit) break;
+                after = AssignedCursor.decode(AssignedCursor.after(page.getLast()).encode());
+            }
+            assertThat(seen).as("limit %d", limit).containsExactly("a2", "a3", "a1", "a4", "a5", "a6", "a8", "a7");
+        }
     }
-}
\ No newline at end of file
+}
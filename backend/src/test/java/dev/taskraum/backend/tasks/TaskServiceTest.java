@@ -4,33 +4,52 @@ import dev.taskraum.backend.common.enums.ProjectStatus;
 import dev.taskraum.backend.common.enums.TaskPriority;
 import dev.taskraum.backend.common.enums.TaskStatus;
 import dev.taskraum.backend.projects.Project;
+import dev.taskraum.backend.events.ProjectEvent;
+import dev.taskraum.backend.events.ProjectEventHub;
+import dev.taskraum.backend.projects.ProjectAccessCache;
 import dev.taskraum.backend.projects.ProjectRepository;
+import dev.taskraum.backend.projects.TaskCounters;
+import dev.taskraum.backend.tasks.dto.MoveTaskDto;
+import dev.taskraum.backend.tasks.dto.ReorderTasksDto;
+import dev.taskraum.backend.tasks.dto.TaskOrderDto;
+import dev.taskraum.backend.tasks.dto.TaskOrderResult;
 import dev.taskraum.backend.tasks.dto.TaskDto;
+import dev.taskraum.backend.tasks.dto.TaskCard;
 import dev.taskraum.backend.tasks.dto.TaskResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 class TaskServiceTest {
 
     TaskRepository taskRepo;
     ProjectRepository projectRepo;
+    ProjectEventHub events;
     TaskService service;
 
     @BeforeEach
     void setUp() {
         taskRepo = mock(TaskRepository.class);
         projectRepo = mock(ProjectRepository.class);
-        service = new TaskService(taskRepo, projectRepo);
+        events = mock(ProjectEventHub.class);
+        // Cache disabled: every ownership check reaches the (mocked) repository
+        service = new TaskService(taskRepo, projectRepo, new ProjectAccessCache(projectRepo, false, 0, Duration.ZERO), events);
     }
 
     // --- Helpers --- //
@@ -56,6 +75,26 @@ class TaskServiceTest {
                 .build();
     }
 
+    private TaskOrderDto orderItem(String taskId, TaskStatus status, int order) {
+        var item = new TaskOrderDto();
+        item.setTaskId(taskId);
+        item.setStatus(status);
+        item.setOrder(order);
+        return item;
+    }
+
+    private Task ranked(String id, TaskStatus status, String rank) {
+        var t = task(id, "p1", status, 0);
+        t.setRank(rank);
+        return t;
+    }
+
+    private Map<String, Long> counterDeltas(String projectId) {
+        ArgumentCaptor<TaskCounters> counters = ArgumentCaptor.forClass(TaskCounters.class);
+        verify(projectRepo).incrementVersion(eq(projectId), counters.capture());
+        return counters.getValue().deltas();
+    }
+
     // --- Tests --- //
 
     @Test
@@ -63,7 +102,7 @@ class TaskServiceTest {
         String owner = "u1"; String projectId = "p1";
         when(projectRepo.findByIdAndOwnerId(projectId, owner))
                 .thenReturn(Optional.of(project(projectId, ProjectStatus.ACTIVE)));
-        when(taskRepo.findByProjectIdAndStatusOrderByOrderAsc(projectId, TaskStatus.TODO))
+        when(taskRepo.findByProjectIdAndStatusOrderByRankAsc(projectId, TaskStatus.TODO))
                 .thenReturn(List.of(task("t1", projectId, TaskStatus.TODO, 100)));
 
         var res = service.list(owner, projectId, TaskStatus.TODO);
@@ -81,12 +120,52 @@ class TaskServiceTest {
     }
 
     @Test
-    void create_defaultsStatusOrderPriority_andTrimsTitle() {
+    void board_groupsAllColumns_withSingleOwnershipCheck() {
+        String owner = "u1"; String projectId = "p1";
+        when(projectRepo.findByIdAndOwnerId(projectId, owner))
+                .thenReturn(Optional.of(project(projectId, ProjectStatus.ACTIVE)));
+        when(taskRepo.findCardsByProjectIdAndStatusInOrderByStatusAscRankAsc(projectId, EnumSet.allOf(TaskStatus.class)))
+                .thenReturn(List.of(
+                        task("t3", projectId, TaskStatus.DONE, 100),
+                        task("t1", projectId, TaskStatus.TODO, 100),
+                        task("t2", projectId, TaskStatus.TODO, 200)));
+
+        var res = service.board(owner, projectId, null);
+
+        assertThat(res.getProjectId()).isEqualTo(projectId);
+        assertThat(res.getColumns().get(TaskStatus.TODO)).extracting(TaskCard::getId).containsExactly("t1", "t2");
+        assertThat(res.getColumns().get(TaskStatus.IN_PROGRESS)).isEmpty();
+        assertThat(res.getColumns().get(TaskStatus.DONE)).extracting(TaskCard::getId).containsExactly("t3");
+        verify(projectRepo, times(1)).findByIdAndOwnerId(projectId, owner);
+    }
+
+    @Test
+    void board_onlyReturnsRequestedColumns() {
+        String owner = "u1"; String projectId = "p1";
+        when(projectRepo.findByIdAndOwnerId(projectId, owner))
+                .thenReturn(Optional.of(project(projectId, ProjectStatus.ACTIVE)));
+        when(taskRepo.findCardsByProjectIdAndStatusInOrderByStatusAscRankAsc(projectId, EnumSet.of(TaskStatus.DONE)))
+                .thenReturn(List.of());
+
+        var res = service.board(owner, projectId, Set.of(TaskStatus.DONE));
+
+        assertThat(res.getColumns()).containsOnlyKeys(TaskStatus.DONE);
+    }
+
+    @Test
+    void board_throws_whenProjectNotOwned() {
+        when(projectRepo.findByIdAndOwnerId("pX", "u1")).thenReturn(Optional.empty());
+        assertThatThrownBy(() -> service.board("u1", "pX", null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("PROJECT_NOT_FOUND");
+        verifyNoInteractions(taskRepo);
+    }
+
+    @Test
+    void create_defaultsStatusRankPriority_andTrimsTitle() {
         String owner = "u1"; String projectId = "p1";
         when(projectRepo.findByIdAndOwnerId(projectId, owner))
                 .thenReturn(Optional.of(project(projectId, ProjectStatus.ACTIVE)));
-        when(taskRepo.findTopByProjectIdAndStatusOrderByOrderDesc(projectId, TaskStatus.TODO))
-                .thenReturn(null);
 
         ArgumentCaptor<Task> saved = ArgumentCaptor.forClass(Task.class);
         when(taskRepo.save(saved.capture())).thenAnswer(inv -> {
@@ -94,7 +173,7 @@ class TaskServiceTest {
             return Task.builder()
                     .projectId(task.getProjectId()).title(task.getTitle())
                     .description(task.getDescription()).status(task.getStatus())
-                    .order(task.getOrder()).priority(task.getPriority())
+                    .rank(task.getRank()).order(task.getOrder()).priority(task.getPriority())
                     .dueDate(task.getDueDate()).assigneeId(task.getAssigneeId())
                     .createdAt(Instant.now()).updatedAt(Instant.now()).build();
         });
@@ -104,18 +183,22 @@ class TaskServiceTest {
         TaskResponse res = service.create(owner, projectId, dto);
 
         assertThat(res.getStatus()).isEqualTo(TaskStatus.TODO);
-        assertThat(res.getOrder()).isEqualTo(100);
+        assertThat(res.getRank()).isNotBlank();
+        assertThat(res.getOrder()).isNull();
         assertThat(res.getPriority()).isEqualTo(TaskPriority.MEDIUM);
         assertThat(saved.getValue().getTitle()).isEqualTo("Title");
+        assertThat(saved.getValue().getOwnerId()).isEqualTo(owner);
+        assertThat(counterDeltas(projectId)).isEqualTo(Map.of("taskCounts.TODO", 1L));
+        verify(events).publish(argThat(e -> e.type() == ProjectEvent.Type.TASK_CREATED
+                && e.projectId().equals(projectId) && e.task().getTitle().equals("Title")));
     }
 
     @Test
-    void create_usesProvidedFields_andNextOrderWhenNoGreaterExists() {
+    void create_usesProvidedFields_andAppendsWithoutLookup() {
         String owner = "u1"; String projectId = "p1";
         when(projectRepo.findByIdAndOwnerId(projectId, owner))
                 .thenReturn(Optional.of(project(projectId, ProjectStatus.ACTIVE)));
-        when(taskRepo.findTopByProjectIdAndStatusOrderByOrderDesc(projectId, TaskStatus.IN_PROGRESS))
-                .thenReturn(task("tLast", projectId, TaskStatus.IN_PROGRESS, 300));
+        String before = TaskRank.next();
 
         var dto =  new TaskDto();
         dto.setTitle("X");
@@ -125,9 +208,10 @@ class TaskServiceTest {
 
         TaskResponse res = service.create(owner, projectId, dto);
 
-        assertThat(res.getOrder()).isEqualTo(400);
+        assertThat(res.getRank()).isGreaterThan(before);
         assertThat(res.getPriority()).isEqualTo(TaskPriority.HIGH);
         assertThat(res.getStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
+        verify(taskRepo, never()).findByProjectIdAndStatusOrderByRankAsc(any(), any());
     }
 
     @Test
@@ -141,17 +225,18 @@ class TaskServiceTest {
         assertThatThrownBy(() -> service.create(owner, projectId, dto))
                 .isInstanceOf(IllegalStateException.class)
                 .hasMessage("PROJECT_ARCHIVED_READ_ONLY");
+        verify(projectRepo, never()).incrementVersion(any(), any());
+        verifyNoInteractions(events);
     }
 
     @Test
-    void update_changesColumn_withoutOrder_appendsToEndOfTargetColumn() {
-        Task existing = task("t1", "p1", TaskStatus.TODO, 200);
+    void update_changesColumn_appendsToEndOfTargetColumn() {
+        Task existing = ranked("t1", TaskStatus.TODO, "0b");
         when(taskRepo.findById("t1")).thenReturn(Optional.of(existing));
 
         when(projectRepo.findByIdAndOwnerId("p1", "u1")).thenReturn(Optional.of(project("p1", ProjectStatus.ACTIVE)));
-        when(taskRepo.findTopByProjectIdAndStatusOrderByOrderDesc("p1", TaskStatus.DONE))
-                .thenReturn(task("last", "p1", TaskStatus.DONE, 700));
         when(taskRepo.save(any())).thenAnswer(i -> i.getArgument(0));
+        String lastInTarget = TaskRank.next();
 
         var dto = new TaskDto();
         dto.setStatus(TaskStatus.DONE); // move column, no explicit order
@@ -159,12 +244,16 @@ class TaskServiceTest {
         TaskResponse res = service.update("u1", "t1", dto);
 
         assertThat(res.getStatus()).isEqualTo(TaskStatus.DONE);
-        assertThat(res.getOrder()).isEqualTo(800);
+        assertThat(res.getRank()).isGreaterThan(lastInTarget);
+        assertThat(counterDeltas("p1")).isEqualTo(Map.of("taskCounts.TODO", -1L, "taskCounts.DONE", 1L));
+        verify(events).publish(argThat(e -> e.type() == ProjectEvent.Type.TASK_UPDATED
+                && e.taskId().equals("t1") && e.task().getStatus() == TaskStatus.DONE));
     }
 
     @Test
-    void update_sameColumn_noOrder_keepsOrder() {
-        Task existing = task("t1", "p1", TaskStatus.TODO, 200);
+    void update_sameColumn_keepsRankAndOrder() {
+        Task existing = ranked("t1", TaskStatus.TODO, "0b");
+        existing.setOrder(200);
         when(taskRepo.findById("t1")).thenReturn(Optional.of(existing));
         when(projectRepo.findByIdAndOwnerId("p1", "u1"))
                 .thenReturn(Optional.of(project("p1", ProjectStatus.ACTIVE)));
@@ -174,6 +263,7 @@ class TaskServiceTest {
 
         TaskResponse res = service.update("u1", "t1", dto);
 
+        assertThat(res.getRank()).isEqualTo("0b");
         assertThat(res.getOrder()).isEqualTo(200);
         assertThat(res.getStatus()).isEqualTo(TaskStatus.TODO);
     }
@@ -232,6 +322,163 @@ class TaskServiceTest {
                 .hasMessage("PROJECT_NOT_FOUND");
     }
 
+    @Test
+    void move_betweenNeighbours_writesOnlyMovedTask() {
+        Task moving = ranked("t1", TaskStatus.TODO, "0b");
+        Task above = ranked("a", TaskStatus.DONE, "0c");
+        Task below = ranked("b", TaskStatus.DONE, "0e");
+        when(taskRepo.findById("t1")).thenReturn(Optional.of(moving));
+        when(projectRepo.findByIdAndOwnerId("p1", "u1"))
+                .thenReturn(Optional.of(project("p1", ProjectStatus.ACTIVE)));
+        when(taskRepo.findAllById(List.of("a", "b"))).thenReturn(List.of(above, below));
+        when(taskRepo.save(any())).thenAnswer(i -> i.getArgument(0));
+
+        var dto = new MoveTaskDto();
+        dto.setStatus(TaskStatus.DONE);
+        dto.setAfterId("a");
+        dto.setBeforeId("b");
+
+        TaskResponse res = service.move("u1", "t1", dto);
+
+        assertThat(res.getStatus()).isEqualTo(TaskStatus.DONE);
+        assertThat(res.getRank()).isGreaterThan("0c").isLessThan("0e");
+        verify(taskRepo, times(1)).save(any());
+        assertThat(counterDeltas("p1")).isEqualTo(Map.of("taskCounts.TODO", -1L, "taskCounts.DONE", 1L));
+    }
+
+    @Test
+    void move_intoExhaustedGap_queuesColumnForRebalance() {
+        String lo = "0b" + "z".repeat(TaskRank.MAX_LENGTH - 2);
+        Task moving = ranked("t1", TaskStatus.TODO, "0m");
+        Task above = ranked("a", TaskStatus.TODO, lo);
+        Task below = ranked("b", TaskStatus.TODO, "0c");
+        when(taskRepo.findById("t1")).thenReturn(Optional.of(moving));
+        when(projectRepo.findByIdAndOwnerId("p1", "u1"))
+                .thenReturn(Optional.of(project("p1", ProjectStatus.ACTIVE)));
+        when(taskRepo.findAllById(List.of("a", "b"))).thenReturn(List.of(above, below));
+        when(taskRepo.save(any())).thenAnswer(i -> i.getArgument(0));
+
+        var dto = new MoveTaskDto();
+        dto.setAfterId("a");
+        dto.setBeforeId("b");
+        service.move("u1", "t1", dto);
+
+        ArgumentCaptor<Task> saved = ArgumentCaptor.forClass(Task.class);
+        verify(taskRepo).save(saved.capture());
+        assertThat(saved.getValue().getRank()).hasSizeGreaterThan(TaskRank.MAX_LENGTH);
+        assertThat(saved.getValue().getRankRebalance()).isTrue();
+    }
+
+    @Test
+    void move_toTop_ranksBeforeFirstCard() {
+        Task moving = ranked("t1", TaskStatus.TODO, "0m");
+        Task first = ranked("f", TaskStatus.TODO, "0b");
+        when(taskRepo.findById("t1")).thenReturn(Optional.of(moving));
+        when(projectRepo.findByIdAndOwnerId("p1", "u1"))
+                .thenReturn(Optional.of(project("p1", ProjectStatus.ACTIVE)));
+        when(taskRepo.findAllById(List.of("f"))).thenReturn(List.of(first));
+        when(taskRepo.save(any())).thenAnswer(i -> i.getArgument(0));
+
+        var dto = new MoveTaskDto();
+        dto.setBeforeId("f");
+
+        assertThat(service.move("u1", "t1", dto).getRank()).isLessThan("0b");
+    }
+
+    @Test
+    void move_rejectsNeighbourFromOtherColumn() {
+        Task moving = ranked("t1", TaskStatus.TODO, "0b");
+        Task other = ranked("x", TaskStatus.DONE, "0c");
+        when(taskRepo.findById("t1")).thenReturn(Optional.of(moving));
+        when(projectRepo.findByIdAndOwnerId("p1", "u1"))
+                .thenReturn(Optional.of(project("p1", ProjectStatus.ACTIVE)));
+        when(taskRepo.findAllById(List.of("x"))).thenReturn(List.of(other));
+
+        var dto = new MoveTaskDto();
+        dto.setAfterId("x");
+
+        assertThatThrownBy(() -> service.move("u1", "t1", dto))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("INVALID_MOVE");
+        verify(taskRepo, never()).save(any());
+    }
+
+    @Test
+    void move_fails_whenProjectArchived() {
+        when(taskRepo.findById("t1")).thenReturn(Optional.of(ranked("t1", TaskStatus.TODO, "0b")));
+        when(projectRepo.findByIdAndOwnerId("p1", "u1"))
+                .thenReturn(Optional.of(project("p1", ProjectStatus.ARCHIVED)));
+
+        assertThatThrownBy(() -> service.move("u1", "t1", new MoveTaskDto()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("PROJECT_ARCHIVED_READ_ONLY");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void reorder_appliesAllInOneBulk_andReportsPerItem() {
+        when(projectRepo.findByIdAndOwnerId("p1", "u1"))
+                .thenReturn(Optional.of(project("p1", ProjectStatus.ACTIVE)));
+        when(taskRepo.findInProject(eq("p1"), anyCollection())).thenReturn(Map.of(
+                "a", ranked("a", TaskStatus.TODO, "0b"),
+                "b", ranked("b", TaskStatus.DONE, "0c"),
+                "c", ranked("c", TaskStatus.TODO, "0d")));
+        when(taskRepo.applyPlacements(eq("p1"), anyList())).thenReturn(Map.of("c", "write failed"));
+
+        var dto = new ReorderTasksDto();
+        dto.setItems(List.of(
+                orderItem("b", TaskStatus.TODO, 2),
+                orderItem("a", TaskStatus.TODO, 1),
+                orderItem("x", TaskStatus.TODO, 3),
+                orderItem("a", TaskStatus.DONE, 4),
+                orderItem("c", TaskStatus.DONE, 1)));
+
+        var res = service.reorder("u1", "p1", dto);
+
+        assertThat(res).extracting(TaskOrderResult::getOutcome).containsExactly(
+                TaskOrderResult.Outcome.UPDATED,
+                TaskOrderResult.Outcome.UPDATED,
+                TaskOrderResult.Outcome.NOT_FOUND,
+                TaskOrderResult.Outcome.DUPLICATE,
+                TaskOrderResult.Outcome.FAILED);
+        assertThat(res.get(1).getRank()).isLessThan(res.get(0).getRank());
+
+        ArgumentCaptor<List<TaskPlacement>> placements = ArgumentCaptor.forClass(List.class);
+        verify(taskRepo, times(1)).applyPlacements(eq("p1"), placements.capture());
+        assertThat(placements.getValue()).extracting(TaskPlacement::taskId).containsExactly("b", "a", "c");
+        verify(projectRepo, times(1)).findByIdAndOwnerId("p1", "u1");
+        // b moved DONE -> TODO; a stayed in TODO and c failed, so neither counts
+        assertThat(counterDeltas("p1")).isEqualTo(Map.of("taskCounts.DONE", -1L, "taskCounts.TODO", 1L));
+    }
+
+    @Test
+    void reorder_rejectsColumnWithUnlistedCards() {
+        when(projectRepo.findByIdAndOwnerId("p1", "u1"))
+                .thenReturn(Optional.of(project("p1", ProjectStatus.ACTIVE)));
+        when(taskRepo.existsByProjectIdAndStatusInAndIdNotIn("p1", Set.of(TaskStatus.TODO), Set.of("a", "b")))
+                .thenReturn(true);
+        var dto = new ReorderTasksDto();
+        dto.setItems(List.of(orderItem("b", TaskStatus.TODO, 1), orderItem("a", TaskStatus.TODO, 2)));
+
+        assertThatThrownBy(() -> service.reorder("u1", "p1", dto))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("INCOMPLETE_COLUMN");
+        verify(taskRepo, never()).applyPlacements(any(), anyList());
+    }
+
+    @Test
+    void reorder_fails_whenProjectArchived() {
+        when(projectRepo.findByIdAndOwnerId("p1", "u1"))
+                .thenReturn(Optional.of(project("p1", ProjectStatus.ARCHIVED)));
+        var dto = new ReorderTasksDto();
+        dto.setItems(List.of(orderItem("a", TaskStatus.TODO, 1)));
+
+        assertThatThrownBy(() -> service.reorder("u1", "p1", dto))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("PROJECT_ARCHIVED_READ_ONLY");
+        verifyNoInteractions(taskRepo);
+    }
+
     @Test
     void deleteRemovesTask_whenOwned() {
         Task existing = task("t1", "p1", TaskStatus.TODO, 100);
@@ -242,6 +489,41 @@ class TaskServiceTest {
         service.delete("u1", "t1");
 
         verify(taskRepo).delete(existing);
+        assertThat(counterDeltas("p1")).isEqualTo(Map.of("taskCounts.TODO", -1L));
+        verify(events).publish(ProjectEvent.taskDeleted("p1", 0L, "t1"));
+    }
+
+    @Test
+    void boardVersion_readsVersionOnly() {
+        when(projectRepo.findVersion("p1", "u1")).thenReturn(Optional.of(7L));
+        when(projectRepo.findVersion("p1", "u2")).thenReturn(Optional.empty());
+
+        assertThat(service.boardVersion("u1", "p1")).isEqualTo(7L);
+        assertThatThrownBy(() -> service.boardVersion("u2", "p1"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("PROJECT_NOT_FOUND");
+        verifyNoInteractions(taskRepo);
+    }
+
+    @Test
+    void get_returnsFullTask_whenProjectOwned() {
+        when(taskRepo.findById("t1")).thenReturn(Optional.of(task("t1", "p1", TaskStatus.TODO, 100)));
+        when(projectRepo.findByIdAndOwnerId("p1", "u1")).thenReturn(Optional.of(project("p1", ProjectStatus.ARCHIVED)));
+
+        var res = service.get("u1", "t1");
+
+        assertThat(res.getId()).isEqualTo("t1");
+        assertThat(res.getDescription()).isEqualTo("Desc");
+    }
+
+    @Test
+    void get_throws_whenProjectNotOwned() {
+        when(taskRepo.findById("t1")).thenReturn(Optional.of(task("t1", "p1", TaskStatus.TODO, 100)));
+        when(projectRepo.findByIdAndOwnerId("p1", "u2")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.get("u2", "t1"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("PROJECT_NOT_FOUND");
     }
 
     @Test
@@ -261,4 +543,31 @@ class TaskServiceTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("PROJECT_NOT_FOUND");
     }
-}
\ No newline at end of file
+
+    @Test
+    void assigned_defaultsToOpenStatuses_hidesTasksOfDeletedProjects_andReturnsCursor() {
+        var kept = task("t1", "p1", TaskStatus.TODO, 0);
+        kept.setOwnerId("u1");
+        var orphan = task("t2", "gone", TaskStatus.TODO, 0);
+        orphan.setOwnerId("u1");
+        var last = task("t3", "p1", TaskStatus.IN_PROGRESS, 0);
+        last.setOwnerId("u1");
+        when(projectRepo.findByIdAndOwnerId("p1", "u1")).thenReturn(Optional.of(project("p1", ProjectStatus.ACTIVE)));
+        when(projectRepo.findByIdAndOwnerId("gone", "u1")).thenReturn(Optional.empty());
+        when(taskRepo.findAssigned("me", EnumSet.of(TaskStatus.TODO, TaskStatus.IN_PROGRESS), null, 3))
+                .thenReturn(List.of(kept, orphan, last));
+
+        var page = service.assigned("me", null, null, 2);
+
+        assertThat(page.getItems()).extracting(TaskResponse::getId).containsExactly("t1");
+        // Continues after the last row read, hidden or not
+        assertThat(AssignedCursor.decode(page.getNextCursor()).id()).isEqualTo("t2");
+    }
+
+    @Test
+    void assigned_rejectsMalformedCursor() {
+        assertThatThrownBy(() -> service.assigned("me", Set.of(TaskStatus.DONE), "not a cursor", 20))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("INVALID_CURSOR");
+    }
+}
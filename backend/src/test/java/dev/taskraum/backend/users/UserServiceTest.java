@@ -1,5 +1,6 @@
 package dev.taskraum.backend.users;
 
+import dev.taskraum.backend.security.HashingBusyException;
 import dev.taskraum.backend.users.dto.ChangePasswordDto;
 import dev.taskraum.backend.users.dto.UpdateProfileDto;
 import org.junit.jupiter.api.Test;
@@ -12,11 +13,13 @@ import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.Duration;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -59,6 +62,32 @@ class UserServiceTest {
         assertEquals("id1", dto.id());
     }
 
+    @Test
+    void authenticate_rehashesOutdatedHash_guardedByTheVerifiedHash() {
+        var user = User.builder().id("id1").email("a@b.com").passwordHash("OLD").build();
+        when(repo.findByEmail("a@b.com")).thenReturn(Optional.of(user));
+        when(encoder.matches("pass12345", "OLD")).thenReturn(true);
+        when(encoder.upgradeEncoding("OLD")).thenReturn(true);
+        when(encoder.encode("pass12345")).thenReturn("{bcrypt}NEW");
+
+        var dto = service.authenticate("a@b.com", "pass12345");
+
+        assertEquals("id1", dto.id());
+        verify(repo).replacePasswordHash("id1", "OLD", "{bcrypt}NEW");
+    }
+
+    @Test
+    void authenticate_succeedsWithoutRehash_whenHashingPoolBusy() {
+        var user = User.builder().id("id1").email("a@b.com").passwordHash("OLD").build();
+        when(repo.findByEmail("a@b.com")).thenReturn(Optional.of(user));
+        when(encoder.matches("pass12345", "OLD")).thenReturn(true);
+        when(encoder.upgradeEncoding("OLD")).thenReturn(true);
+        when(encoder.encode("pass12345")).thenThrow(new HashingBusyException(Duration.ofSeconds(1)));
+
+        assertEquals("id1", service.authenticate("a@b.com", "pass12345").id());
+        verify(repo, never()).replacePasswordHash(anyString(), anyString(), anyString());
+    }
+
     @Test
     void authenticate_throwsBadCredentials_whenPasswordWrong() {
         var user = User.builder().email("a@b.com").passwordHash("HASH").build();
@@ -11,7 +11,7 @@ import { useTheme } from "@mui/material/styles";
 import { DragDropContext, Droppable, Draggable, type DropResult } from "@hello-pangea/dnd";
 import type { ProjectDto, TaskDto, TaskStatus, TaskPriority } from "../../types/domain";
 import { listProjects } from "../projects/api";
-import { listTasksByProjectStatus, createTask, updateTask, deleteTask, moveTask } from "./api";
+import { listAllTasksByProject, getTask, createTask, updateTask, deleteTask, moveTask, subscribeBoard } from "./api";
 import ConfirmDialog from "../../components/common/ConfirmDialog";
 
 const COLUMNS: { key: TaskStatus; title: string }[] = [
@@ -61,8 +61,7 @@ export default function TasksPage() {
     const isMobile = useMediaQuery(theme.breakpoints.down("sm"));
 
     async function refreshTasks(pid: string) {
-        const parts = await Promise.all(COLUMNS.map((c) => listTasksByProjectStatus(pid, c.key)));
-        setTasks(parts.flat());
+        setTasks(await listAllTasksByProject(pid));
     }
 
     useEffect(() => {
@@ -76,6 +75,12 @@ export default function TasksPage() {
         })();
     }, []);
 
+    // Changes from other tabs/users arrive over SSE instead of polling
+    useEffect(() => {
+        if (!projectId) return;
+        return subscribeBoard(projectId, () => void refreshTasks(projectId));
+    }, [projectId]);
+
     const grouped = useMemo(() => {
         const g: Record<TaskStatus, TaskDto[]> = { TODO: [], IN_PROGRESS: [], DONE: [] };
         for (const t of tasks) g[t.status].push(t);
@@ -106,7 +111,8 @@ export default function TasksPage() {
         setPriority("MEDIUM");
         setDialogOpen(true);
     };
-    const openEdit = (t: TaskDto) => {
+    const openEdit = async (card: TaskDto) => {
+        const t = await getTask(card.id);
         setEditTask(t);
         setTitle(t.title);
         setDescription(t.description || "");
@@ -1,5 +1,5 @@
 import { api } from "../../api/client";
-import type { TaskDto, TaskStatus, TaskPriority } from "../../types/domain";
+import type { TaskCardDto, TaskDto, TaskStatus, TaskPriority } from "../../types/domain";
 
 export type CreateTaskPayload = {
     title: string;
@@ -20,10 +20,26 @@ export async function listTasksByProjectStatus(projectId: string, status: TaskSt
     return Array.isArray(data) ? data : [];
 }
 
+export type BoardDto = {
+    projectId: string;
+    columns: Partial<Record<TaskStatus, TaskCardDto[]>>;
+};
+
+export async function getBoard(projectId: string, statuses?: TaskStatus[]): Promise<BoardDto> {
+    const params = statuses?.length ? { status: statuses.join(",") } : undefined;
+    const { data } = await api.get(`/api/projects/${projectId}/board`, { params });
+    return data;
+}
+
+// Board cards carry no description; use getTask for the full task
 export async function listAllTasksByProject(projectId: string): Promise<TaskDto[]> {
-    const statuses: TaskStatus[] = ["TODO", "IN_PROGRESS", "DONE"];
-    const parts = await Promise.all(statuses.map(s => listTasksByProjectStatus(projectId, s)));
-    return parts.flat();
+    const board = await getBoard(projectId);
+    return Object.values(board.columns ?? {}).flat().map((c) => ({ ...c, projectId: board.projectId }));
+}
+
+export async function getTask(id: string): Promise<TaskDto> {
+    const { data } = await api.get(`/api/tasks/${id}`);
+    return data;
 }
 
 export async function createTask(projectId: string, payload: CreateTaskPayload): Promise<TaskDto> {
@@ -53,4 +69,11 @@ export async function moveTask(task: TaskDto, status: TaskStatus, order?: number
 
     const { data } = await api.put(`/api/tasks/${task.id}`, body);
     return data;
-}
\ No newline at end of file
+}
+// Board change feed (SSE). Any change reloads the board; returns a function that closes the stream.
+export function subscribeBoard(projectId: string, onChange: () => void): () => void {
+    const source = new EventSource(`/api/projects/${projectId}/events`, { withCredentials: true });
+    const types = ["TASK_CREATED", "TASK_UPDATED", "TASK_DELETED", "BOARD_CHANGED", "PROJECT_UPDATED", "RESYNC"];
+    types.forEach((t) => source.addEventListener(t, onChange));
+    return () => source.close();
+}
@@ -11,10 +11,12 @@ export type ProjectDto = {
 
 export type TaskDto = {
     id: ID; projectId: ID; title: string; description?: string | null;
-    status: TaskStatus; order?: number | null; priority?: TaskPriority | null;
+    status: TaskStatus; rank?: string | null; order?: number | null; priority?: TaskPriority | null;
     dueDate?: string | null; assigneeId?: ID | null; createdAt?: string; updatedAt?: string;
 };
 
+export type TaskCardDto = Pick<TaskDto, "id" | "title" | "status" | "rank" | "order" | "priority" | "dueDate" | "assigneeId">;
+
 export type UserDto = { id: ID; email: string; name: string; surname?: string | null; };
 
 export type Page<T> = { content: T[]; totalElements: number; totalPages: number; number: number; size: number };
\ No newline at end of file